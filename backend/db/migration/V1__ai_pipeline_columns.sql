@@ -0,0 +1,49 @@
+-- =====================================================================
+-- AI 파이프라인 변경에 따른 스키마 마이그레이션 (MariaDB)
+--
+-- 운영 프로필은 ddl-auto: validate 이므로 새 버전을 배포하기 전에 먼저 적용해야 한다.
+-- 컬럼 타입은 Hibernate(MariaDBDialect)가 엔티티 매핑으로 생성하는 DDL과 같게 맞췄다.
+-- =====================================================================
+
+-- ---------------------------------------------------------------------
+-- 1. 지연 평가 대기열 (answers)
+--    Answer.evaluationStatus / evaluationAttempts / evaluationAvailableAt
+--    기존 답변은 모두 즉시 평가된 답변이므로 상태 NULL, 시도 횟수 0
+-- ---------------------------------------------------------------------
+ALTER TABLE answers
+    ADD COLUMN evaluation_status       ENUM ('QUEUED', 'FAILED') NULL,
+    ADD COLUMN evaluation_attempts     INT         NOT NULL DEFAULT 0,
+    ADD COLUMN evaluation_available_at DATETIME(6) NULL;
+
+-- 평가 시도 가능한 답변 조회 (AnswerRepository.findDueEvaluationIds)
+CREATE INDEX idx_answers_evaluation_due ON answers (evaluation_status, evaluation_available_at);
+
+-- ---------------------------------------------------------------------
+-- 2. 면접 낙관적 락 (interviews)
+--    Interview.version (@Version) - 기존 면접은 0부터 시작
+-- ---------------------------------------------------------------------
+ALTER TABLE interviews
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- ---------------------------------------------------------------------
+-- 3. 누적 면접 요약 (interviews)
+--    Interview.rollingSummary / rollingSummaryOrder
+--    기존 면접은 요약 없음 (다음 답변부터 누적, 종합 평가는 전체 대화로 생성)
+-- ---------------------------------------------------------------------
+ALTER TABLE interviews
+    ADD COLUMN rolling_summary       TEXT NULL,
+    ADD COLUMN rolling_summary_order INT  NULL;
+
+-- ---------------------------------------------------------------------
+-- 4. 중복 제출 방지 제약 (validate는 제약 조건을 검사하지 않지만 중복 답변/질문 방지가 이 제약에 의존)
+--    적용 전 중복 행이 있으면 실패하므로 아래 조회 결과가 비어 있는지 먼저 확인한다.
+--
+--    SELECT question_id, COUNT(*) FROM answers GROUP BY question_id HAVING COUNT(*) > 1;
+--    SELECT interview_id, order_number, COUNT(*) FROM questions
+--        GROUP BY interview_id, order_number HAVING COUNT(*) > 1;
+-- ---------------------------------------------------------------------
+ALTER TABLE answers
+    ADD CONSTRAINT uk_answers_question UNIQUE (question_id);
+
+ALTER TABLE questions
+    ADD CONSTRAINT uk_questions_interview_order UNIQUE (interview_id, order_number);
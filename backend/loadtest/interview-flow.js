@@ -0,0 +1,86 @@
+// 면접 흐름 부하 테스트 (k6): 시작 → 답변 N회 → 종료
+//
+// 플랫폼 스레드 / 가상 스레드 비교 (모델 호출은 StubAiService로 대체되어 지연만 재현)
+//   1) ./gradlew bootRun --args='--spring.profiles.active=local,loadtest'
+//      ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,loadtest,virtual-threads'
+//   2) k6 run -e TOKENS=<액세스 토큰1,토큰2,...> -e VUS=1000 loadtest/interview-flow.js
+//   3) 두 실행의 http_req_duration(p95/p99), interview_flow_duration, 오류율과
+//      /actuator/prometheus의 jvm_threads_live_threads, ai_scheduler_waiting 을 비교
+//   리액티브 엔드포인트(/api/reactive/interviews)는 -e REACTIVE=true 로 같은 흐름을 실행
+//
+// 무료 회원은 하루 면접 횟수 제한이 있으므로 PREMIUM 계정의 토큰을 사용한다.
+// 스케줄러 max-concurrency가 모델 동시 호출 수를 제한하므로, 스레드 모드의 차이는
+// 같은 max-concurrency에서 대기 중인 요청을 얼마나 적은 자원으로 붙잡고 있는지로 나타난다.
+
+import http from 'k6/http';
+import { check, fail } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKENS = (__ENV.TOKENS || '').split(',').filter((token) => token.length > 0);
+const QUESTIONS = Number(__ENV.QUESTIONS || 3);
+const API = __ENV.REACTIVE === 'true' ? '/api/reactive/interviews' : '/api/interviews';
+
+const flowDuration = new Trend('interview_flow_duration', true);
+
+export const options = {
+  scenarios: {
+    interview: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '1m', target: Number(__ENV.VUS || 500) },
+        { duration: '3m', target: Number(__ENV.VUS || 500) },
+        { duration: '30s', target: 0 },
+      ],
+      gracefulRampDown: '2m',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+export function setup() {
+  if (TOKENS.length === 0) {
+    fail('TOKENS 환경 변수에 액세스 토큰을 지정하세요');
+  }
+}
+
+export default function () {
+  const headers = {
+    'Content-Type': 'application/json',
+    Authorization: `Bearer ${TOKENS[(__VU - 1) % TOKENS.length]}`,
+  };
+  const startedAt = Date.now();
+
+  const start = http.post(`${BASE_URL}${API}`, JSON.stringify({
+    type: 'BACKEND',
+    difficulty: 'JUNIOR',
+    questionLimit: QUESTIONS,
+    followUpEnabled: false,
+  }), { headers, tags: { name: 'start' } });
+  if (!check(start, { 'start 200': (r) => r.status === 200 })) {
+    return;
+  }
+
+  const interviewId = start.json('data.interviewId');
+  let question = start.json('data.firstQuestion');
+
+  for (let i = 0; i < QUESTIONS && question; i++) {
+    const answer = http.post(`${BASE_URL}${API}/${interviewId}/answers`, JSON.stringify({
+      questionId: question.id,
+      content: `부하 테스트 답변 ${i + 1}: 트랜잭션 격리 수준과 인덱스 설계에 대해 설명합니다.`,
+      answerTimeSeconds: 30,
+    }), { headers, tags: { name: 'answer' } });
+    if (!check(answer, { 'answer 200': (r) => r.status === 200 })) {
+      return;
+    }
+    question = answer.json('data.nextQuestion');
+  }
+
+  const end = http.post(`${BASE_URL}${API}/${interviewId}/end`, null, { headers, tags: { name: 'end' } });
+  check(end, { 'end 200': (r) => r.status === 200 });
+
+  flowDuration.add(Date.now() - startedAt);
+}
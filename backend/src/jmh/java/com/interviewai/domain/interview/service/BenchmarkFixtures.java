@@ -0,0 +1,86 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.List;
+
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewDifficulty;
+import com.interviewai.domain.interview.entity.InterviewType;
+import com.interviewai.domain.interview.entity.Question;
+
+/**
+ * 벤치마크 입력 데이터 (실제 Gemini 응답 형태의 한국어 텍스트)
+ */
+final class BenchmarkFixtures {
+
+    static final List<String> CATEGORIES = EvaluationCategories.forType(InterviewType.BACKEND);
+
+    private static final String FEEDBACK_ITEM =
+            "1. **트랜잭션 격리 수준**에 대한 설명은 정확했지만, `REPEATABLE READ`에서 발생할 수 있는 "
+            + "팬텀 리드에 대한 언급이 부족했습니다.\n"
+            + "   - MySQL InnoDB는 갭 락으로 이를 방지한다는 점을 함께 설명하면 좋습니다.\n";
+
+    private static final String MODEL_ANSWER_ITEM =
+            "1. 격리 수준은 `READ UNCOMMITTED`, `READ COMMITTED`, `REPEATABLE READ`, `SERIALIZABLE` 네 가지가 있습니다.\n"
+            + "2. 수준이 높을수록 **동시성은 낮아지고** 정합성은 높아집니다.\n";
+
+    private static final String SUMMARY_ITEM =
+            "1. **강점**: 데이터베이스 기본 개념과 `JPA` 동작 원리를 정확히 이해하고 있습니다.\n"
+            + "2. **개선점**: 장애 상황에서의 트러블슈팅 경험을 구체적인 수치와 함께 설명하면 좋겠습니다.\n"
+            + "   - 예: 응답 시간, 에러율, 원인 분석 과정\n";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 피드백/모범답안 항목을 repeat 번 반복한 평가 응답
+     */
+    static String evaluationResponse(int repeat) {
+        return "점수: 7\n"
+                + "피드백: " + FEEDBACK_ITEM.repeat(repeat)
+                + "모범답안: " + MODEL_ANSWER_ITEM.repeat(repeat);
+    }
+
+    /**
+     * 종합 평가 항목을 repeat 번 반복한 종합 평가 응답
+     */
+    static String summaryResponse(int repeat) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 종합 평가 ===\n").append(SUMMARY_ITEM.repeat(repeat)).append('\n');
+        sb.append("=== 전체 점수 ===\n7\n\n");
+        sb.append("=== 카테고리별 점수 ===\n");
+        for (String category : CATEGORIES) {
+            sb.append(category).append(": 7\n");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 질문 수만큼 답변이 채워진 면접 (엔티티 ID 없이 메모리에서만 구성)
+     */
+    static Interview interview(int questionCount) {
+        Interview interview = Interview.builder()
+                .type(InterviewType.BACKEND)
+                .difficulty(InterviewDifficulty.JUNIOR)
+                .questionLimit(questionCount)
+                .build();
+
+        for (int i = 1; i <= questionCount; i++) {
+            Question question = Question.builder()
+                    .interview(interview)
+                    .content("데이터베이스 트랜잭션 격리 수준의 종류와 각각에서 발생할 수 있는 문제를 설명해주세요. (" + i + ")")
+                    .orderNumber(i)
+                    .category(interview.getTypeDisplayName())
+                    .build();
+            Answer answer = Answer.builder()
+                    .question(question)
+                    .content(MODEL_ANSWER_ITEM.repeat(3))
+                    .answerTimeSeconds(90)
+                    .build();
+            answer.evaluate(7, FEEDBACK_ITEM, MODEL_ANSWER_ITEM);
+            question.setAnswer(answer);
+            interview.addQuestion(question);
+        }
+        return interview;
+    }
+}
@@ -0,0 +1,98 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewType;
+
+/**
+ * 비교 기준용 기존 시스템 프롬프트 구성 (요청마다 문자열을 새로 만들던 GeminiService 구현 그대로)
+ */
+final class LegacyPromptBuilder {
+
+    private LegacyPromptBuilder() {
+    }
+
+    /**
+     * 질문 생성을 위한 시스템 프롬프트 구성
+     */
+    static String buildQuestionSystemPrompt(Interview interview) {
+        return String.format(
+                "당신은 %s 분야의 기술 면접관입니다.\n" +
+                "대상: %s 수준 (%s 경력)\n\n" +
+                "규칙:\n" +
+                "1. 질문은 한국어로 작성\n" +
+                "2. 한 번에 하나의 질문만 생성\n" +
+                "3. 실무에서 중요한 개념을 질문\n" +
+                "4. 난이도에 맞는 깊이로 질문",
+                interview.getType().getDescription(),
+                interview.getDifficulty().getLabel(),
+                interview.getDifficulty().getExperience()
+        );
+    }
+
+    /**
+     * 답변 평가를 위한 시스템 프롬프트 구성
+     */
+    static String buildEvaluationSystemPrompt() {
+        return "당신은 한국 테크 기업의 기술 면접 평가자입니다.\n\n" +
+                "답변을 평가하고 반드시 아래 형식으로만 응답하세요:\n\n" +
+                "점수: [1-10 사이 정수]\n" +
+                "피드백: [답변의 좋은 점과 부족한 점을 구체적으로 설명]\n" +
+                "모범답안: [이 질문에 대한 이상적인 답변 예시]\n\n" +
+                "점수 기준:\n" +
+                "- 1-3점: 핵심 개념 이해 부족\n" +
+                "- 4-6점: 기본 개념 이해, 세부사항 부족\n" +
+                "- 7-8점: 개념 이해 충분, 실무 적용 가능\n" +
+                "- 9-10점: 깊은 이해 또는 실무 경험 반영\n\n" +
+                "작성 형식 규칙:\n" +
+                "- 피드백과 모범답안은 마크다운 형식으로 작성\n" +
+                "- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n" +
+                "- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n" +
+                "- 중요한 키워드는 **볼드**로 강조\n" +
+                "- 코드나 기술 용어는 `백틱`으로 감싸기";
+    }
+
+    /**
+     * 종합 평가를 위한 시스템 프롬프트 구성
+     */
+    static String buildSummarySystemPrompt(List<String> categories) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("당신은 기술 면접 종합 평가자입니다.\n\n");
+        sb.append("면접 내용을 분석하고 반드시 아래 형식으로만 응답하세요:\n\n");
+        sb.append("=== 종합 평가 ===\n");
+        sb.append("[면접 전체에 대한 종합적인 평가를 작성. 강점, 약점, 개선점, 학습 추천 포함]\n\n");
+        sb.append("=== 전체 점수 ===\n");
+        sb.append("[1-10 사이 정수]\n\n");
+        sb.append("=== 카테고리별 점수 ===\n");
+
+        for (String category : categories) {
+            sb.append(String.format("%s: [1-10 사이 정수]\n", category));
+        }
+
+        sb.append("\n점수 기준:\n");
+        sb.append("- 1-3점: 기초 부족\n");
+        sb.append("- 4-6점: 기본 이해\n");
+        sb.append("- 7-8점: 충분한 역량\n");
+        sb.append("- 9-10점: 우수한 역량\n\n");
+        sb.append("작성 형식 규칙:\n");
+        sb.append("- 종합 평가는 마크다운 형식으로 작성\n");
+        sb.append("- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n");
+        sb.append("- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n");
+        sb.append("- 중요한 키워드는 **볼드**로 강조\n");
+        sb.append("- 코드나 기술 용어는 `백틱`으로 감싸기");
+
+        return sb.toString();
+    }
+
+    /**
+     * 기존 카테고리 조회 (호출마다 새 목록 생성)
+     */
+    static List<String> categoriesForType(InterviewType type) {
+        return switch (type) {
+            case BACKEND -> Arrays.asList("기본 지식", "설계/아키텍처", "데이터베이스", "문제 해결", "커뮤니케이션");
+            default -> Arrays.asList("기본 지식", "실무 역량", "문제 해결", "도구/기술", "커뮤니케이션");
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.domain.interview.service.PromptTemplateRegistry.Kind;
+import com.interviewai.global.config.PromptTemplateProperties;
+import com.interviewai.global.config.SummaryBudgetProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * GeminiService 프롬프트 구성 비용 (모델 호출 없음)
+ * questions: 종합 평가 프롬프트에 들어가는 질문/답변 수
+ * legacy*: 요청마다 시스템 프롬프트를 새로 만들던 기존 구현 (-prof gc의 gc.alloc.rate.norm으로 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PromptBuildBenchmark {
+
+    @Param({"5", "10", "20"})
+    private int questions;
+
+    private PromptTemplateRegistry promptTemplates;
+    private GeminiService geminiService;
+    private Interview interview;
+    private Question lastQuestion;
+
+    @Setup
+    public void setUp() {
+        // 프롬프트 구성만 측정하므로 ChatClient/프롬프트 캐시/모델 라우터 없이 생성 (종합 평가 예산은 기본 설정값)
+        promptTemplates = new PromptTemplateRegistry(new PromptTemplateProperties("", 0));
+        geminiService = new GeminiService(null, new AiTokenUsageTracker(),
+                new AiMetrics(new SimpleMeterRegistry()), new SummaryBudgetProperties(6000, 300), promptTemplates,
+                null, null);
+        interview = BenchmarkFixtures.interview(questions);
+        lastQuestion = interview.getQuestions().get(questions - 1);
+    }
+
+    @Benchmark
+    public String questionPrompts() {
+        return promptTemplates.get(Kind.QUESTION_SYSTEM, interview)
+                + geminiService.buildFollowUpQuestionUserPrompt(interview, lastQuestion.getAnswer());
+    }
+
+    @Benchmark
+    public String evaluationPrompts() {
+        return promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null)
+                + geminiService.buildEvaluationUserPrompt(lastQuestion, lastQuestion.getAnswer());
+    }
+
+    @Benchmark
+    public String summaryPrompts() {
+        return promptTemplates.get(Kind.SUMMARY_SYSTEM, interview)
+                + geminiService.buildSummaryUserPrompt(interview, BenchmarkFixtures.CATEGORIES);
+    }
+
+    @Benchmark
+    public String questionSystemPrompt() {
+        return promptTemplates.get(Kind.QUESTION_SYSTEM, interview);
+    }
+
+    @Benchmark
+    public String legacyQuestionSystemPrompt() {
+        return LegacyPromptBuilder.buildQuestionSystemPrompt(interview);
+    }
+
+    @Benchmark
+    public String summarySystemPrompt() {
+        return promptTemplates.get(Kind.SUMMARY_SYSTEM, interview);
+    }
+
+    @Benchmark
+    public String legacySummarySystemPrompt() {
+        return LegacyPromptBuilder.buildSummarySystemPrompt(
+                LegacyPromptBuilder.categoriesForType(interview.getType()));
+    }
+}
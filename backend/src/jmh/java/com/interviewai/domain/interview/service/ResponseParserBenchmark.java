@@ -0,0 +1,67 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+/**
+ * 평가/종합 평가 응답 파싱: 기존 줄 단위 파서 vs AiResponseParser
+ * size: 피드백/모범답안/종합 평가 항목 반복 횟수 (응답 길이)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseParserBenchmark {
+
+    @Param({"1", "5", "20"})
+    private int size;
+
+    private String evaluationResponse;
+    private String summaryResponse;
+
+    @Setup
+    public void setUp() {
+        evaluationResponse = BenchmarkFixtures.evaluationResponse(size);
+        summaryResponse = BenchmarkFixtures.summaryResponse(size);
+    }
+
+    @Benchmark
+    public EvaluationResult evaluationLegacy() {
+        return LegacyResponseParser.parseEvaluation(evaluationResponse);
+    }
+
+    @Benchmark
+    public EvaluationResult evaluationSinglePass() {
+        return AiResponseParser.parseEvaluation(evaluationResponse);
+    }
+
+    @Benchmark
+    public SummaryResult summaryLegacy() {
+        return LegacyResponseParser.parseSummary(summaryResponse, BenchmarkFixtures.CATEGORIES);
+    }
+
+    @Benchmark
+    public SummaryResult summarySinglePass() {
+        return AiResponseParser.parseSummary(summaryResponse, BenchmarkFixtures.CATEGORIES);
+    }
+
+    @Benchmark
+    public int extractScoreLegacy() {
+        return LegacyResponseParser.extractScore("점수: 7");
+    }
+
+    @Benchmark
+    public int extractScoreSinglePass() {
+        return AiResponseParser.extractScore("점수: 7", 0, 5);
+    }
+}
@@ -0,0 +1,55 @@
+package com.interviewai.domain.interview.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interviewai.domain.interview.dto.RescoringJobResponse;
+import com.interviewai.domain.interview.dto.RescoringStartRequest;
+import com.interviewai.domain.interview.service.AnswerRescoringJobService;
+import com.interviewai.global.common.ApiResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 답변 일괄 재채점 작업 (interview.ai.rescoring.admin-emails에 등록된 관리자만)
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/rescoring")
+public class AdminRescoringController {
+
+    private final AnswerRescoringJobService answerRescoringJobService;
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping
+    public ApiResponse<RescoringJobResponse> start(@AuthenticationPrincipal UserDetails userDetails, @RequestBody RescoringStartRequest request) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(answerRescoringJobService.start(email, request));
+    }
+
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/resume")
+    public ApiResponse<RescoringJobResponse> resume(@AuthenticationPrincipal UserDetails userDetails) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(answerRescoringJobService.resume(email));
+    }
+
+    @PostMapping("/stop")
+    public ApiResponse<RescoringJobResponse> stop(@AuthenticationPrincipal UserDetails userDetails) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(answerRescoringJobService.stop(email));
+    }
+
+    @GetMapping
+    public ApiResponse<RescoringJobResponse> getJob(@AuthenticationPrincipal UserDetails userDetails) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(answerRescoringJobService.getJob(email));
+    }
+}
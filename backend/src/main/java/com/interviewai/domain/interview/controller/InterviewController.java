@@ -6,11 +6,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
 import com.interviewai.domain.interview.dto.AnswerSubmitResponse;
 import com.interviewai.domain.interview.dto.InterviewDetailResponse;
+import com.interviewai.domain.interview.dto.InterviewEndJobResponse;
 import com.interviewai.domain.interview.dto.InterviewEndResponse;
 import com.interviewai.domain.interview.dto.InterviewListResponse;
 import com.interviewai.domain.interview.dto.InterviewResumeResponse;
 import com.interviewai.domain.interview.dto.InterviewStartRequest;
 import com.interviewai.domain.interview.dto.InterviewStartResponse;
+import com.interviewai.domain.interview.service.AnswerSubmissionCoalescer;
+import com.interviewai.domain.interview.service.InterviewEndJobService;
 import com.interviewai.domain.interview.service.InterviewService;
 import com.interviewai.global.common.ApiResponse;
 
@@ -21,12 +24,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 
 
@@ -36,6 +43,8 @@ import org.springframework.web.bind.annotation.GetMapping;
 public class InterviewController {
     
     private final InterviewService interviewService;
+    private final InterviewEndJobService interviewEndJobService;
+    private final AnswerSubmissionCoalescer answerSubmissionCoalescer;
 
     @PostMapping
     public ApiResponse<InterviewStartResponse> startInterview(@AuthenticationPrincipal UserDetails userdetails, @RequestBody @Valid InterviewStartRequest request) {
@@ -44,9 +53,16 @@ public class InterviewController {
     }
 
     @PostMapping("/{id}/answers")
-    public ApiResponse<AnswerSubmitResponse> submitAnswer(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @RequestBody @Valid AnswerSubmitRequest request) {
+    public ApiResponse<AnswerSubmitResponse> submitAnswer(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @RequestBody @Valid AnswerSubmitRequest request,
+                                                          @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         String email = userDetails.getUsername();
-        return ApiResponse.success(interviewService.submitAnswer(email, id, request));
+        return ApiResponse.success(answerSubmissionCoalescer.submit(email, id, request, idempotencyKey));
+    }
+
+    @PostMapping("/{id}/answers/stream")
+    public SseEmitter submitAnswerStream(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @RequestBody @Valid AnswerSubmitRequest request) {
+        String email = userDetails.getUsername();
+        return interviewService.submitAnswerStream(email, id, request);
     }
 
     @PostMapping("/{id}/end")
@@ -55,6 +71,19 @@ public class InterviewController {
         return ApiResponse.success(interviewService.endInterview(email, id));
     }
 
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping(value = "/{id}/end", params = "async=true")
+    public ApiResponse<InterviewEndJobResponse> endInterviewAsync(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(interviewEndJobService.submit(email, id));
+    }
+
+    @GetMapping("/{id}/end/jobs/{jobId}")
+    public ApiResponse<InterviewEndJobResponse> getEndJob(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @PathVariable("jobId") String jobId) {
+        String email = userDetails.getUsername();
+        return ApiResponse.success(interviewEndJobService.getJob(email, id, jobId));
+    }
+
     @GetMapping
     public ApiResponse<Page<InterviewListResponse>> getInterviewList(@AuthenticationPrincipal UserDetails userDetails, @PageableDefault(size = 10, sort = "id", direction = Direction.DESC) Pageable pageable) {
         String email = userDetails.getUsername();
@@ -0,0 +1,64 @@
+package com.interviewai.domain.interview.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
+import com.interviewai.domain.interview.dto.AnswerSubmitResponse;
+import com.interviewai.domain.interview.dto.InterviewEndResponse;
+import com.interviewai.domain.interview.dto.InterviewStartRequest;
+import com.interviewai.domain.interview.dto.InterviewStartResponse;
+import com.interviewai.domain.interview.service.AnswerSubmissionCoalescer;
+import com.interviewai.domain.interview.service.ReactiveInterviewService;
+import com.interviewai.global.common.ApiResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브 면접 API (요청/응답 형식은 /api/interviews와 동일)
+ * 모델 응답을 기다리는 동안 요청 스레드를 반환하므로 동시 면접 수가 Tomcat 스레드 수에 묶이지 않는다.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/reactive/interviews")
+public class ReactiveInterviewController {
+
+    private final ReactiveInterviewService reactiveInterviewService;
+    private final AnswerSubmissionCoalescer answerSubmissionCoalescer;
+
+    @PostMapping
+    public Mono<ApiResponse<InterviewStartResponse>> startInterview(@AuthenticationPrincipal UserDetails userDetails, @RequestBody @Valid InterviewStartRequest request) {
+        String email = userDetails.getUsername();
+        return reactiveInterviewService.startInterview(email, request).map(ApiResponse::success);
+    }
+
+    @PostMapping("/{id}/answers")
+    public Mono<ApiResponse<AnswerSubmitResponse>> submitAnswer(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @RequestBody @Valid AnswerSubmitRequest request,
+                                                                @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        String email = userDetails.getUsername();
+        return answerSubmissionCoalescer.submitReactive(email, id, request, idempotencyKey).map(ApiResponse::success);
+    }
+
+    @PostMapping(value = "/{id}/answers/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> submitAnswerStream(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id, @RequestBody @Valid AnswerSubmitRequest request) {
+        String email = userDetails.getUsername();
+        return reactiveInterviewService.submitAnswerStream(email, id, request);
+    }
+
+    @PostMapping("/{id}/end")
+    public Mono<ApiResponse<InterviewEndResponse>> endInterview(@AuthenticationPrincipal UserDetails userDetails, @PathVariable("id") Long id) {
+        String email = userDetails.getUsername();
+        return reactiveInterviewService.endInterview(email, id).map(ApiResponse::success);
+    }
+}
@@ -1,16 +1,30 @@
 package com.interviewai.domain.interview.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class EvaluationResult {
 
     private int score;
     private String feedback;
     private String modelAnswer;
 
+    /** 평가를 지연 평가 대기열로 넘긴 경우 true (점수 없음, 나중에 면접 상세에 반영) */
+    private boolean deferred;
+
+    /** 응답 형식을 해석하지 못해 원본 응답을 피드백으로 사용한 경우 true (0점, 캐시하지 않음) */
+    @JsonIgnore
+    private boolean parseFallback;
+
     public static EvaluationResult of(int score, String feedback, String modelAnswer) {
         return EvaluationResult.builder()
                 .score(score)
@@ -18,4 +32,23 @@ public class EvaluationResult {
                 .modelAnswer(modelAnswer)
                 .build();
     }
+
+    /**
+     * 파싱 실패 시 원본 응답을 피드백으로 담은 결과
+     */
+    public static EvaluationResult parseFallback(int score, String rawResponse) {
+        return EvaluationResult.builder()
+                .score(score)
+                .feedback(rawResponse)
+                .modelAnswer("")
+                .parseFallback(true)
+                .build();
+    }
+
+    public static EvaluationResult deferred() {
+        return EvaluationResult.builder()
+                .feedback("평가가 진행 중입니다. 잠시 후 면접 상세에서 확인할 수 있습니다.")
+                .deferred(true)
+                .build();
+    }
 }
@@ -67,6 +67,7 @@ public class InterviewDetailResponse {
         private String feedback;
         private String modelAnswer;
         private Integer answerTimeSeconds;
+        private EvaluationStatus evaluationStatus;
 
         public static AnswerResponse from(Answer answer) {
             return AnswerResponse.builder()
@@ -76,6 +77,7 @@ public class InterviewDetailResponse {
                     .feedback(answer.getFeedback())
                     .modelAnswer(answer.getModelAnswer())
                     .answerTimeSeconds(answer.getAnswerTimeSeconds())
+                    .evaluationStatus(answer.getEvaluationStatus())
                     .build();
         }
     }
@@ -0,0 +1,62 @@
+package com.interviewai.domain.interview.dto;
+
+import com.interviewai.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 면접 종료 작업 상태 DTO
+ * COMPLETED 이면 result에 기존 동기 종료와 같은 응답이 담긴다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class InterviewEndJobResponse {
+
+    private String jobId;
+    private Long interviewId;
+    private Status status;
+    private InterviewEndResponse result;
+    private String errorCode;
+    private String errorMessage;
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static InterviewEndJobResponse pending(String jobId, Long interviewId) {
+        return InterviewEndJobResponse.builder()
+                .jobId(jobId)
+                .interviewId(interviewId)
+                .status(Status.PENDING)
+                .build();
+    }
+
+    public InterviewEndJobResponse running() {
+        return toBuilder()
+                .status(Status.RUNNING)
+                .build();
+    }
+
+    public InterviewEndJobResponse completed(InterviewEndResponse result) {
+        return toBuilder()
+                .status(Status.COMPLETED)
+                .result(result)
+                .build();
+    }
+
+    public InterviewEndJobResponse failed(ErrorCode errorCode, String errorMessage) {
+        return toBuilder()
+                .status(Status.FAILED)
+                .errorCode(errorCode.name())
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
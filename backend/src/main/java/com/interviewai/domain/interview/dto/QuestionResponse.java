@@ -1,11 +1,16 @@
 package com.interviewai.domain.interview.dto;
 
 import com.interviewai.domain.interview.entity.Question;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class QuestionResponse {
 
     private Long id;
@@ -0,0 +1,107 @@
+package com.interviewai.domain.interview.dto;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import com.interviewai.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 답변 일괄 재채점 작업 상태 DTO (체크포인트로도 저장)
+ * lastAnswerId까지 처리했으며, 재개하면 그 다음 답변부터 이어서 처리한다.
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RescoringJobResponse {
+
+    private String jobId;
+    private Status status;
+    private LocalDateTime staleBefore;
+    private Long lastAnswerId;
+    private long scanned;
+    private long rescored;
+    private long failed;
+    private long batches;
+    private long activeMillis;
+    private double answersPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private String errorCode;
+    private String errorMessage;
+
+    public enum Status {
+        RUNNING,
+        PAUSED,
+        COMPLETED,
+        FAILED
+    }
+
+    public static RescoringJobResponse create(String jobId, LocalDateTime staleBefore) {
+        LocalDateTime now = LocalDateTime.now();
+        return RescoringJobResponse.builder()
+                .jobId(jobId)
+                .status(Status.PAUSED)
+                .staleBefore(staleBefore)
+                .lastAnswerId(0L)
+                .startedAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    public RescoringJobResponse running() {
+        return withStatus(Status.RUNNING);
+    }
+
+    public RescoringJobResponse paused() {
+        return withStatus(Status.PAUSED);
+    }
+
+    public RescoringJobResponse completed() {
+        return withStatus(Status.COMPLETED);
+    }
+
+    public RescoringJobResponse failed(ErrorCode errorCode, String errorMessage) {
+        return toBuilder()
+                .status(Status.FAILED)
+                .errorCode(errorCode.name())
+                .errorMessage(errorMessage)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 배치 1개 처리 반영
+     *
+     * @param lastAnswerId 배치의 마지막 답변 ID (체크포인트)
+     * @param nanos        모델 호출 + 결과 반영 소요 시간
+     */
+    public RescoringJobResponse advance(Long lastAnswerId, int scanned, int rescored, int failed, long nanos) {
+        long totalScanned = this.scanned + scanned;
+        long totalMillis = activeMillis + TimeUnit.NANOSECONDS.toMillis(nanos);
+        return toBuilder()
+                .lastAnswerId(lastAnswerId)
+                .scanned(totalScanned)
+                .rescored(this.rescored + rescored)
+                .failed(this.failed + failed)
+                .batches(batches + 1)
+                .activeMillis(totalMillis)
+                .answersPerSecond(totalMillis > 0 ? totalScanned * 1000.0 / totalMillis : 0)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private RescoringJobResponse withStatus(Status status) {
+        return toBuilder()
+                .status(status)
+                .errorCode(null)
+                .errorMessage(null)
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
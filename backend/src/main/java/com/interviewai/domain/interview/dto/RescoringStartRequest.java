@@ -0,0 +1,14 @@
+package com.interviewai.domain.interview.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RescoringStartRequest {
+
+    /** 이 시각 이전에 평가된 답변도 다시 평가 (평가 기준 변경 시각, 비우면 평가되지 않은 답변만) */
+    private LocalDateTime staleBefore;
+}
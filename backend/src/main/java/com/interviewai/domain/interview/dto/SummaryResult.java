@@ -2,8 +2,11 @@ package com.interviewai.domain.interview.dto;
 
 import java.util.Map;
 
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 면접 종합 평가 결과 DTO
@@ -11,6 +14,8 @@ import lombok.Getter;
  */
 @Getter
 @Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class SummaryResult {
 
     /** 종합 평가 텍스트 */
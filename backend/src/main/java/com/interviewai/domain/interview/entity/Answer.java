@@ -7,6 +7,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "answers")
 @Getter
@@ -18,7 +20,7 @@ public class Answer extends BaseTimeEntity {
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "question_id", nullable = false)
+    @JoinColumn(name = "question_id", nullable = false, unique = true)
     private Question question;
 
     @Column(nullable = false, columnDefinition = "TEXT")
@@ -36,6 +38,19 @@ public class Answer extends BaseTimeEntity {
     @Column(name = "answer_time_seconds")
     private Integer answerTimeSeconds;
 
+    /** 지연 평가 상태 (즉시 평가되었거나 평가가 끝난 답변은 null) */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "evaluation_status", length = 20)
+    private EvaluationStatus evaluationStatus;
+
+    /** 지연 평가 시도 횟수 */
+    @Column(name = "evaluation_attempts", nullable = false)
+    private int evaluationAttempts;
+
+    /** 지연 평가를 (다시) 시도할 수 있는 시각 (평가 중에는 선점 만료 시각) */
+    @Column(name = "evaluation_available_at")
+    private LocalDateTime evaluationAvailableAt;
+
     @Builder
     public Answer(Question question, String content, Integer answerTimeSeconds) {
         this.question = question;
@@ -47,9 +62,42 @@ public class Answer extends BaseTimeEntity {
         this.score = score;
         this.feedback = feedback;
         this.modelAnswer = modelAnswer;
+        this.evaluationStatus = null;
+        this.evaluationAvailableAt = null;
     }
 
     public boolean isEvaluated() {
         return this.score != null;
     }
+
+    /**
+     * 지연 평가 대기열에 등록
+     */
+    public void queueEvaluation(LocalDateTime availableAt) {
+        this.evaluationStatus = EvaluationStatus.QUEUED;
+        this.evaluationAvailableAt = availableAt;
+    }
+
+    /**
+     * 지연 평가 실패 처리 (최대 시도 횟수 도달 시 FAILED로 대기열에서 제외)
+     */
+    public void retryEvaluation(LocalDateTime retryAt, int maxAttempts) {
+        if (this.evaluationAttempts >= maxAttempts) {
+            this.evaluationStatus = EvaluationStatus.FAILED;
+            this.evaluationAvailableAt = null;
+            return;
+        }
+        this.evaluationAvailableAt = retryAt;
+    }
+
+    public boolean isEvaluationPending() {
+        return this.evaluationStatus == EvaluationStatus.QUEUED;
+    }
+
+    /**
+     * 제출 요청이 아직 평가 중인 답변 (미평가 + 지연 평가 대기열에도 없음)
+     */
+    public boolean isEvaluationInFlight() {
+        return this.score == null && this.evaluationStatus == null;
+    }
 }
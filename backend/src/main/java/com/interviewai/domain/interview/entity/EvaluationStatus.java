@@ -0,0 +1,16 @@
+package com.interviewai.domain.interview.entity;
+
+public enum EvaluationStatus {
+    QUEUED("평가 대기"),
+    FAILED("평가 실패");
+
+    private final String description;
+
+    EvaluationStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
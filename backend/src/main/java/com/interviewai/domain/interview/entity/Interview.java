@@ -67,6 +67,18 @@ public class Interview extends BaseTimeEntity {
     @Column(name = "follow_up_enabled")
     private boolean followUpEnabled;
 
+    /** 낙관적 락 버전 (동시 답변 제출/종료 감지) */
+    @Version
+    private Long version;
+
+    /** 답변마다 갱신되는 누적 요약 (종합 평가 형식의 압축본, 버전 증가 없이 갱신) */
+    @Column(name = "rolling_summary", columnDefinition = "TEXT", updatable = false)
+    private String rollingSummary;
+
+    /** 누적 요약에 반영된 마지막 질문 번호 */
+    @Column(name = "rolling_summary_order", updatable = false)
+    private Integer rollingSummaryOrder;
+
     @Builder
     public Interview(User user, InterviewType type, String customType, InterviewDifficulty difficulty, Integer questionLimit, boolean followUpEnabled) {
         this.user = user;
@@ -98,6 +110,13 @@ public class Interview extends BaseTimeEntity {
         this.endedAt = LocalDateTime.now();
     }
 
+    /**
+     * 완료된 면접의 답변이 재채점된 경우 총점 갱신
+     */
+    public void updateTotalScore(int totalScore) {
+        this.totalScore = totalScore;
+    }
+
     public void cancel() {
         this.status = InterviewStatus.CANCELLED;
         this.endedAt = LocalDateTime.now();
@@ -110,4 +129,15 @@ public class Interview extends BaseTimeEntity {
     public int getQuestionCount() {
         return this.questions.size();
     }
+
+    /**
+     * 답변한 마지막 질문 번호 (답변이 없으면 0)
+     */
+    public int getLastAnsweredOrderNumber() {
+        return questions.stream()
+                .filter(Question::isAnswered)
+                .mapToInt(Question::getOrderNumber)
+                .max()
+                .orElse(0);
+    }
 }
@@ -8,7 +8,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "questions")
+@Table(name = "questions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_questions_interview_order", columnNames = {"interview_id", "order_number"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Question extends BaseTimeEntity {
@@ -1,12 +1,18 @@
 package com.interviewai.domain.interview.repository;
 
 import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.EvaluationStatus;
 import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
@@ -14,4 +20,73 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
 
     @Query("SELECT AVG(a.score) FROM Answer a WHERE a.question.interview = :interview AND a.score IS NOT NULL")
     Double calculateAverageScoreByInterview(@Param("interview") Interview interview);
+
+    // 질문 + 면접 + 사용자 함께 조회 (평가 프롬프트/우선순위에 사용)
+    @Query("SELECT a FROM Answer a JOIN FETCH a.question q JOIN FETCH q.interview i JOIN FETCH i.user WHERE a.id = :id")
+    Optional<Answer> findByIdWithQuestionAndInterview(@Param("id") Long id);
+
+    // ============================================
+    // 지연 평가 대기열
+    // ============================================
+
+    // 평가 시도 가능한 답변 ID (오래 기다린 순)
+    @Query("SELECT a.id FROM Answer a WHERE a.evaluationStatus = :status AND a.evaluationAvailableAt <= :now " +
+           "ORDER BY a.evaluationAvailableAt")
+    List<Long> findDueEvaluationIds(@Param("status") EvaluationStatus status,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
+
+    @Query("SELECT a.id FROM Answer a WHERE a.question.interview.id = :interviewId AND a.evaluationStatus = :status")
+    List<Long> findIdsByInterviewIdAndEvaluationStatus(@Param("interviewId") Long interviewId,
+                                                       @Param("status") EvaluationStatus status);
+
+    // 평가 선점 (선점 만료 시각까지 다른 워커/서버가 가져가지 않음, 선점 성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Answer a SET a.evaluationAvailableAt = :leaseUntil, a.evaluationAttempts = a.evaluationAttempts + 1 " +
+           "WHERE a.id = :id AND a.evaluationStatus = :status AND a.evaluationAvailableAt <= :now")
+    int claimEvaluation(@Param("id") Long id,
+                        @Param("status") EvaluationStatus status,
+                        @Param("now") LocalDateTime now,
+                        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 면접 종료 시 평가 선점 (재시도 대기/다른 워커의 선점과 관계없이 해당 면접의 답변을 바로 가져감, 선점 성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Answer a SET a.evaluationAvailableAt = :leaseUntil, a.evaluationAttempts = a.evaluationAttempts + 1 " +
+           "WHERE a.id = :id AND a.evaluationStatus = :status " +
+           "AND a.question.id IN (SELECT q.id FROM Question q WHERE q.interview.id = :interviewId)")
+    int claimInterviewEvaluation(@Param("id") Long id,
+                                 @Param("interviewId") Long interviewId,
+                                 @Param("status") EvaluationStatus status,
+                                 @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 지연 평가 결과 반영 (선점이 만료되지 않았고 그 사이 다른 워커가 다시 선점하지 않은 경우만, 반영 성공 시 1)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Answer a SET a.score = :score, a.feedback = :feedback, a.modelAnswer = :modelAnswer, " +
+           "a.evaluationStatus = NULL, a.evaluationAvailableAt = NULL, a.updatedAt = :now " +
+           "WHERE a.id = :id AND a.evaluationStatus = :status " +
+           "AND a.evaluationAvailableAt = :leaseUntil AND a.evaluationAvailableAt > :now")
+    int completeEvaluation(@Param("id") Long id,
+                           @Param("status") EvaluationStatus status,
+                           @Param("leaseUntil") LocalDateTime leaseUntil,
+                           @Param("now") LocalDateTime now,
+                           @Param("score") int score,
+                           @Param("feedback") String feedback,
+                           @Param("modelAnswer") String modelAnswer);
+
+    // ============================================
+    // 일괄 재채점
+    // ============================================
+
+    // 재채점 대상 답변 (afterId 다음부터 ID 순, 질문 + 면접 + 사용자 함께 조회)
+    // 평가되지 않았거나(지연 평가 실패 포함) staleBefore 이전에 평가된 답변, 지연 평가 대기 중인 답변은 제외
+    @Query("SELECT a FROM Answer a JOIN FETCH a.question q JOIN FETCH q.interview i JOIN FETCH i.user " +
+           "WHERE a.id > :afterId AND i.status = :interviewStatus " +
+           "AND (a.evaluationStatus IS NULL OR a.evaluationStatus <> :queued) " +
+           "AND (a.score IS NULL OR a.updatedAt < :staleBefore) " +
+           "ORDER BY a.id")
+    List<Answer> findRescoringTargets(@Param("afterId") Long afterId,
+                                      @Param("interviewStatus") InterviewStatus interviewStatus,
+                                      @Param("queued") EvaluationStatus queued,
+                                      @Param("staleBefore") LocalDateTime staleBefore,
+                                      Pageable pageable);
 }
@@ -3,9 +3,12 @@ package com.interviewai.domain.interview.repository;
 import com.interviewai.domain.interview.entity.Interview;
 import com.interviewai.domain.interview.entity.InterviewStatus;
 import com.interviewai.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -33,17 +36,32 @@ public interface InterviewRepository extends JpaRepository<Interview, Long> {
     // Fetch Join 조회 (N+1 방지)
     // ============================================
 
-    // 면접 + 질문 조회
-    @Query("SELECT i FROM Interview i LEFT JOIN FETCH i.questions WHERE i.id = :id")
+    // 면접 + 사용자 + 질문 조회 (사용자 등급은 AI 모델 경로/우선순위에 사용)
+    @Query("SELECT i FROM Interview i JOIN FETCH i.user LEFT JOIN FETCH i.questions WHERE i.id = :id")
     Optional<Interview> findByIdWithQuestions(@Param("id") Long id);
 
-    // 면접 + 질문 + 답변 조회
+    // 면접 + 사용자 + 질문 + 답변 조회
     @Query("SELECT i FROM Interview i " +
+           "JOIN FETCH i.user " +
            "LEFT JOIN FETCH i.questions q " +
            "LEFT JOIN FETCH q.answer " +
            "WHERE i.id = :id")
     Optional<Interview> findByIdWithQuestionsAndAnswers(@Param("id") Long id);
 
+    // 면접 + 사용자 + 질문 조회 (쓰기용, 커밋 시 버전 강제 증가)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT i FROM Interview i JOIN FETCH i.user LEFT JOIN FETCH i.questions WHERE i.id = :id")
+    Optional<Interview> findByIdWithQuestionsForUpdate(@Param("id") Long id);
+
+    // 누적 요약 갱신 (버전을 올리지 않아 진행 중인 답변 제출과 충돌하지 않음, 더 오래된 갱신은 무시)
+    // 누적 요약 컬럼은 updatable = false라 엔티티 변경 감지로는 덮어쓰지 않고 이 쿼리로만 갱신됨
+    @Modifying
+    @Query("UPDATE Interview i SET i.rollingSummary = :summary, i.rollingSummaryOrder = :orderNumber " +
+           "WHERE i.id = :id AND (i.rollingSummaryOrder IS NULL OR i.rollingSummaryOrder < :orderNumber)")
+    int updateRollingSummary(@Param("id") Long id,
+                             @Param("summary") String summary,
+                             @Param("orderNumber") int orderNumber);
+
     // ============================================
     // 개수 조회 (COUNT)
     // ============================================
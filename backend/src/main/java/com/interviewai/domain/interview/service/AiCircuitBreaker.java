@@ -0,0 +1,170 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.interviewai.global.config.AiResilienceProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 백엔드 서킷 브레이커
+ *
+ * 최근 window-size건 중 실패율이 임계치를 넘으면 open-duration-ms 동안 호출을 즉시 거절한다.
+ * 이후 반개방(HALF_OPEN) 상태에서 half-open-probes건만 시험 호출로 보내고,
+ * 모두 성공하면 닫고(CLOSED) 하나라도 실패하면 다시 연다(OPEN).
+ */
+@Slf4j
+@Component
+public class AiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final AiResilienceProperties properties;
+
+    // 최근 호출 결과 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final LongAdder opened = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public AiCircuitBreaker(AiResilienceProperties properties) {
+        this.properties = properties;
+        this.window = new boolean[Math.max(1, properties.windowSize())];
+    }
+
+    /**
+     * 호출 허용 여부 (허용 시 결과를 반드시 onSuccess/onFailure/onIgnored로 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            long openNanos = System.nanoTime() - openedAtNanos;
+            if (openNanos < properties.openDurationMs() * 1_000_000L) {
+                rejected.increment();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probesInFlight + probeSuccesses >= properties.halfOpenProbes()) {
+                rejected.increment();
+                return false;
+            }
+            probesInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+            probeSuccesses++;
+            if (probeSuccesses >= properties.halfOpenProbes()) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+            transition(State.OPEN);
+            return;
+        }
+        record(true);
+
+        if (state == State.CLOSED && windowCount >= properties.minimumCalls()
+                && (double) windowFailures / windowCount >= properties.failureRateThreshold()) {
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * 모델 상태와 무관한 결과 (스케줄러 거절, 응답 형식 오류 등) - 실패율에 반영하지 않음
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            releaseProbe();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 현재 서킷 브레이커 상태
+     */
+    public synchronized Stats getStats() {
+        double failureRate = windowCount == 0 ? 0.0 : (double) windowFailures / windowCount;
+        return new Stats(state, failureRate, windowCount, opened.sum(), rejected.sum());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void releaseProbe() {
+        if (probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    private void transition(State next) {
+        log.warn("AI 서킷 브레이커 상태 변경 - {} → {} (실패율: {}/{})", state, next, windowFailures, windowCount);
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+
+        if (next == State.OPEN) {
+            openedAtNanos = System.nanoTime();
+            opened.increment();
+        } else if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    /**
+     * 서킷 브레이커 스냅샷
+     *
+     * @param failureRate 최근 구간 실패율
+     * @param windowCount 최근 구간 호출 수
+     * @param opened      차단 횟수
+     * @param rejected    차단/반개방 중 거절된 호출 수
+     */
+    public record Stats(
+        State state,
+        double failureRate,
+        int windowCount,
+        long opened,
+        long rejected
+    ) {}
+}
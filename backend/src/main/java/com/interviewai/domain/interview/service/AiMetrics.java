@@ -0,0 +1,161 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.interviewai.domain.interview.service.AiModelRouter.AiRoute;
+import com.interviewai.global.config.AiRoutingProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * AI 호출 단위 지표 기록 (Micrometer)
+ *
+ * - ai.prompt.tokens / ai.completion.tokens: 호출 1건의 프롬프트/응답 크기 분포 (작업별)
+ * - ai.parse.failures: 응답 형식 위반 수 (작업별, 단계: retried / failed / fallback)
+ * - ai.prompt.cache.requests / ai.prompt.cache.saved.tokens: 시스템 프롬프트 캐시 적중 여부와 다시 보내지 않은 입력 토큰 (작업별)
+ * - ai.prompt.cache.events: 캐시 생성/연장/만료/실패 수
+ * - ai.route.latency / ai.route.cost: 경로(작업, 등급, 모델)별 모델 호출 지연과 추정 비용 (USD)
+ * - ai.rescoring.answers / ai.rescoring.batch.duration: 일괄 재채점 처리량 (결과별 답변 수)과 배치당 소요 시간
+ */
+@Component
+public class AiMetrics {
+
+    private final MeterRegistry registry;
+
+    public AiMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 호출 1건의 프롬프트/응답 크기 기록
+     */
+    public void recordExchange(AiOperation operation, int promptTokens, int completionTokens) {
+        tokenSummary("ai.prompt.tokens", operation).record(promptTokens);
+        tokenSummary("ai.completion.tokens", operation).record(completionTokens);
+    }
+
+    /**
+     * 응답 형식 위반 기록
+     *
+     * @param stage retried(JSON 재요청), failed(JSON 재요청 실패), fallback(텍스트 섹션 없음 → 원본 사용),
+     *              skipped(일괄 평가 응답에서 빠졌거나 스키마를 위반한 항목)
+     */
+    public void recordParseFailure(AiOperation operation, String stage) {
+        Counter.builder("ai.parse.failures")
+                .description("AI 응답 형식 위반 수")
+                .tag("operation", operation.name())
+                .tag("stage", stage)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 시스템 프롬프트 캐시 조회 결과 기록
+     *
+     * @param savedTokens 캐시 적중으로 다시 보내지 않은 입력 토큰 수
+     */
+    public void recordPromptCacheLookup(AiOperation operation, boolean hit, int savedTokens) {
+        Counter.builder("ai.prompt.cache.requests")
+                .description("시스템 프롬프트 캐시 조회 수")
+                .tag("operation", operation.name())
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+        if (hit) {
+            Counter.builder("ai.prompt.cache.saved.tokens")
+                    .description("캐시 적중으로 다시 보내지 않은 입력 토큰 수")
+                    .baseUnit("tokens")
+                    .tag("operation", operation.name())
+                    .register(registry)
+                    .increment(savedTokens);
+        }
+    }
+
+    /**
+     * 시스템 프롬프트 캐시 수명 주기 기록
+     *
+     * @param event created / refreshed / expired / failed
+     */
+    public void recordPromptCacheEvent(String event) {
+        Counter.builder("ai.prompt.cache.events")
+                .description("시스템 프롬프트 캐시 생성/연장/만료/실패 수")
+                .tag("event", event)
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 경로별 모델 호출 지연/추정 비용 기록
+     *
+     * @param price 모델 가격 (설정이 없으면 null → 비용 미기록)
+     */
+    public void recordRoute(AiRoute route, long nanos, int promptTokens, int completionTokens,
+                            AiRoutingProperties.Price price) {
+        routeTimer(route, "success").record(nanos, TimeUnit.NANOSECONDS);
+        if (price != null) {
+            double cost = (promptTokens * price.input() + completionTokens * price.output()) / 1_000_000;
+            Counter.builder("ai.route.cost")
+                    .description("경로별 모델 호출 추정 비용")
+                    .baseUnit("usd")
+                    .tag("operation", route.operation().name())
+                    .tag("tier", route.tier().name())
+                    .tag("model", route.model())
+                    .register(registry)
+                    .increment(cost);
+        }
+    }
+
+    /**
+     * 실패한 모델 호출의 경로별 지연 기록
+     */
+    public void recordRouteFailure(AiRoute route, long nanos) {
+        routeTimer(route, "error").record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 일괄 재채점 배치 1개 기록
+     *
+     * @param nanos 모델 호출 + 결과 반영 소요 시간
+     */
+    public void recordRescoringBatch(int rescored, int failed, long nanos) {
+        rescoringCounter("rescored").increment(rescored);
+        rescoringCounter("failed").increment(failed);
+        Timer.builder("ai.rescoring.batch.duration")
+                .description("재채점 배치 소요 시간")
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Counter rescoringCounter(String outcome) {
+        return Counter.builder("ai.rescoring.answers")
+                .description("재채점 처리 답변 수")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private Timer routeTimer(AiRoute route, String outcome) {
+        return Timer.builder("ai.route.latency")
+                .description("경로별 모델 호출 지연")
+                .tag("operation", route.operation().name())
+                .tag("tier", route.tier().name())
+                .tag("model", route.model())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private DistributionSummary tokenSummary(String name, AiOperation operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit("tokens")
+                .tag("operation", operation.name())
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.domain.user.entity.User;
+import com.interviewai.global.config.AiRoutingProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 작업/구독 등급별 모델 선택
+ *
+ * 질문 생성처럼 지연이 중요한 작업은 가벼운 모델, PREMIUM 종합 평가처럼 품질이 중요한 작업은 상위 모델로 보낸다.
+ * 경로는 설정(interview.ai.routing.routes)에서 읽어 시작 시 (작업, 등급) 표로 만들어 두고,
+ * (작업, 등급) > (작업) > (등급) > 기본 모델 순으로 더 구체적인 경로가 우선한다.
+ */
+@Slf4j
+@Component
+public class AiModelRouter {
+
+    private final AiRoutingProperties properties;
+    private final Map<AiOperation, Map<SubscriptionType, AiRoute>> table = new EnumMap<>(AiOperation.class);
+
+    public AiModelRouter(AiRoutingProperties properties) {
+        if (!StringUtils.hasText(properties.defaultModel())) {
+            throw new IllegalStateException("interview.ai.routing.default-model 설정이 필요합니다");
+        }
+        this.properties = properties;
+
+        List<AiRoutingProperties.Route> routes = properties.routes() != null ? properties.routes() : List.of();
+        for (AiOperation operation : AiOperation.values()) {
+            Map<SubscriptionType, AiRoute> byTier = new EnumMap<>(SubscriptionType.class);
+            for (SubscriptionType tier : SubscriptionType.values()) {
+                AiRoute route = new AiRoute(operation, tier, resolveModel(routes, operation, tier));
+                byTier.put(tier, route);
+                log.info("AI 모델 경로 - 작업: {}, 등급: {}, 모델: {}", operation, tier, route.model());
+            }
+            table.put(operation, byTier);
+        }
+    }
+
+    /**
+     * 면접 사용자 등급에 맞는 경로
+     */
+    public AiRoute route(AiOperation operation, Interview interview) {
+        return route(operation, tierOf(interview));
+    }
+
+    public AiRoute route(AiOperation operation, SubscriptionType tier) {
+        return table.get(operation).get(tier);
+    }
+
+    /**
+     * 모델 가격 (설정이 없으면 null)
+     */
+    public AiRoutingProperties.Price priceOf(String model) {
+        return properties.prices() != null ? properties.prices().get(model) : null;
+    }
+
+    /**
+     * 면접 사용자의 구독 등급
+     * 사용자가 없는 세션(저장 전 첫 질문용 임시 세션)은 FREE로 취급하고,
+     * 사용자를 함께 조회하지 않은 준영속 면접은 등급을 알 수 없으므로 예외를 던진다.
+     *
+     * @throws IllegalStateException 사용자 프록시가 초기화되지 않은 경우
+     */
+    public static SubscriptionType tierOf(Interview interview) {
+        if (interview == null || interview.getUser() == null) {
+            return SubscriptionType.FREE;
+        }
+        User user = interview.getUser();
+        if (!Hibernate.isInitialized(user)) {
+            throw new IllegalStateException("면접 사용자가 로딩되지 않아 구독 등급을 알 수 없습니다 - 면접 ID: "
+                    + interview.getId());
+        }
+        return user.getSubscriptionType() != null ? user.getSubscriptionType() : SubscriptionType.FREE;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private String resolveModel(List<AiRoutingProperties.Route> routes, AiOperation operation,
+                                SubscriptionType tier) {
+        String model = properties.defaultModel();
+        int bestScore = -1;
+        for (AiRoutingProperties.Route route : routes) {
+            boolean operationMatches = route.operation() == null || route.operation() == operation;
+            boolean tierMatches = route.tier() == null || route.tier() == tier;
+            if (!operationMatches || !tierMatches || !StringUtils.hasText(route.model())) {
+                continue;
+            }
+            // 작업 일치가 등급 일치보다 우선, 같은 점수면 먼저 선언된 경로
+            int score = (route.operation() != null ? 2 : 0) + (route.tier() != null ? 1 : 0);
+            if (score > bestScore) {
+                bestScore = score;
+                model = route.model();
+            }
+        }
+        return model;
+    }
+
+    /**
+     * 선택된 경로 (지표 태그로도 사용)
+     */
+    public record AiRoute(AiOperation operation, SubscriptionType tier, String model) {}
+}
@@ -0,0 +1,21 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * AI 호출 종류 (스케줄링 우선순위 기준)
+ */
+public enum AiOperation {
+    QUESTION(1),
+    EVALUATION(1),
+    SUMMARY(3);
+
+    /** 기본 우선순위 (작을수록 먼저 처리) */
+    private final int basePriority;
+
+    AiOperation(int basePriority) {
+        this.basePriority = basePriority;
+    }
+
+    public int getBasePriority() {
+        return basePriority;
+    }
+}
@@ -0,0 +1,11 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * 평가/종합 평가 응답 형식
+ */
+public enum AiOutputFormat {
+    /** "점수:", "=== 카테고리별 점수 ===" 등 텍스트 형식 (휴리스틱 파싱) */
+    TEXT,
+    /** 스키마에 맞는 JSON 객체 (검증 후 위반 시 1회 재요청) */
+    JSON
+}
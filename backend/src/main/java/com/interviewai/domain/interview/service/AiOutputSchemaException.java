@@ -0,0 +1,11 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * JSON 응답이 기대한 스키마를 위반한 경우 (재요청 대상)
+ */
+class AiOutputSchemaException extends RuntimeException {
+
+    AiOutputSchemaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,63 @@
+package com.interviewai.domain.interview.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.ai.retry.TransientAiException;
+
+import com.google.genai.errors.ApiException;
+
+/**
+ * 모델 제공자 호출 오류 분류
+ *
+ * 모델 SDK 예외는 Spring AI/Reactor에서 한 번 더 감싸져 올라올 수 있으므로 원인 체인 전체를 확인한다.
+ */
+final class AiProviderErrors {
+
+    private static final int REQUEST_TIMEOUT = 408;
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private AiProviderErrors() {
+    }
+
+    /**
+     * 제공자 장애/과부하/전송 오류 (5xx, 408, 429, 입출력 오류, 시간 초과)
+     * 요청 오류(4xx)나 애플리케이션 버그는 포함하지 않는다.
+     */
+    static boolean isUnavailable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientAiException
+                    || cause instanceof IOException
+                    || cause instanceof UncheckedIOException
+                    || cause instanceof TimeoutException) {
+                return true;
+            }
+            if (cause instanceof ApiException api) {
+                return api.code() >= 500 || api.code() == REQUEST_TIMEOUT || api.code() == TOO_MANY_REQUESTS;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청에 지정한 캐시된 콘텐츠를 제공자가 찾지 못했거나 만료된 경우
+     * (Gemini는 만료/삭제된 캐시를 404 또는 403 "CachedContent not found", 400 "... expired"로 응답)
+     */
+    static boolean isCachedContentMissing(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ApiException api) {
+                if (api.code() != 400 && api.code() != 403 && api.code() != 404) {
+                    return false;
+                }
+                String message = api.getMessage() != null
+                        ? api.getMessage().toLowerCase(Locale.ROOT).replace(" ", "")
+                        : "";
+                return message.contains("cachedcontent")
+                        && (message.contains("notfound") || message.contains("expired"));
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,333 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Comparator;
+import java.time.Duration;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.global.config.AiSchedulerProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 요청 스케줄러
+ *
+ * 동시에 모델로 나가는 요청 수를 max-concurrency로 제한하고,
+ * 초과 요청은 우선순위 큐에서 대기시킨다. (호출 스레드에서 그대로 실행)
+ * 리액티브 호출은 스레드를 붙잡지 않고 차례가 오면 구독을 시작한다. (같은 대기열/우선순위 공유)
+ * - 우선순위: 평가/질문 생성 > 종합 평가 > 백그라운드(풀 보충, 선행 생성), PREMIUM은 한 단계 앞
+ * - 대기열이 가득 찼거나 max-queue-wait-ms 안에 차례가 오지 않으면 AI_SERVICE_BUSY로 거절
+ */
+@Slf4j
+@Component
+public class AiRequestScheduler {
+
+    /** 백그라운드 작업 우선순위 (가장 나중에 처리) */
+    private static final int BACKGROUND_PRIORITY = 5;
+
+    private static final ThreadLocal<Boolean> BACKGROUND = ThreadLocal.withInitial(() -> false);
+
+    private final AiSchedulerProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(
+            Comparator.comparingInt(Waiter::priority).thenComparingLong(Waiter::sequence));
+    private long sequence;
+    private int inFlight;
+
+    // 통계
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    public AiRequestScheduler(AiSchedulerProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 백그라운드 우선순위로 실행 (사용자가 기다리지 않는 작업)
+     */
+    public static <T> T background(Supplier<T> task) {
+        BACKGROUND.set(true);
+        try {
+            return task.get();
+        } finally {
+            BACKGROUND.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드가 백그라운드 작업 중인지 여부
+     */
+    public static boolean isBackground() {
+        return BACKGROUND.get();
+    }
+
+    /**
+     * 차례가 올 때까지 대기한 뒤 호출 스레드에서 작업 실행
+     */
+    public <T> T execute(AiOperation operation, Interview interview, Supplier<T> task) {
+        int priority = resolvePriority(operation, interview);
+
+        long enqueuedAt = System.nanoTime();
+        acquire(priority, operation);
+        recordQueueTime(System.nanoTime() - enqueuedAt);
+
+        try {
+            return task.get();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * 차례가 오면 작업을 구독하고, 작업이 끝나거나 취소되면 슬롯 반환 (대기 중 스레드를 점유하지 않음)
+     */
+    public <T> Mono<T> executeReactive(AiOperation operation, Interview interview, Supplier<Mono<T>> task) {
+        int priority = resolvePriority(operation, interview);
+
+        return Mono.defer(() -> {
+            long enqueuedAt = System.nanoTime();
+            // 대기 취소와 작업 종료가 겹쳐도 슬롯은 한 번만 반환
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable releaseOnce = () -> {
+                if (released.compareAndSet(false, true)) {
+                    release();
+                }
+            };
+
+            return acquireReactive(priority, operation, releaseOnce)
+                    .then(Mono.defer(task)
+                            .doFirst(() -> recordQueueTime(System.nanoTime() - enqueuedAt))
+                            .doFinally(signal -> releaseOnce.run()));
+        });
+    }
+
+    /**
+     * 현재 스케줄러 상태
+     */
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(inFlight, waiters.size(), admitted.sum(), rejected.sum(),
+                    totalQueueNanos.sum(), maxQueueNanos.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private int resolvePriority(AiOperation operation, Interview interview) {
+        if (BACKGROUND.get()) {
+            return BACKGROUND_PRIORITY;
+        }
+        return AiModelRouter.tierOf(interview) == SubscriptionType.PREMIUM
+                ? operation.getBasePriority() - 1
+                : operation.getBasePriority();
+    }
+
+    private void acquire(int priority, AiOperation operation) {
+        boolean returnSlot = false;
+        lock.lock();
+        try {
+            if (inFlight < properties.maxConcurrency() && waiters.isEmpty()) {
+                inFlight++;
+                admitted.increment();
+                return;
+            }
+
+            if (waiters.size() >= properties.maxQueueSize()) {
+                throw rejection("대기열 초과", operation);
+            }
+
+            Waiter waiter = new Waiter(priority, sequence++, lock.newCondition(), null);
+            waiters.add(waiter);
+
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(properties.maxQueueWaitMs());
+            try {
+                while (!waiter.granted) {
+                    if (remainingNanos <= 0) {
+                        waiters.remove(waiter);
+                        throw rejection("대기 시간 초과", operation);
+                    }
+                    remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (waiter.granted) {
+                    returnSlot = true;
+                } else {
+                    waiters.remove(waiter);
+                }
+                throw new CustomException(ErrorCode.AI_SERVICE_BUSY);
+            }
+            admitted.increment();
+        } finally {
+            lock.unlock();
+            // 인터럽트 전에 넘겨받은 슬롯은 다음 대기자에게 반환
+            if (returnSlot) {
+                release();
+            }
+        }
+    }
+
+    private Mono<Void> acquireReactive(int priority, AiOperation operation, Runnable releaseOnce) {
+        return Mono.defer(() -> {
+            Waiter waiter;
+            lock.lock();
+            try {
+                if (inFlight < properties.maxConcurrency() && waiters.isEmpty()) {
+                    inFlight++;
+                    admitted.increment();
+                    return Mono.empty();
+                }
+
+                if (waiters.size() >= properties.maxQueueSize()) {
+                    return Mono.error(rejection("대기열 초과", operation));
+                }
+
+                waiter = new Waiter(priority, sequence++, null, new CompletableFuture<>());
+                waiters.add(waiter);
+            } finally {
+                lock.unlock();
+            }
+
+            return Mono.fromFuture(waiter.ready, true)
+                    .timeout(Duration.ofMillis(properties.maxQueueWaitMs()),
+                            Mono.defer(() -> expire(waiter, operation)))
+                    .doOnCancel(() -> abandon(waiter, releaseOnce))
+                    .then();
+        });
+    }
+
+    // 대기 시간 초과: 그 사이 슬롯을 넘겨받았으면 그대로 진행
+    private Mono<Void> expire(Waiter waiter, AiOperation operation) {
+        lock.lock();
+        try {
+            if (waiter.granted) {
+                return Mono.empty();
+            }
+            waiters.remove(waiter);
+            return Mono.error(rejection("대기 시간 초과", operation));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 대기 중 구독 취소: 이미 넘겨받은 슬롯이면 반환
+    private void abandon(Waiter waiter, Runnable releaseOnce) {
+        boolean granted;
+        lock.lock();
+        try {
+            granted = waiter.granted;
+            if (!granted) {
+                waiters.remove(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (granted) {
+            releaseOnce.run();
+        }
+    }
+
+    private void release() {
+        Waiter next;
+        lock.lock();
+        try {
+            next = releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+        // 리액티브 대기자는 락 밖에서 깨움 (이어지는 작업이 락을 잡은 채 구독되지 않도록)
+        if (next != null) {
+            next.ready.complete(null);
+        }
+    }
+
+    /**
+     * 대기 중인 요청이 있으면 슬롯을 그대로 넘겨줌
+     *
+     * @return 락 밖에서 깨워야 하는 리액티브 대기자 (없으면 null)
+     */
+    private Waiter releaseLocked() {
+        Waiter next = waiters.poll();
+        if (next == null) {
+            inFlight--;
+            return null;
+        }
+
+        next.granted = true;
+        if (next.condition != null) {
+            next.condition.signal();
+            return null;
+        }
+        admitted.increment();
+        return next;
+    }
+
+    private CustomException rejection(String reason, AiOperation operation) {
+        rejected.increment();
+        log.warn("AI 요청 거절 ({}) - 작업: {}, 처리 중: {}, 대기: {}", reason, operation, inFlight, waiters.size());
+        return new CustomException(ErrorCode.AI_SERVICE_BUSY);
+    }
+
+    private void recordQueueTime(long nanos) {
+        totalQueueNanos.add(nanos);
+        maxQueueNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * 대기자 (블로킹 호출은 condition, 리액티브 호출은 ready로 깨움)
+     */
+    private static final class Waiter {
+        private final int priority;
+        private final long sequence;
+        private final Condition condition;
+        private final CompletableFuture<Void> ready;
+        private boolean granted;
+
+        private Waiter(int priority, long sequence, Condition condition, CompletableFuture<Void> ready) {
+            this.priority = priority;
+            this.sequence = sequence;
+            this.condition = condition;
+            this.ready = ready;
+        }
+
+        private int priority() {
+            return priority;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+    }
+
+    /**
+     * 스케줄러 통계 스냅샷
+     */
+    public record Stats(
+        int inFlight,
+        int waiting,
+        long admitted,
+        long rejected,
+        long totalQueueNanos,
+        long maxQueueNanos
+    ) {}
+}
@@ -0,0 +1,156 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 호출 장애 대응 지표
+ *
+ * - 작업별 호출/성공/실패/데드라인 초과/차단/헤징/대체 응답 수
+ * - 작업별 최근 성공 지연 시간 (헤징 기준 백분위 계산에 사용)
+ */
+@Component
+public class AiResilienceMetrics {
+
+    /** 작업별로 보관하는 최근 지연 시간 표본 수 */
+    private static final int LATENCY_SAMPLES = 256;
+
+    private final Map<AiOperation, OperationCounter> operations = new EnumMap<>(AiOperation.class);
+
+    public AiResilienceMetrics() {
+        for (AiOperation operation : AiOperation.values()) {
+            operations.put(operation, new OperationCounter());
+        }
+    }
+
+    public void recordSuccess(AiOperation operation, long latencyNanos) {
+        OperationCounter counter = operations.get(operation);
+        counter.calls.increment();
+        counter.successes.increment();
+        counter.latencies.add(latencyNanos / 1_000_000L);
+    }
+
+    public void recordFailure(AiOperation operation) {
+        OperationCounter counter = operations.get(operation);
+        counter.calls.increment();
+        counter.failures.increment();
+    }
+
+    public void recordTimeout(AiOperation operation) {
+        OperationCounter counter = operations.get(operation);
+        counter.calls.increment();
+        counter.timeouts.increment();
+    }
+
+    public void recordShortCircuit(AiOperation operation) {
+        operations.get(operation).shortCircuited.increment();
+    }
+
+    public void recordHedge(AiOperation operation) {
+        operations.get(operation).hedges.increment();
+    }
+
+    public void recordHedgeWin(AiOperation operation) {
+        operations.get(operation).hedgeWins.increment();
+    }
+
+    public void recordFallback(AiOperation operation) {
+        operations.get(operation).fallbacks.increment();
+    }
+
+    /**
+     * 최근 성공 지연 시간의 백분위 (표본이 minSamples보다 적으면 empty)
+     */
+    public OptionalLong latencyPercentileMs(AiOperation operation, double percentile, int minSamples) {
+        return operations.get(operation).latencies.percentile(percentile, minSamples);
+    }
+
+    /**
+     * 현재 장애 대응 지표
+     */
+    public Stats getStats() {
+        Map<AiOperation, OperationStats> byOperation = new EnumMap<>(AiOperation.class);
+        operations.forEach((operation, counter) -> byOperation.put(operation, new OperationStats(
+                counter.calls.sum(), counter.successes.sum(), counter.failures.sum(), counter.timeouts.sum(),
+                counter.shortCircuited.sum(), counter.hedges.sum(), counter.hedgeWins.sum(),
+                counter.fallbacks.sum(),
+                counter.latencies.percentile(0.5, 1).orElse(0),
+                counter.latencies.percentile(0.95, 1).orElse(0))));
+        return new Stats(byOperation);
+    }
+
+    private static final class OperationCounter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder shortCircuited = new LongAdder();
+        private final LongAdder hedges = new LongAdder();
+        private final LongAdder hedgeWins = new LongAdder();
+        private final LongAdder fallbacks = new LongAdder();
+        private final LatencyWindow latencies = new LatencyWindow(LATENCY_SAMPLES);
+    }
+
+    /**
+     * 최근 N건 지연 시간 링 버퍼
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int index;
+        private int count;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        private synchronized void add(long millis) {
+            samples[index] = millis;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        private OptionalLong percentile(double percentile, int minSamples) {
+            long[] sorted;
+            synchronized (this) {
+                if (count == 0 || count < minSamples) {
+                    return OptionalLong.empty();
+                }
+                sorted = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(sorted);
+            int rank = (int) Math.ceil(percentile * sorted.length) - 1;
+            return OptionalLong.of(sorted[Math.max(0, Math.min(rank, sorted.length - 1))]);
+        }
+    }
+
+    /**
+     * 작업별 지표
+     *
+     * @param timeouts       데드라인 초과 수
+     * @param shortCircuited 서킷 차단으로 호출하지 않은 수
+     * @param hedges         보조 요청 수
+     * @param hedgeWins      보조 요청이 먼저 끝난 수
+     * @param fallbacks      대체 응답(풀 질문, 평가 지연) 수
+     * @param p50Ms          최근 성공 지연 중앙값
+     * @param p95Ms          최근 성공 지연 95 백분위
+     */
+    public record OperationStats(
+        long calls,
+        long successes,
+        long failures,
+        long timeouts,
+        long shortCircuited,
+        long hedges,
+        long hedgeWins,
+        long fallbacks,
+        long p50Ms,
+        long p95Ms
+    ) {}
+
+    public record Stats(Map<AiOperation, OperationStats> byOperation) {}
+}
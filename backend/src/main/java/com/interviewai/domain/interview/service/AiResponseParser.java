@@ -0,0 +1,111 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.List;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+/**
+ * AI 텍스트 응답 파서 (평가 / 종합 평가)
+ *
+ * 전체 응답이 모인 경우에도 스트리밍 파서에 한 번에 넣어 같은 규칙으로 파싱한다.
+ * 줄 구간(start, end) 위에서 동작하는 공용 스캔 함수를 함께 제공한다. (benchmark: src/jmh)
+ */
+final class AiResponseParser {
+
+    private AiResponseParser() {
+    }
+
+    /**
+     * 평가 응답 파싱 ("점수:", "피드백:", "모범답안:" 형식)
+     */
+    static EvaluationResult parseEvaluation(String response) {
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(token -> { });
+        parser.feed(response);
+        return parser.finish();
+    }
+
+    /**
+     * 종합 평가 응답 파싱
+     */
+    static SummaryResult parseSummary(String response, List<String> categories) {
+        StreamingSummaryParser parser = new StreamingSummaryParser(categories);
+        parser.feed(response);
+        return parser.finish();
+    }
+
+    /**
+     * 구간에서 첫 번째 숫자를 점수(1-10)로 추출 (숫자가 없으면 5)
+     */
+    static int extractScore(CharSequence text, int start, int end) {
+        int i = start;
+        while (i < end && !isAsciiDigit(text.charAt(i))) {
+            i++;
+        }
+        if (i == end) {
+            return 5; // 기본값
+        }
+
+        int score = 0;
+        while (i < end && isAsciiDigit(text.charAt(i))) {
+            // 범위 밖 값은 어차피 10으로 제한되므로 자릿수가 많아도 넘치지 않게 포화
+            score = Math.min(score * 10 + (text.charAt(i) - '0'), 100);
+            i++;
+        }
+        // 1-10 범위로 제한
+        return Math.max(1, Math.min(10, score));
+    }
+
+    /**
+     * 구간이 "라벨:" 또는 "라벨 :"로 시작하면 콜론 다음 인덱스, 아니면 -1
+     */
+    static int afterLabel(CharSequence s, int start, int end, String label) {
+        if (!startsWith(s, start, end, label)) {
+            return -1;
+        }
+        int i = start + label.length();
+        if (i < end && s.charAt(i) == ' ') {
+            i++;
+        }
+        return i < end && s.charAt(i) == ':' ? i + 1 : -1;
+    }
+
+    static boolean startsWith(CharSequence s, int start, int end, String prefix) {
+        if (end - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (s.charAt(start + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean contains(CharSequence s, int start, int end, String needle) {
+        for (int i = start; i + needle.length() <= end; i++) {
+            if (startsWith(s, i, end, needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static int trimStart(CharSequence s, int start, int end) {
+        while (start < end && s.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    static int trimEnd(CharSequence s, int start, int end) {
+        while (end > start && s.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,11 +1,17 @@
 package com.interviewai.domain.interview.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import com.interviewai.domain.interview.dto.EvaluationResult;
 import com.interviewai.domain.interview.dto.SummaryResult;
 import com.interviewai.domain.interview.entity.Answer;
 import com.interviewai.domain.interview.entity.Interview;
 import com.interviewai.domain.interview.entity.Question;
 
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 public interface AiService {
 
     /**
@@ -24,10 +30,96 @@ public interface AiService {
      */
     EvaluationResult evaluateAnswer(Question question, Answer answer);
 
+    /**
+     * 답변 평가 (스트리밍)
+     * @param question 질문
+     * @param answer 답변
+     * @param listener 응답 조각 및 섹션(점수/피드백/모범답안) 완료 시 호출되는 수신자
+     * @return 전체 응답을 파싱한 평가 결과
+     */
+    EvaluationResult evaluateAnswerStream(Question question, Answer answer, EvaluationStreamListener listener);
+
     /**
      * 면접 종합 평가
      * @param interview 면접 세션
      * @return 종합 평가 결과 (요약, 전체 점수, 카테고리별 점수)
      */
     SummaryResult generateSummary(Interview interview);
+
+    /**
+     * 누적 요약 갱신 (답변 1건 반영)
+     * @param interview 면접 세션 (유형, 난이도)
+     * @param previousSummary 이전 누적 요약 (첫 답변이면 null)
+     * @param question 방금 답변한 질문
+     * @param answer 답변
+     * @param evaluation 답변 평가 결과
+     * @return 갱신된 누적 요약 (종합 평가 형식)
+     */
+    String updateRollingSummary(Interview interview, String previousSummary,
+                                Question question, Answer answer, EvaluationResult evaluation);
+
+    /**
+     * 누적 요약 기반 종합 평가 (전체 질문/답변 대신 누적 요약 + 문항별 점수만 사용)
+     * @param interview 면접 세션 (질문 + 답변 점수 포함)
+     * @param rollingSummary 모든 답변이 반영된 누적 요약
+     * @return 종합 평가 결과
+     */
+    SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary);
+
+    /**
+     * 답변 일괄 평가 (재채점 작업)
+     * 기본 구현은 답변마다 evaluateAnswer를 호출한다. 모델 구현체는 여러 답변을 한 번의 호출로 평가하도록 재정의한다.
+     * @param answers 평가할 답변 (질문 + 면접 로딩)
+     * @return answers와 같은 순서의 평가 결과 (평가하지 못한 답변은 null)
+     */
+    default List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        List<EvaluationResult> results = new ArrayList<>(answers.size());
+        for (Answer answer : answers) {
+            EvaluationResult result;
+            try {
+                result = evaluateAnswer(answer.getQuestion(), answer);
+            } catch (RuntimeException e) {
+                result = null;
+            }
+            results.add(result != null && !result.isDeferred() ? result : null);
+        }
+        return results;
+    }
+
+    // ==================== 논블로킹 호출 (리액티브 면접 흐름) ====================
+    // 기본 구현은 블로킹 호출을 boundedElastic 스케줄러로 넘긴다. 모델 구현체는 스트리밍 호출로 재정의한다.
+
+    /**
+     * 면접 질문 생성 (논블로킹)
+     * @param interview 면접 세션
+     * @param previousAnswer 이전 답변 (첫 질문일 경우 null)
+     * @return 생성된 질문 내용
+     */
+    default Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        return Mono.fromCallable(() -> generateQuestion(interview, previousAnswer))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 답변 평가 (논블로킹 스트리밍)
+     * @param question 질문
+     * @param answer 답변
+     * @param listener 응답 조각 및 섹션 완료 시 호출되는 수신자 (모델 응답을 받는 스레드에서 호출)
+     * @return 전체 응답을 파싱한 평가 결과
+     */
+    default Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                          EvaluationStreamListener listener) {
+        return Mono.fromCallable(() -> evaluateAnswerStream(question, answer, listener))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 면접 종합 평가 (논블로킹)
+     * @param interview 면접 세션
+     * @return 종합 평가 결과
+     */
+    default Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        return Mono.fromCallable(() -> generateSummary(interview))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
@@ -0,0 +1,131 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.function.ToDoubleFunction;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 파이프라인 구성 요소의 통계 스냅샷을 Micrometer 지표로 노출
+ *
+ * 각 구성 요소는 자체 LongAdder 통계를 유지하고, 여기서는 수집 시점에 getStats()를 읽기만 한다.
+ * - 스케줄러: ai.scheduler.*
+ * - 평가 캐시: ai.evaluation.cache.*
+ * - 토큰 사용량: ai.tokens, ai.interview.tokens.*
+ * - 장애 대응: ai.resilience.events, ai.circuit.*
+ */
+@RequiredArgsConstructor
+@Component
+public class AiStatsMeterBinder implements MeterBinder {
+
+    private final AiRequestScheduler scheduler;
+    private final EvaluationCache evaluationCache;
+    private final AiTokenUsageTracker tokenUsageTracker;
+    private final AiResilienceMetrics resilienceMetrics;
+    private final AiCircuitBreaker circuitBreaker;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindScheduler(registry);
+        bindEvaluationCache(registry);
+        bindTokenUsage(registry);
+        bindResilience(registry);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void bindScheduler(MeterRegistry registry) {
+        Gauge.builder("ai.scheduler.in.flight", scheduler, s -> s.getStats().inFlight())
+                .description("모델로 나가 있는 요청 수")
+                .register(registry);
+        Gauge.builder("ai.scheduler.waiting", scheduler, s -> s.getStats().waiting())
+                .description("스케줄러 대기열 길이")
+                .register(registry);
+        FunctionCounter.builder("ai.scheduler.admitted", scheduler, s -> s.getStats().admitted())
+                .register(registry);
+        FunctionCounter.builder("ai.scheduler.rejected", scheduler, s -> s.getStats().rejected())
+                .register(registry);
+        FunctionCounter.builder("ai.scheduler.queue.time", scheduler, s -> s.getStats().totalQueueNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("ai.scheduler.queue.time.max", scheduler, s -> s.getStats().maxQueueNanos() / 1e9)
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    private void bindEvaluationCache(MeterRegistry registry) {
+        cacheCounter(registry, "local_hit", s -> s.getStats().localHits());
+        cacheCounter(registry, "redis_hit", s -> s.getStats().redisHits());
+        cacheCounter(registry, "miss", s -> s.getStats().misses());
+        Gauge.builder("ai.evaluation.cache.size", evaluationCache, s -> s.getStats().size())
+                .register(registry);
+    }
+
+    private void cacheCounter(MeterRegistry registry, String result, ToDoubleFunction<EvaluationCache> f) {
+        FunctionCounter.builder("ai.evaluation.cache.requests", evaluationCache, f)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private void bindTokenUsage(MeterRegistry registry) {
+        for (AiOperation operation : AiOperation.values()) {
+            FunctionCounter.builder("ai.tokens", tokenUsageTracker,
+                            t -> t.getStats().byOperation().get(operation).promptTokens())
+                    .tag("operation", operation.name())
+                    .tag("kind", "prompt")
+                    .register(registry);
+            FunctionCounter.builder("ai.tokens", tokenUsageTracker,
+                            t -> t.getStats().byOperation().get(operation).completionTokens())
+                    .tag("operation", operation.name())
+                    .tag("kind", "completion")
+                    .register(registry);
+        }
+        FunctionCounter.builder("ai.interview.tokens.completed", tokenUsageTracker,
+                        t -> t.getStats().completedInterviewTokens())
+                .description("종료된 면접들의 토큰 합계")
+                .register(registry);
+        FunctionCounter.builder("ai.interview.completed", tokenUsageTracker,
+                        t -> t.getStats().completedInterviews())
+                .register(registry);
+        Gauge.builder("ai.interview.tokens.max", tokenUsageTracker, t -> t.getStats().maxInterviewTokens())
+                .register(registry);
+    }
+
+    private void bindResilience(MeterRegistry registry) {
+        for (AiOperation operation : AiOperation.values()) {
+            resilienceCounter(registry, operation, "timeout", s -> s.timeouts());
+            resilienceCounter(registry, operation, "failure", s -> s.failures());
+            resilienceCounter(registry, operation, "short_circuited", s -> s.shortCircuited());
+            resilienceCounter(registry, operation, "hedge", s -> s.hedges());
+            resilienceCounter(registry, operation, "hedge_win", s -> s.hedgeWins());
+            resilienceCounter(registry, operation, "fallback", s -> s.fallbacks());
+        }
+
+        // 0: CLOSED, 1: HALF_OPEN, 2: OPEN
+        Gauge.builder("ai.circuit.state", circuitBreaker, c -> switch (c.getState()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                })
+                .register(registry);
+        Gauge.builder("ai.circuit.failure.rate", circuitBreaker, c -> c.getStats().failureRate())
+                .register(registry);
+        FunctionCounter.builder("ai.circuit.opened", circuitBreaker, c -> c.getStats().opened())
+                .register(registry);
+    }
+
+    private void resilienceCounter(MeterRegistry registry, AiOperation operation, String event,
+                                   ToDoubleFunction<AiResilienceMetrics.OperationStats> f) {
+        FunctionCounter.builder("ai.resilience.events", resilienceMetrics,
+                        m -> f.applyAsDouble(m.getStats().byOperation().get(operation)))
+                .tag("operation", operation.name())
+                .tag("event", event)
+                .register(registry);
+    }
+}
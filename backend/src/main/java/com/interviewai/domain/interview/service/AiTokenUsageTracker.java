@@ -0,0 +1,110 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 호출 토큰 사용량 집계
+ *
+ * - 작업(질문/평가/종합 평가)별 호출 수, 프롬프트/응답 토큰 누적
+ * - 면접별 누적 토큰 (종합 평가 완료 시 면접당 토큰 분포에 반영 후 제거)
+ */
+@Slf4j
+@Component
+public class AiTokenUsageTracker {
+
+    private final Map<AiOperation, OperationCounter> operations = new EnumMap<>(AiOperation.class);
+
+    // 진행 중인 면접별 누적 토큰 (이탈한 면접은 만료로 정리)
+    private final Cache<Long, AtomicLong> interviewTokens = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterAccess(Duration.ofDays(1))
+            .build();
+
+    private final LongAdder completedInterviews = new LongAdder();
+    private final LongAdder completedInterviewTokens = new LongAdder();
+    private final LongAccumulator maxInterviewTokens = new LongAccumulator(Math::max, 0);
+
+    public AiTokenUsageTracker() {
+        for (AiOperation operation : AiOperation.values()) {
+            operations.put(operation, new OperationCounter());
+        }
+    }
+
+    /**
+     * 호출 1건의 토큰 사용량 기록
+     *
+     * @param interviewId 면접 ID (풀 보충 등 저장 전 면접이면 null)
+     */
+    public void record(AiOperation operation, Long interviewId, int promptTokens, int completionTokens) {
+        OperationCounter counter = operations.get(operation);
+        counter.calls.increment();
+        counter.promptTokens.add(promptTokens);
+        counter.completionTokens.add(completionTokens);
+
+        if (interviewId != null) {
+            interviewTokens.get(interviewId, id -> new AtomicLong())
+                    .addAndGet(promptTokens + completionTokens);
+        }
+    }
+
+    /**
+     * 면접 종료: 면접 누적 토큰을 면접당 분포에 반영
+     */
+    public void completeInterview(Long interviewId) {
+        AtomicLong total = interviewTokens.asMap().remove(interviewId);
+        if (total == null) {
+            return;
+        }
+
+        completedInterviews.increment();
+        completedInterviewTokens.add(total.get());
+        maxInterviewTokens.accumulate(total.get());
+        log.debug("면접 토큰 사용량 - 면접 ID: {}, 토큰: {}", interviewId, total.get());
+    }
+
+    /**
+     * 현재 토큰 사용량 통계
+     */
+    public Stats getStats() {
+        Map<AiOperation, OperationStats> byOperation = new EnumMap<>(AiOperation.class);
+        operations.forEach((operation, counter) -> byOperation.put(operation, new OperationStats(
+                counter.calls.sum(), counter.promptTokens.sum(), counter.completionTokens.sum())));
+
+        return new Stats(byOperation, completedInterviews.sum(), completedInterviewTokens.sum(),
+                maxInterviewTokens.get());
+    }
+
+    private static final class OperationCounter {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+    }
+
+    public record OperationStats(long calls, long promptTokens, long completionTokens) {}
+
+    /**
+     * 토큰 사용량 스냅샷
+     *
+     * @param completedInterviews      종료된 면접 수
+     * @param completedInterviewTokens 종료된 면접들의 토큰 합계
+     * @param maxInterviewTokens       면접 1건 최대 토큰
+     */
+    public record Stats(
+        Map<AiOperation, OperationStats> byOperation,
+        long completedInterviews,
+        long completedInterviewTokens,
+        long maxInterviewTokens
+    ) {}
+}
@@ -0,0 +1,241 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.RescoringJobResponse;
+import com.interviewai.domain.interview.dto.RescoringStartRequest;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.global.config.RescoringProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.infra.redis.AnswerRescoringJobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 일괄 재채점 작업 (관리자)
+ *
+ * 완료된 면접에서 평가되지 않았거나(지연 평가 실패 포함) 평가 기준 변경 전에 평가된 답변을 ID 순으로 page-size씩 읽고,
+ * batch-size개씩 묶어 모델 호출 한 번으로 평가한 뒤 한 트랜잭션에서 반영(JDBC 배치 UPDATE)한다.
+ * - 배치마다 마지막 답변 ID를 체크포인트로 저장해 중지/서버 재시작 후 그 다음부터 이어서 처리
+ * - 응답에서 빠진 항목은 건너뛰고(실패 수에 포함) 다음 작업에서 다시 대상이 됨
+ * - AI 장애 등으로 배치 전체가 실패하면 작업을 FAILED로 멈추고, 재개 시 그 배치부터 다시 처리
+ * - 사용자 요청보다 뒤로 밀리도록 백그라운드 우선순위로 호출
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AnswerRescoringJobService {
+
+    /** staleBefore를 지정하지 않으면 평가된 답변은 대상에서 제외 */
+    private static final LocalDateTime UNEVALUATED_ONLY = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final AiService aiService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final AnswerRescoringJobRepository rescoringJobRepository;
+    private final ThreadPoolTaskExecutor rescoringTaskExecutor;
+    private final RescoringProperties properties;
+    private final AiMetrics aiMetrics;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 새 재채점 작업 시작 (이전 체크포인트는 버림)
+     */
+    public RescoringJobResponse start(String email, RescoringStartRequest request) {
+        validateAdmin(email);
+
+        LocalDateTime staleBefore = request.getStaleBefore() != null ? request.getStaleBefore() : UNEVALUATED_ONLY;
+        return launch(RescoringJobResponse.create(UUID.randomUUID().toString(), staleBefore));
+    }
+
+    /**
+     * 체크포인트부터 재개
+     */
+    public RescoringJobResponse resume(String email) {
+        validateAdmin(email);
+
+        RescoringJobResponse job = find();
+        if (job.getStatus() == RescoringJobResponse.Status.COMPLETED) {
+            return job;
+        }
+        return launch(job);
+    }
+
+    /**
+     * 중지 요청 (진행 중인 배치가 끝나면 PAUSED)
+     */
+    public RescoringJobResponse stop(String email) {
+        validateAdmin(email);
+
+        RescoringJobResponse job = find();
+        if (job.getStatus() == RescoringJobResponse.Status.RUNNING) {
+            rescoringJobRepository.requestStop(properties.lockTtlMinutes());
+        }
+        return job;
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public RescoringJobResponse getJob(String email) {
+        validateAdmin(email);
+        return find();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private RescoringJobResponse launch(RescoringJobResponse job) {
+        String runId = UUID.randomUUID().toString();
+        if (!rescoringJobRepository.acquireLock(runId, properties.lockTtlMinutes())) {
+            throw new CustomException(ErrorCode.RESCORING_JOB_ALREADY_RUNNING);
+        }
+        rescoringJobRepository.clearStop();
+
+        RescoringJobResponse running = job.running();
+        save(running);
+
+        try {
+            rescoringTaskExecutor.execute(() -> run(runId, running));
+        } catch (TaskRejectedException e) {
+            // 이 인스턴스에서 이전 실행이 아직 끝나지 않음
+            rescoringJobRepository.releaseLock(runId);
+            save(job.paused());
+            throw new CustomException(ErrorCode.RESCORING_JOB_ALREADY_RUNNING);
+        }
+
+        log.info("재채점 작업 시작 - 작업 ID: {}, 기준 시각: {}, 체크포인트: {}",
+                job.getJobId(), job.getStaleBefore(), job.getLastAnswerId());
+        return running;
+    }
+
+    private void run(String runId, RescoringJobResponse job) {
+        RescoringJobResponse current = job;
+        try {
+            while (true) {
+                List<Answer> page = interviewPersistenceService.findRescoringTargets(
+                        current.getLastAnswerId(), current.getStaleBefore(), properties.pageSize());
+                if (page.isEmpty()) {
+                    save(current.completed());
+                    log.info("재채점 작업 완료 - 작업 ID: {}, 재채점: {}, 실패: {}, 처리량: {}/s",
+                            current.getJobId(), current.getRescored(), current.getFailed(),
+                            String.format("%.2f", current.getAnswersPerSecond()));
+                    return;
+                }
+
+                for (int from = 0; from < page.size(); from += properties.batchSize()) {
+                    if (!rescoringJobRepository.extendLock(runId, properties.lockTtlMinutes())) {
+                        // 실행 중 표시가 만료되어 다른 실행이 이어받음 (체크포인트는 그쪽에서 관리)
+                        log.warn("재채점 작업 실행 중 표시 만료, 중단 - 작업 ID: {}", current.getJobId());
+                        return;
+                    }
+                    if (rescoringJobRepository.isStopRequested()) {
+                        save(current.paused());
+                        log.info("재채점 작업 중지 - 작업 ID: {}, 체크포인트: {}",
+                                current.getJobId(), current.getLastAnswerId());
+                        return;
+                    }
+
+                    List<Answer> batch = page.subList(from, Math.min(from + properties.batchSize(), page.size()));
+                    current = rescore(current, batch);
+                    save(current);
+                }
+            }
+        } catch (CustomException e) {
+            log.error("재채점 작업 실패 - 작업 ID: {}, 체크포인트: {}, {}",
+                    current.getJobId(), current.getLastAnswerId(), e.getMessage());
+            save(current.failed(e.getErrorCode(), e.getMessage()));
+        } catch (Exception e) {
+            log.error("재채점 작업 실패 - 작업 ID: {}, 체크포인트: {}, {} - {}",
+                    current.getJobId(), current.getLastAnswerId(), e.getClass().getSimpleName(), e.getMessage());
+            save(current.failed(ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage()));
+        } finally {
+            rescoringJobRepository.releaseLock(runId);
+        }
+    }
+
+    /**
+     * 배치 1개 평가 + 반영
+     * 응답 형식 위반으로 배치 전체를 평가하지 못하면 모두 실패로 세고 넘어감 (AI 장애는 작업 실패로 전파)
+     */
+    private RescoringJobResponse rescore(RescoringJobResponse job, List<Answer> batch) {
+        long startedAt = System.nanoTime();
+
+        List<EvaluationResult> results;
+        try {
+            results = AiRequestScheduler.background(() -> aiService.evaluateAnswers(batch));
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.AI_RESPONSE_PARSE_ERROR) {
+                throw e;
+            }
+            log.warn("재채점 배치 응답 파싱 실패, 건너뜀 - 답변 ID: {} ~ {}",
+                    batch.get(0).getId(), batch.get(batch.size() - 1).getId());
+            results = List.of();
+        }
+
+        Map<Long, EvaluationResult> evaluations = new HashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) != null) {
+                evaluations.put(batch.get(i).getId(), results.get(i));
+            }
+        }
+        int rescored = evaluations.isEmpty() ? 0 : interviewPersistenceService.applyRescoring(evaluations);
+        int failed = batch.size() - evaluations.size();
+
+        long nanos = System.nanoTime() - startedAt;
+        aiMetrics.recordRescoringBatch(rescored, failed, nanos);
+        log.debug("재채점 배치 완료 - 답변 수: {}, 재채점: {}, 실패: {}", batch.size(), rescored, failed);
+
+        return job.advance(batch.get(batch.size() - 1).getId(), batch.size(), rescored, failed, nanos);
+    }
+
+    private void validateAdmin(String email) {
+        List<String> admins = properties.adminEmails();
+        if (admins == null || !admins.contains(email)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    /**
+     * 체크포인트 조회 (실행 중으로 저장되었지만 실행 중 표시가 만료되었으면 서버가 중단된 것이므로 PAUSED)
+     */
+    private RescoringJobResponse find() {
+        String json = rescoringJobRepository.find();
+        if (json == null) {
+            throw new CustomException(ErrorCode.RESCORING_JOB_NOT_FOUND);
+        }
+
+        RescoringJobResponse job = read(json);
+        if (job.getStatus() == RescoringJobResponse.Status.RUNNING && !rescoringJobRepository.isLocked()) {
+            return job.paused();
+        }
+        return job;
+    }
+
+    private void save(RescoringJobResponse job) {
+        try {
+            rescoringJobRepository.save(objectMapper.writeValueAsString(job), properties.checkpointTtlMinutes());
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private RescoringJobResponse read(String json) {
+        try {
+            return objectMapper.readValue(json, RescoringJobResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
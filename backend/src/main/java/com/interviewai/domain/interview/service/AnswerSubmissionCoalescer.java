@@ -0,0 +1,292 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
+import com.interviewai.domain.interview.dto.AnswerSubmitResponse;
+import com.interviewai.global.config.IdempotencyProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.infra.redis.AnswerIdempotencyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 답변 제출 중복 요청 병합
+ *
+ * 더블 클릭/클라이언트 재시도로 같은 답변이 여러 번 들어와도 AI 평가와 다음 질문 생성은 한 번만 실행한다.
+ * - 단일 실행: 같은 (사용자, 면접, 질문)의 제출이 진행 중이면 새로 실행하지 않고 그 결과를 함께 받음 (인스턴스 내)
+ * - Idempotency-Key: 결과를 Redis에 보관해 같은 키의 이후 요청에는 저장된 결과를 반환 (인스턴스 간)
+ *   다른 인스턴스에서 같은 키를 처리 중이면 ANSWER_SUBMISSION_IN_PROGRESS
+ * - Redis 장애 시에는 Idempotency-Key를 적용하지 않고 인스턴스 내 단일 실행만으로 처리 (답변 제출은 막지 않음)
+ * MVC(/api/interviews)와 리액티브(/api/reactive/interviews) 답변 제출이 같은 진행 중 목록을 공유한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AnswerSubmissionCoalescer {
+
+    /** Redis에 저장하는 처리 중 표시 (응답 JSON과 구분) */
+    private static final String PENDING = "PENDING";
+
+    private final InterviewService interviewService;
+    private final ReactiveInterviewService reactiveInterviewService;
+    private final AnswerIdempotencyRepository idempotencyRepository;
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<SubmissionKey, Submission> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 답변 제출 (중복 요청은 진행 중인 제출 또는 저장된 결과를 공유)
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 (없으면 null)
+     */
+    public AnswerSubmitResponse submit(String email, Long interviewId, AnswerSubmitRequest request,
+                                       String idempotencyKey) {
+        String key = StringUtils.hasText(idempotencyKey) ? idempotencyKey : null;
+        if (key != null) {
+            Optional<AnswerSubmitResponse> stored = findStoredIfAvailable(email, key, interviewId, request);
+            if (stored.isPresent()) {
+                log.debug("저장된 답변 제출 결과 반환 - 면접 ID: {}, 질문 ID: {}", interviewId, request.getQuestionId());
+                return stored.get();
+            }
+        }
+
+        SubmissionKey submissionKey = new SubmissionKey(email, interviewId, request.getQuestionId());
+        Submission submission = new Submission(request.getContent());
+        Submission existing = inFlight.putIfAbsent(submissionKey, submission);
+        if (existing != null) {
+            return join(joinExisting(existing, interviewId, request));
+        }
+
+        try {
+            AnswerSubmitResponse response = execute(email, interviewId, request, key);
+            submission.result().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            submission.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(submissionKey, submission);
+        }
+    }
+
+    /**
+     * 리액티브 답변 제출 (submit과 같은 병합 규칙)
+     * Redis 조회/등록은 블로킹 호출이므로 boundedElastic에서 실행한다.
+     * 먼저 들어온 요청의 연결이 끊겨도 제출은 끝까지 진행해 함께 기다리는 요청이 결과를 받도록 한다.
+     *
+     * @param idempotencyKey Idempotency-Key 헤더 (없으면 null)
+     */
+    public Mono<AnswerSubmitResponse> submitReactive(String email, Long interviewId, AnswerSubmitRequest request,
+                                                     String idempotencyKey) {
+        String key = StringUtils.hasText(idempotencyKey) ? idempotencyKey : null;
+        Mono<Optional<AnswerSubmitResponse>> stored = key != null
+                ? blocking(() -> findStoredIfAvailable(email, key, interviewId, request))
+                : Mono.just(Optional.empty());
+
+        return stored.flatMap(found -> {
+            if (found.isPresent()) {
+                log.debug("저장된 답변 제출 결과 반환 - 면접 ID: {}, 질문 ID: {}", interviewId, request.getQuestionId());
+                return Mono.just(found.get());
+            }
+
+            SubmissionKey submissionKey = new SubmissionKey(email, interviewId, request.getQuestionId());
+            Submission submission = new Submission(request.getContent());
+            Submission existing = inFlight.putIfAbsent(submissionKey, submission);
+            if (existing != null) {
+                return Mono.fromFuture(joinExisting(existing, interviewId, request), true);
+            }
+
+            executeReactive(email, interviewId, request, key)
+                    .doFinally(signal -> inFlight.remove(submissionKey, submission))
+                    .subscribe(submission.result()::complete, submission.result()::completeExceptionally);
+            return Mono.fromFuture(submission.result(), true);
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private CompletableFuture<AnswerSubmitResponse> joinExisting(Submission existing, Long interviewId,
+                                                                  AnswerSubmitRequest request) {
+        // 같은 질문에 다른 내용으로 제출한 요청은 중복이 아니므로 결과를 공유하지 않음
+        if (!Objects.equals(existing.content(), request.getContent())) {
+            throw new CustomException(ErrorCode.ANSWER_SUBMISSION_IN_PROGRESS);
+        }
+        log.debug("중복 답변 제출 병합 - 면접 ID: {}, 질문 ID: {}", interviewId, request.getQuestionId());
+        return existing.result();
+    }
+
+    private AnswerSubmitResponse execute(String email, Long interviewId, AnswerSubmitRequest request, String key) {
+        if (key == null) {
+            return interviewService.submitAnswer(email, interviewId, request);
+        }
+
+        Reservation reservation = reserve(email, key);
+        if (reservation == Reservation.UNAVAILABLE) {
+            return interviewService.submitAnswer(email, interviewId, request);
+        }
+        if (reservation == Reservation.TAKEN) {
+            return findStoredOrInProgress(email, key, interviewId, request);
+        }
+
+        AnswerSubmitResponse response;
+        try {
+            response = interviewService.submitAnswer(email, interviewId, request);
+        } catch (RuntimeException e) {
+            release(email, key);
+            throw e;
+        }
+
+        store(email, key, new StoredSubmission(interviewId, request.getQuestionId(), response));
+        return response;
+    }
+
+    private Mono<AnswerSubmitResponse> executeReactive(String email, Long interviewId, AnswerSubmitRequest request,
+                                                       String key) {
+        if (key == null) {
+            return reactiveInterviewService.submitAnswer(email, interviewId, request);
+        }
+
+        return blocking(() -> reserve(email, key)).flatMap(reservation -> switch (reservation) {
+            case UNAVAILABLE -> reactiveInterviewService.submitAnswer(email, interviewId, request);
+            case TAKEN -> blocking(() -> findStoredOrInProgress(email, key, interviewId, request));
+            case RESERVED -> reactiveInterviewService.submitAnswer(email, interviewId, request)
+                    .onErrorResume(error -> blocking(() -> {
+                        release(email, key);
+                        return true;
+                    }).then(Mono.error(error)))
+                    .flatMap(response -> blocking(() -> {
+                        store(email, key, new StoredSubmission(interviewId, request.getQuestionId(), response));
+                        return response;
+                    }));
+        });
+    }
+
+    /**
+     * 처리 중 표시 등록 (Redis 장애 시 UNAVAILABLE)
+     */
+    private Reservation reserve(String email, String key) {
+        try {
+            return idempotencyRepository.reserve(email, key, PENDING, properties.pendingTtlMinutes())
+                    ? Reservation.RESERVED
+                    : Reservation.TAKEN;
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 등록 실패, 인스턴스 내 병합만 적용 - {}", e.getMessage());
+            return Reservation.UNAVAILABLE;
+        }
+    }
+
+    // 실패한 요청은 같은 키로 재시도할 수 있도록 등록 해제 (해제 실패 시 처리 중 표시는 TTL 후 만료)
+    private void release(String email, String key) {
+        try {
+            idempotencyRepository.delete(email, key);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 등록 해제 실패 - {}", e.getMessage());
+        }
+    }
+
+    // 다른 인스턴스가 처리 중 (그 사이 완료되었으면 저장된 결과 반환)
+    private AnswerSubmitResponse findStoredOrInProgress(String email, String key, Long interviewId,
+                                                       AnswerSubmitRequest request) {
+        Optional<AnswerSubmitResponse> stored;
+        try {
+            stored = findStored(email, key, interviewId, request);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 조회 실패 - {}", e.getMessage());
+            stored = Optional.empty();
+        }
+        return stored.orElseThrow(() -> new CustomException(ErrorCode.ANSWER_SUBMISSION_IN_PROGRESS));
+    }
+
+    // Redis 장애 시 저장된 결과가 없는 것으로 보고 인스턴스 내 단일 실행으로 처리
+    private Optional<AnswerSubmitResponse> findStoredIfAvailable(String email, String key, Long interviewId,
+                                                                 AnswerSubmitRequest request) {
+        try {
+            return findStored(email, key, interviewId, request);
+        } catch (DataAccessException e) {
+            log.warn("Idempotency-Key 조회 실패, 인스턴스 내 병합만 적용 - 면접 ID: {}, {}", interviewId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<AnswerSubmitResponse> findStored(String email, String key, Long interviewId,
+                                                      AnswerSubmitRequest request) {
+        String value = idempotencyRepository.find(email, key);
+        if (value == null || PENDING.equals(value)) {
+            return Optional.empty();
+        }
+
+        StoredSubmission stored = read(value);
+        if (!stored.interviewId().equals(interviewId) || !stored.questionId().equals(request.getQuestionId())) {
+            throw new CustomException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+        }
+        return Optional.of(stored.response());
+    }
+
+    // 답변은 이미 반영되었으므로 결과 저장 실패는 응답에 영향을 주지 않음 (처리 중 표시는 TTL 후 만료)
+    private void store(String email, String key, StoredSubmission stored) {
+        try {
+            idempotencyRepository.save(email, key, objectMapper.writeValueAsString(stored),
+                    properties.resultTtlMinutes());
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("답변 제출 결과 저장 실패 - 면접 ID: {}, {}", stored.interviewId(), e.getMessage());
+        }
+    }
+
+    private StoredSubmission read(String json) {
+        try {
+            return objectMapper.readValue(json, StoredSubmission.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private AnswerSubmitResponse join(CompletableFuture<AnswerSubmitResponse> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> Mono<T> blocking(Supplier<T> work) {
+        return Mono.fromSupplier(work).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private enum Reservation {
+        RESERVED, TAKEN, UNAVAILABLE
+    }
+
+    private record SubmissionKey(String email, Long interviewId, Long questionId) {}
+
+    private record Submission(String content, CompletableFuture<AnswerSubmitResponse> result) {
+        private Submission(String content) {
+            this(content, new CompletableFuture<>());
+        }
+    }
+
+    /**
+     * Redis 저장 형식 (같은 키가 다른 질문에 재사용되었는지 확인하기 위해 대상도 함께 저장)
+     */
+    record StoredSubmission(Long interviewId, Long questionId, AnswerSubmitResponse response) {}
+}
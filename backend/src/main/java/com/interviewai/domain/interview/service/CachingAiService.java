@@ -0,0 +1,102 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Optional;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Question;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 답변 평가 결과를 캐시하는 데코레이터
+ * 같은 질문에 같은 내용으로 답한 경우 모델 호출(및 스케줄러 대기) 없이 캐시된 평가를 반환한다.
+ */
+@Slf4j
+public class CachingAiService extends DelegatingAiService {
+
+    private final EvaluationCache evaluationCache;
+
+    public CachingAiService(AiService delegate, EvaluationCache evaluationCache) {
+        super(delegate);
+        this.evaluationCache = evaluationCache;
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        if (!evaluationCache.isEnabled()) {
+            return delegate.evaluateAnswer(question, answer);
+        }
+
+        String key = evaluationCache.keyOf(question, answer);
+        Optional<EvaluationResult> cached = evaluationCache.get(key);
+        if (cached.isPresent()) {
+            log.debug("평가 캐시 적중 - 질문 ID: {}", question.getId());
+            return cached.get();
+        }
+
+        EvaluationResult evaluation = delegate.evaluateAnswer(question, answer);
+        putIfEvaluated(key, evaluation);
+        return evaluation;
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        if (!evaluationCache.isEnabled()) {
+            return delegate.evaluateAnswerStream(question, answer, listener);
+        }
+
+        // 캐시 적중 시 토큰 이벤트 없이 섹션 이벤트만 곧바로 전달
+        String key = evaluationCache.keyOf(question, answer);
+        Optional<EvaluationResult> cached = evaluationCache.get(key);
+        if (cached.isPresent()) {
+            log.debug("평가 캐시 적중 (스트리밍) - 질문 ID: {}", question.getId());
+            EvaluationResult evaluation = cached.get();
+            listener.onScore(evaluation.getScore());
+            listener.onFeedback(evaluation.getFeedback());
+            listener.onModelAnswer(evaluation.getModelAnswer());
+            return evaluation;
+        }
+
+        EvaluationResult evaluation = delegate.evaluateAnswerStream(question, answer, listener);
+        putIfEvaluated(key, evaluation);
+        return evaluation;
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        if (!evaluationCache.isEnabled()) {
+            return delegate.evaluateAnswerReactive(question, answer, listener);
+        }
+
+        // Redis 계층 조회/저장은 블로킹이므로 boundedElastic에서 실행
+        String key = evaluationCache.keyOf(question, answer);
+        return Mono.fromCallable(() -> evaluationCache.get(key))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    if (cached.isPresent()) {
+                        log.debug("평가 캐시 적중 (리액티브) - 질문 ID: {}", question.getId());
+                        EvaluationResult evaluation = cached.get();
+                        listener.onScore(evaluation.getScore());
+                        listener.onFeedback(evaluation.getFeedback());
+                        listener.onModelAnswer(evaluation.getModelAnswer());
+                        return Mono.just(evaluation);
+                    }
+                    return delegate.evaluateAnswerReactive(question, answer, listener)
+                            .flatMap(evaluation -> Mono.fromRunnable(() -> putIfEvaluated(key, evaluation))
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .thenReturn(evaluation));
+                });
+    }
+
+    // 평가 지연 결과와 파싱 실패 결과는 캐시하지 않음 (다음 평가에서 모델을 다시 호출해야 함)
+    private void putIfEvaluated(String key, EvaluationResult evaluation) {
+        if (!evaluation.isDeferred() && !evaluation.isParseFallback()) {
+            evaluationCache.put(key, evaluation);
+        }
+    }
+}
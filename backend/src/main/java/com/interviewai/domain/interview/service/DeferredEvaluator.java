@@ -0,0 +1,194 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.global.config.DeferredEvaluationProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지연 평가 대기열 처리
+ *
+ * 평가를 미룬 답변(지연 평가 모드, AI 장애 시 대체 응답)은 DB에 QUEUED 상태로 저장되고,
+ * 워커 풀이 선점(claim) 후 평가해 반영한다. 상태가 DB에 있으므로 서버가 재시작되어도 이어서 처리하며,
+ * 선점은 조건부 UPDATE로 처리해 여러 서버가 같은 답변을 중복 평가하지 않는다.
+ * - 등록 직후 바로 워커에 넘기고, 놓친 답변(실행기 포화, 재시작, 재시도)은 주기적 폴링으로 처리
+ * - 실패 시 시도 횟수에 비례해 재시도를 미루고, 최대 시도 횟수에 도달하면 FAILED
+ * - 결과는 선점이 유지되는 동안만 반영 (선점이 만료되어 다른 워커가 다시 가져간 답변은 덮어쓰지 않음)
+ * - 반영 후 기다리던 누적 요약 갱신에 결과를 넘김
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class DeferredEvaluator {
+
+    private final AiService aiService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final ThreadPoolTaskExecutor evaluationTaskExecutor;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final RollingSummaryUpdater rollingSummaryUpdater;
+    private final DeferredEvaluationProperties properties;
+
+    // 이 서버에서 워커에 넘긴 답변 (같은 답변을 실행기에 중복 등록하지 않음)
+    private final Map<Long, Dispatch> dispatched = new ConcurrentHashMap<>();
+
+    /**
+     * 지연 평가 모드 여부 (답변 제출 시 평가를 기다리지 않음)
+     */
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 대기열에 등록된 답변 평가를 바로 시작 (실행기가 가득 차면 다음 폴링에서 처리)
+     */
+    public void dispatch(Long answerId) {
+        dispatch(answerId, null);
+    }
+
+    /**
+     * 주기적으로 평가 시도 가능한 답변을 워커에 넘김
+     */
+    @Scheduled(initialDelayString = "${interview.ai.deferred-evaluation.poll-interval-ms}",
+               fixedDelayString = "${interview.ai.deferred-evaluation.poll-interval-ms}")
+    public void poll() {
+        List<Long> due = interviewPersistenceService.findDueEvaluations(properties.batchSize());
+        due.forEach(this::dispatch);
+    }
+
+    /**
+     * 면접의 남은 지연 평가가 끝날 때까지 대기 (최대 end-wait-ms)
+     * 사용자가 기다리는 평가이므로 재시도 대기 중인 답변도 바로 선점해 일반 우선순위로 실행하고
+     * (워커 대기열에 밀린 백그라운드 평가 뒤에 서지 않도록 aiTaskExecutor에서 실행),
+     * DB를 주기적으로 조회하지 않고 넘긴 작업이 끝나기를 기다린다.
+     *
+     * @return 모든 평가가 끝났으면 true
+     */
+    public boolean awaitInterview(Long interviewId) {
+        List<Long> queued = interviewPersistenceService.findQueuedEvaluations(interviewId);
+        if (queued.isEmpty()) {
+            return true;
+        }
+
+        CompletableFuture<?>[] tasks = queued.stream()
+                .map(answerId -> dispatch(answerId, interviewId))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(tasks).get(properties.endWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("지연 평가 대기 시간 초과 - 면접 ID: {}, 대기 평가: {}", interviewId, queued.size());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            // 평가 작업은 예외로 끝나지 않음
+            return false;
+        }
+        return interviewPersistenceService.findQueuedEvaluations(interviewId).isEmpty();
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * @param interviewId 면접 종료 대기 중인 면접 (null이면 백그라운드 평가)
+     * @return 평가 작업 종료 시 완료되는 future (실행기가 거절하면 바로 완료)
+     */
+    private CompletableFuture<Void> dispatch(Long answerId, Long interviewId) {
+        Dispatch dispatch = new Dispatch(interviewId, new CompletableFuture<>());
+        Dispatch existing = dispatched.putIfAbsent(answerId, dispatch);
+        if (existing != null) {
+            if (interviewId == null || existing.interviewId() != null) {
+                return existing.done();
+            }
+            // 면접 종료 대기는 백그라운드 우선순위로 넘긴 작업을 기다리지 않고 따로 선점
+            if (!dispatched.replace(answerId, existing, dispatch)) {
+                return dispatch(answerId, interviewId);
+            }
+        }
+
+        try {
+            ThreadPoolTaskExecutor executor = interviewId == null ? evaluationTaskExecutor : aiTaskExecutor;
+            executor.execute(() -> evaluate(answerId, dispatch));
+        } catch (TaskRejectedException e) {
+            dispatched.remove(answerId, dispatch);
+            dispatch.done().complete(null);
+            log.debug("지연 평가 실행 거절 - 답변 ID: {}", answerId);
+        }
+        return dispatch.done();
+    }
+
+    private void evaluate(Long answerId, Dispatch dispatch) {
+        boolean background = dispatch.interviewId() == null;
+        LocalDateTime leaseUntil = null;
+        try {
+            Optional<Answer> claimed = background
+                    ? interviewPersistenceService.claimEvaluation(answerId, properties.claimTimeoutMs())
+                    : interviewPersistenceService.claimInterviewEvaluation(
+                            dispatch.interviewId(), answerId, properties.claimTimeoutMs());
+            if (claimed.isEmpty()) {
+                return;
+            }
+
+            Answer answer = claimed.get();
+            leaseUntil = answer.getEvaluationAvailableAt();
+            Question question = answer.getQuestion();
+            EvaluationResult evaluation = background
+                    ? AiRequestScheduler.background(() -> aiService.evaluateAnswer(question, answer))
+                    : aiService.evaluateAnswer(question, answer);
+            if (evaluation.isDeferred()) {
+                throw new IllegalStateException("평가 지연 응답");
+            }
+
+            if (interviewPersistenceService.applyDeferredEvaluation(answerId, leaseUntil, evaluation)) {
+                log.debug("지연 평가 완료 - 답변 ID: {}, 점수: {}", answerId, evaluation.getScore());
+                rollingSummaryUpdater.onDeferredEvaluation(answerId, evaluation);
+            } else {
+                log.warn("선점 만료로 지연 평가 결과 폐기 - 답변 ID: {}", answerId);
+            }
+        } catch (Exception e) {
+            log.warn("지연 평가 실패 - 답변 ID: {}, {}", answerId, e.getMessage());
+            if (leaseUntil != null) {
+                release(answerId, leaseUntil);
+            }
+        } finally {
+            dispatched.remove(answerId, dispatch);
+            dispatch.done().complete(null);
+        }
+    }
+
+    private void release(Long answerId, LocalDateTime leaseUntil) {
+        try {
+            interviewPersistenceService.releaseEvaluation(
+                    answerId, leaseUntil, properties.retryDelayMs(), properties.maxAttempts());
+        } catch (Exception e) {
+            // 선점 만료 후 다시 처리됨
+            log.warn("지연 평가 실패 반영 실패 - 답변 ID: {}, {}", answerId, e.getMessage());
+        }
+    }
+
+    /**
+     * 워커에 넘긴 평가 작업
+     *
+     * @param interviewId 면접 종료 대기 중인 면접 (null이면 백그라운드 평가)
+     * @param done        작업 종료 시 완료
+     */
+    private record Dispatch(Long interviewId, CompletableFuture<Void> done) {}
+}
@@ -0,0 +1,77 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.List;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * AiService 데코레이터 기본 클래스
+ * 모든 호출을 delegate로 넘기며, 하위 클래스는 필요한 메서드만 재정의한다.
+ */
+public abstract class DelegatingAiService implements AiService {
+
+    protected final AiService delegate;
+
+    protected DelegatingAiService(AiService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String generateQuestion(Interview interview, Answer previousAnswer) {
+        return delegate.generateQuestion(interview, previousAnswer);
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        return delegate.evaluateAnswer(question, answer);
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        return delegate.evaluateAnswerStream(question, answer, listener);
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        return delegate.evaluateAnswers(answers);
+    }
+
+    @Override
+    public SummaryResult generateSummary(Interview interview) {
+        return delegate.generateSummary(interview);
+    }
+
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        return delegate.updateRollingSummary(interview, previousSummary, question, answer, evaluation);
+    }
+
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        return delegate.finalizeRollingSummary(interview, rollingSummary);
+    }
+
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        return delegate.generateQuestionReactive(interview, previousAnswer);
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        return delegate.evaluateAnswerReactive(question, answer, listener);
+    }
+
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        return delegate.generateSummaryReactive(interview);
+    }
+}
@@ -0,0 +1,190 @@
+package com.interviewai.domain.interview.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.domain.interview.service.PromptTemplateRegistry.Kind;
+import com.interviewai.global.config.EvaluationCacheProperties;
+import com.interviewai.infra.redis.EvaluationCacheRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 답변 평가 결과 캐시
+ *
+ * 키: (평가 모델, 평가 시스템 프롬프트 해시, 정규화한 질문 내용, 정규화한 답변 내용)의 SHA-256 해시
+ *   → 모델 경로나 평가 템플릿이 바뀌면 이전 평가를 재사용하지 않음
+ * - 1차: 인스턴스 로컬 캐시 (최대 크기 + TTL)
+ * - 2차: Redis (redis-enabled 시, 인스턴스 간 공유)
+ * 캐시 장애는 평가 흐름을 막지 않도록 로그만 남기고 미스로 처리한다.
+ */
+@Slf4j
+@Component
+public class EvaluationCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final EvaluationCacheProperties properties;
+    private final EvaluationCacheRepository evaluationCacheRepository;
+    private final ObjectMapper objectMapper;
+    private final AiModelRouter modelRouter;
+    private final PromptTemplateRegistry promptTemplates;
+    private final Kind evaluationTemplate;
+    private final Cache<String, EvaluationResult> localCache;
+
+    // 템플릿 버전별 평가 시스템 프롬프트 해시 (다시 읽을 때만 다시 계산)
+    private volatile TemplateDigest templateDigest;
+
+    // 통계
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public EvaluationCache(EvaluationCacheProperties properties,
+                           EvaluationCacheRepository evaluationCacheRepository,
+                           ObjectMapper objectMapper,
+                           AiModelRouter modelRouter,
+                           PromptTemplateRegistry promptTemplates,
+                           @Value("${interview.ai.output-format:text}") AiOutputFormat outputFormat) {
+        this.properties = properties;
+        this.evaluationCacheRepository = evaluationCacheRepository;
+        this.objectMapper = objectMapper;
+        this.modelRouter = modelRouter;
+        this.promptTemplates = promptTemplates;
+        this.evaluationTemplate = outputFormat == AiOutputFormat.JSON ? Kind.EVALUATION_JSON_SYSTEM : Kind.EVALUATION_SYSTEM;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(properties.maxSize())
+                .expireAfterWrite(Duration.ofMinutes(properties.ttlMinutes()))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * (평가 모델, 평가 템플릿, 질문, 답변) 캐시 키 생성
+     */
+    public String keyOf(Question question, Answer answer) {
+        String model = modelRouter.route(AiOperation.EVALUATION, question.getInterview()).model();
+        String source = model + '\u0000' + templateHash() + '\u0000'
+                + normalize(question.getContent()) + '\u0000' + normalize(answer.getContent());
+        return sha256(source);
+    }
+
+    public Optional<EvaluationResult> get(String key) {
+        EvaluationResult local = localCache.getIfPresent(key);
+        if (local != null) {
+            localHits.increment();
+            return Optional.of(local);
+        }
+
+        if (properties.redisEnabled()) {
+            EvaluationResult shared = findShared(key);
+            if (shared != null) {
+                redisHits.increment();
+                localCache.put(key, shared);
+                return Optional.of(shared);
+            }
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, EvaluationResult evaluation) {
+        localCache.put(key, evaluation);
+
+        if (properties.redisEnabled()) {
+            try {
+                evaluationCacheRepository.save(key, objectMapper.writeValueAsString(evaluation),
+                        properties.ttlMinutes());
+            } catch (Exception e) {
+                log.warn("평가 캐시 Redis 저장 실패 - {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 현재 캐시 통계
+     */
+    public Stats getStats() {
+        return new Stats(localHits.sum(), redisHits.sum(), misses.sum(), localCache.estimatedSize());
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private String templateHash() {
+        long version = promptTemplates.version();
+        TemplateDigest digest = templateDigest;
+        if (digest == null || digest.version() != version) {
+            digest = new TemplateDigest(version, sha256(promptTemplates.get(evaluationTemplate, null, null)));
+            templateDigest = digest;
+        }
+        return digest.hash();
+    }
+
+    private static String sha256(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 유니코드 정규화(NFC) + 소문자 + 공백 압축
+     */
+    private String normalize(String content) {
+        if (content == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private EvaluationResult findShared(String key) {
+        try {
+            String json = evaluationCacheRepository.findByKey(key);
+            return json != null ? objectMapper.readValue(json, EvaluationResult.class) : null;
+        } catch (JsonProcessingException e) {
+            log.warn("평가 캐시 역직렬화 실패 - {}", e.getMessage());
+            return null;
+        } catch (Exception e) {
+            log.warn("평가 캐시 Redis 조회 실패 - {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private record TemplateDigest(long version, String hash) {}
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public record Stats(
+        long localHits,
+        long redisHits,
+        long misses,
+        long size
+    ) {}
+}
@@ -0,0 +1,86 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import com.interviewai.domain.interview.entity.InterviewType;
+
+/**
+ * 면접 유형별 종합 평가 카테고리 (레이더 차트 축)
+ */
+public final class EvaluationCategories {
+
+    /** 유형별 카테고리 (요청마다 새 목록을 만들지 않도록 클래스 로딩 시 한 번 구성) */
+    private static final Map<InterviewType, List<String>> CATEGORIES = new EnumMap<>(InterviewType.class);
+
+    static {
+        for (InterviewType type : InterviewType.values()) {
+            CATEGORIES.put(type, build(type));
+        }
+    }
+
+    private EvaluationCategories() {
+    }
+
+    /**
+     * 면접 유형별 평가 카테고리 반환 (수정 불가 목록)
+     */
+    public static List<String> forType(InterviewType type) {
+        return CATEGORIES.get(type);
+    }
+
+    private static List<String> build(InterviewType type) {
+        return switch (type) {
+            case BACKEND -> List.of(
+                    "기본 지식",      // 언어, 프레임워크 기초
+                    "설계/아키텍처",  // 시스템 설계, 디자인 패턴
+                    "데이터베이스",   // SQL, ORM, 최적화
+                    "문제 해결",      // 디버깅, 트러블슈팅
+                    "커뮤니케이션"    // 답변의 명확성, 논리성
+            );
+            case FRONTEND -> List.of(
+                    "기본 지식",      // HTML, CSS, JS 기초
+                    "프레임워크",     // React, Vue 등
+                    "UI/UX 이해",     // 사용자 경험, 접근성
+                    "성능 최적화",    // 렌더링, 번들 최적화
+                    "커뮤니케이션"
+            );
+            case FULLSTACK -> List.of(
+                    "프론트엔드",
+                    "백엔드",
+                    "데이터베이스",
+                    "시스템 통합",    // API 설계, 전체 아키텍처
+                    "커뮤니케이션"
+            );
+            case DEVOPS -> List.of(
+                    "CI/CD",
+                    "클라우드/인프라",
+                    "컨테이너/오케스트레이션",
+                    "모니터링/로깅",
+                    "보안"
+            );
+            case DATA -> List.of(
+                    "데이터 처리",    // ETL, 파이프라인
+                    "SQL/쿼리",
+                    "분산 시스템",    // Spark, Hadoop
+                    "데이터 모델링",
+                    "커뮤니케이션"
+            );
+            case MOBILE -> List.of(
+                    "기본 지식",      // 플랫폼별 기초
+                    "UI/UX",
+                    "성능 최적화",
+                    "네이티브 API",
+                    "커뮤니케이션"
+            );
+            case OTHER -> List.of(
+                    "기본 지식",      // 직무 관련 기초
+                    "실무 역량",      // 실제 업무 수행 능력
+                    "문제 해결",      // 트러블슈팅, 논리적 사고
+                    "도구/기술",      // 관련 도구 및 기술 스택
+                    "커뮤니케이션"    // 답변의 명확성, 논리성
+            );
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * 스트리밍 답변 평가 수신자
+ *
+ * 토큰은 도착하는 즉시, 점수/피드백/모범답안은 해당 섹션이 끝나는 즉시 전달된다.
+ * 최종 평가 결과는 evaluateAnswerStream의 반환값이 기준이다.
+ */
+@FunctionalInterface
+public interface EvaluationStreamListener {
+
+    void onToken(String token);
+
+    default void onScore(int score) {
+    }
+
+    default void onFeedback(String feedback) {
+    }
+
+    default void onModelAnswer(String modelAnswer) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewDifficulty;
+import com.interviewai.domain.interview.entity.InterviewType;
+import com.interviewai.global.config.QuestionPoolProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 첫 질문 사전 생성 풀
+ *
+ * 첫 질문 프롬프트는 (유형, 난이도)에만 의존하므로 키별로 미리 생성해 두고
+ * 면접 시작 시 꺼내 쓴다. 풀 크기가 low-watermark 아래로 내려가면
+ * 백그라운드에서 high-watermark까지 채운다.
+ * 보충은 이 인스턴스에서 최근(max-age-minutes 이내)에 꺼내 쓴 키만 대상으로 하므로,
+ * 요청이 없는 키나 인스턴스는 모델을 호출하지 않는다.
+ * 직접 입력한 직무(customType)는 키 공간이 열려 있어 풀을 사용하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class FirstQuestionPool {
+
+    private final AiService aiService;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final QuestionPoolProperties properties;
+
+    private final Map<PoolKey, Deque<PooledQuestion>> pools = new ConcurrentHashMap<>();
+    private final Set<PoolKey> refilling = ConcurrentHashMap.newKeySet();
+
+    // 키별 마지막 사용 시각 (주기 보충 대상 판단)
+    private final Map<PoolKey, Instant> lastPolled = new ConcurrentHashMap<>();
+
+    /**
+     * 풀에서 첫 질문 꺼내기
+     *
+     * @return 사전 생성된 질문 (풀이 비었거나 사용 불가 시 empty → 동기 생성으로 대체)
+     */
+    public Optional<String> poll(InterviewType type, InterviewDifficulty difficulty, String customType) {
+        if (!properties.enabled() || StringUtils.hasText(customType)) {
+            return Optional.empty();
+        }
+
+        PoolKey key = new PoolKey(type, difficulty);
+        Deque<PooledQuestion> pool = getPool(key);
+        lastPolled.put(key, Instant.now());
+
+        PooledQuestion pooled = pool.pollFirst();
+        while (pooled != null && isExpired(pooled)) {
+            pooled = pool.pollFirst();
+        }
+
+        if (pool.size() < properties.lowWatermark()) {
+            requestRefill(key);
+        }
+
+        if (pooled == null) {
+            log.debug("첫 질문 풀 비어있음 - 유형: {}, 난이도: {}", type, difficulty);
+            return Optional.empty();
+        }
+        return Optional.of(pooled.content());
+    }
+
+    /**
+     * 주기적으로 만료된 질문을 제거하고, 최근에 사용된 키의 부족한 풀만 보충
+     * 오래 사용되지 않은 키는 보충하지 않고 남은 질문이 만료되면 풀에서 제거한다.
+     */
+    @Scheduled(initialDelayString = "${interview.ai.question-pool.refill-interval-ms}",
+               fixedDelayString = "${interview.ai.question-pool.refill-interval-ms}")
+    public void refillAll() {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        Instant idleBefore = Instant.now().minus(Duration.ofMinutes(properties.maxAgeMinutes()));
+        pools.forEach((key, pool) -> {
+            pool.removeIf(this::isExpired);
+
+            Instant polledAt = lastPolled.get(key);
+            if (polledAt == null || polledAt.isBefore(idleBefore)) {
+                if (pool.isEmpty()) {
+                    pools.remove(key, pool);
+                    lastPolled.remove(key, polledAt);
+                }
+                return;
+            }
+
+            if (pool.size() < properties.lowWatermark()) {
+                requestRefill(key);
+            }
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Deque<PooledQuestion> getPool(PoolKey key) {
+        return pools.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+    }
+
+    private void requestRefill(PoolKey key) {
+        // 키별로 보충 작업은 하나만 실행
+        if (!refilling.add(key)) {
+            return;
+        }
+
+        try {
+            aiTaskExecutor.execute(() -> refill(key));
+        } catch (TaskRejectedException e) {
+            refilling.remove(key);
+            log.warn("첫 질문 풀 보충 작업 거절 - 키: {}", key);
+        }
+    }
+
+    private void refill(PoolKey key) {
+        try {
+            Deque<PooledQuestion> pool = getPool(key);
+            Interview draft = Interview.builder()
+                    .type(key.type())
+                    .difficulty(key.difficulty())
+                    .build();
+
+            while (pool.size() < properties.highWatermark()) {
+                String content = AiRequestScheduler.background(() -> aiService.generateQuestion(draft, null));
+                pool.addLast(new PooledQuestion(content, Instant.now()));
+            }
+            log.debug("첫 질문 풀 보충 완료 - 키: {}, 크기: {}", key, pool.size());
+        } catch (Exception e) {
+            log.warn("첫 질문 풀 보충 실패 - 키: {}, {}", key, e.getMessage());
+        } finally {
+            refilling.remove(key);
+        }
+    }
+
+    private boolean isExpired(PooledQuestion pooled) {
+        Duration age = Duration.between(pooled.createdAt(), Instant.now());
+        return age.toMinutes() >= properties.maxAgeMinutes();
+    }
+
+    private record PoolKey(InterviewType type, InterviewDifficulty difficulty) {}
+
+    private record PooledQuestion(String content, Instant createdAt) {}
+}
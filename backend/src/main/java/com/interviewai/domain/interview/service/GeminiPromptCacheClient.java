@@ -0,0 +1,61 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.google.genai.Client;
+import com.google.genai.types.CachedContent;
+import com.google.genai.types.CachedContentUsageMetadata;
+import com.google.genai.types.Content;
+import com.google.genai.types.CreateCachedContentConfig;
+import com.google.genai.types.DeleteCachedContentConfig;
+import com.google.genai.types.Part;
+import com.google.genai.types.UpdateCachedContentConfig;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gemini 컨텍스트 캐시 (cachedContents API)
+ */
+@RequiredArgsConstructor
+@Profile("!loadtest")
+@Component
+public class GeminiPromptCacheClient implements PromptCacheClient {
+
+    private static final String DISPLAY_NAME = "interview-ai-system-prompt";
+
+    private final Client client;
+
+    @Override
+    public Handle create(String model, String systemPrompt, Duration ttl) {
+        CachedContent cached = client.caches.create(model, CreateCachedContentConfig.builder()
+                .systemInstruction(Content.fromParts(Part.fromText(systemPrompt)))
+                .displayName(DISPLAY_NAME)
+                .ttl(ttl)
+                .build());
+
+        String name = cached.name()
+                .orElseThrow(() -> new IllegalStateException("캐시 이름이 없는 응답"));
+        Instant expireTime = cached.expireTime().orElseGet(() -> Instant.now().plus(ttl));
+        int tokens = cached.usageMetadata()
+                .flatMap(CachedContentUsageMetadata::totalTokenCount)
+                .orElseGet(() -> TokenEstimator.estimate(systemPrompt));
+        return new Handle(name, expireTime, tokens);
+    }
+
+    @Override
+    public Instant refresh(String name, Duration ttl) {
+        CachedContent cached = client.caches.update(name, UpdateCachedContentConfig.builder()
+                .ttl(ttl)
+                .build());
+        return cached.expireTime().orElseGet(() -> Instant.now().plus(ttl));
+    }
+
+    @Override
+    public void delete(String name) {
+        client.caches.delete(name, DeleteCachedContentConfig.builder().build());
+    }
+}
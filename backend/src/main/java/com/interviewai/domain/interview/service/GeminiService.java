@@ -1,31 +1,72 @@
 package com.interviewai.domain.interview.service;
 
-import java.util.Arrays;
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.google.genai.GoogleGenAiChatOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import com.interviewai.domain.interview.dto.EvaluationResult;
 import com.interviewai.domain.interview.dto.SummaryResult;
 import com.interviewai.domain.interview.entity.Answer;
 import com.interviewai.domain.interview.entity.Interview;
-import com.interviewai.domain.interview.entity.InterviewType;
 import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.domain.interview.service.AiModelRouter.AiRoute;
+import com.interviewai.domain.interview.service.PromptTemplateRegistry.Kind;
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.global.config.SummaryBudgetProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @RequiredArgsConstructor
+@Qualifier("aiBackend")
+@Profile("!loadtest")
 @Service
 public class GeminiService implements AiService {
 
+    /** JSON 출력 모드 요청 옵션 (모델 기본 옵션에 병합) */
+    private static final GoogleGenAiChatOptions JSON_OPTIONS = GoogleGenAiChatOptions.builder()
+            .responseMimeType("application/json")
+            .build();
+
+    private static final String SCHEMA_RETRY_NOTICE =
+            "\n\n이전 응답이 요구한 JSON 스키마를 위반했습니다 (%s). 스키마에 맞는 JSON 객체 하나만 다시 응답하세요.";
+
+    /** 답변 요약본의 최소 글자 수 (예산을 맞추기 위해 더 줄이지 않음) */
+    private static final int MIN_DIGEST_CHARS = 50;
+
     private final ChatClient chatClient;
+    private final AiTokenUsageTracker tokenUsageTracker;
+    private final AiMetrics aiMetrics;
+    private final SummaryBudgetProperties summaryBudget;
+    private final PromptTemplateRegistry promptTemplates;
+    private final PromptCacheManager promptCache;
+    private final AiModelRouter modelRouter;
+
+    /** 평가/종합 평가 응답 형식 (text: 텍스트 섹션 파싱, json: 스키마 검증 JSON) */
+    @Value("${interview.ai.output-format:text}")
+    private AiOutputFormat outputFormat;
 
     /**
      * 면접 질문 생성
@@ -36,33 +77,36 @@ public class GeminiService implements AiService {
      */
     @Override
     public String generateQuestion(Interview interview, Answer previousAnswer) {
-        String systemPrompt = buildQuestionSystemPrompt(interview);
-        String userPrompt;
-
-        if (previousAnswer == null) {
-            // 첫 질문
-            userPrompt = buildFirstQuestionUserPrompt(interview);
-        } else if (interview.isFollowUpEnabled()) {
-            // 꼬리질문 활성화: 이전 답변 기반 질문
-            userPrompt = buildFollowUpQuestionUserPrompt(interview, previousAnswer);
-        } else {
-            // 꼬리질문 비활성화: 새로운 주제 질문
-            userPrompt = buildNewTopicQuestionUserPrompt(interview, previousAnswer);
-        }
+        String systemPrompt = promptTemplates.get(Kind.QUESTION_SYSTEM, interview);
+        String userPrompt = buildQuestionUserPrompt(interview, previousAnswer);
+        AiRoute route = modelRouter.route(AiOperation.QUESTION, interview);
 
         log.debug("질문 생성 요청 - 유형: {}, 난이도: {}, 꼬리질문: {}",
                 interview.getType(), interview.getDifficulty(), interview.isFollowUpEnabled());
 
-        String response = chatClient.prompt()
-                .system(systemPrompt)
-                .user(userPrompt)
-                .call()
-                .content();
+        String response = call(route, interview.getId(), systemPrompt, userPrompt, null);
 
         log.debug("생성된 질문: {}", response);
         return response.trim();
     }
 
+    /**
+     * 면접 질문 생성 (논블로킹 스트리밍 호출, 응답 조각을 모아 반환)
+     */
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        String systemPrompt = promptTemplates.get(Kind.QUESTION_SYSTEM, interview);
+        String userPrompt = buildQuestionUserPrompt(interview, previousAnswer);
+        AiRoute route = modelRouter.route(AiOperation.QUESTION, interview);
+
+        return Mono.defer(() -> {
+            StringBuilder response = new StringBuilder();
+            return streamReactive(route, interview.getId(), systemPrompt, userPrompt, null,
+                    response::append)
+                    .then(Mono.fromSupplier(() -> response.toString().trim()));
+        });
+    }
+
     /**
      * 답변 평가
      *
@@ -73,28 +117,142 @@ public class GeminiService implements AiService {
     @Override
     public EvaluationResult evaluateAnswer(Question question, Answer answer) {
         // 무응답(빈 답변)인 경우 0점 처리
-        if (answer.getContent() == null || answer.getContent().trim().isEmpty()) {
+        if (isBlankAnswer(answer)) {
             log.debug("무응답 감지 - 질문 ID: {}, 0점 처리", question.getId());
-            return EvaluationResult.builder()
-                    .score(0)
-                    .feedback("답변이 제출되지 않았습니다.")
-                    .modelAnswer("질문에 대한 답변을 작성해주세요.")
-                    .build();
+            return blankAnswerResult();
         }
 
-        String systemPrompt = buildEvaluationSystemPrompt();
+        Long interviewId = question.getInterview().getId();
+        AiRoute route = modelRouter.route(AiOperation.EVALUATION, question.getInterview());
         String userPrompt = buildEvaluationUserPrompt(question, answer);
 
-        log.debug("답변 평가 요청 - 질문 ID: {}", question.getId());
+        log.debug("답변 평가 요청 - 질문 ID: {}, 형식: {}", question.getId(), outputFormat);
+
+        if (outputFormat == AiOutputFormat.JSON) {
+            return callJson(route, interviewId, promptTemplates.get(Kind.EVALUATION_JSON_SYSTEM, null, null),
+                    userPrompt, () -> new JsonEvaluationDecoder(token -> { }));
+        }
 
-        String response = chatClient.prompt()
-                .system(systemPrompt)
-                .user(userPrompt)
-                .call()
-                .content();
+        String systemPrompt = promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null);
+        String response = call(route, interviewId, systemPrompt, userPrompt, null);
 
         log.debug("평가 응답: {}", response);
-        return parseEvaluationResponse(response);
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(token -> { });
+        parser.feed(response);
+        return finishEvaluation(parser);
+    }
+
+    /**
+     * 답변 일괄 평가 (재채점 작업)
+     * 구독 등급별로 묶어 등급마다 JSON 호출 한 번으로 평가하고, 응답은 항목별로 검증해 위반한 항목만 null로 반환
+     *
+     * @param answers 평가할 답변 (질문 + 면접 로딩)
+     * @return answers와 같은 순서의 평가 결과
+     */
+    @Override
+    public List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        List<EvaluationResult> results = new ArrayList<>(Collections.nCopies(answers.size(), null));
+        Map<SubscriptionType, List<Integer>> indexesByTier = new EnumMap<>(SubscriptionType.class);
+        for (int i = 0; i < answers.size(); i++) {
+            Answer answer = answers.get(i);
+            if (isBlankAnswer(answer)) {
+                results.set(i, blankAnswerResult());
+                continue;
+            }
+            indexesByTier.computeIfAbsent(AiModelRouter.tierOf(answer.getQuestion().getInterview()),
+                    tier -> new ArrayList<>()).add(i);
+        }
+
+        String systemPrompt = promptTemplates.get(Kind.EVALUATION_BATCH_SYSTEM, null, null);
+        indexesByTier.forEach((tier, indexes) -> {
+            AiRoute route = modelRouter.route(AiOperation.EVALUATION, tier);
+            List<Answer> batch = indexes.stream().map(answers::get).toList();
+            String userPrompt = buildBatchEvaluationUserPrompt(batch);
+
+            log.debug("일괄 평가 요청 - 등급: {}, 답변 수: {}", tier, batch.size());
+
+            List<EvaluationResult> evaluated = withSchemaRetry(AiOperation.EVALUATION, userPrompt, prompt ->
+                    JsonBatchEvaluationDecoder.decode(call(route, null, systemPrompt, prompt, JSON_OPTIONS),
+                            batch.size()));
+            for (int i = 0; i < indexes.size(); i++) {
+                if (evaluated.get(i) == null) {
+                    aiMetrics.recordParseFailure(AiOperation.EVALUATION, "skipped");
+                }
+                results.set(indexes.get(i), evaluated.get(i));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * 답변 평가 (스트리밍)
+     * 모델 응답 조각을 도착 즉시 전달하면서 증분 파싱하고, 섹션이 끝날 때마다 점수/피드백/모범답안을 전달
+     * JSON 형식에서는 응답 조각(JSON 문법) 대신 필드가 완성될 때마다 점수/피드백/모범답안만 전달
+     *
+     * @param question 질문 엔티티
+     * @param answer   답변 엔티티
+     * @param listener 응답 조각 / 섹션 완료 수신자
+     * @return 평가 결과 (점수, 피드백, 모범답안)
+     */
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        if (isBlankAnswer(answer)) {
+            log.debug("무응답 감지 - 질문 ID: {}, 0점 처리", question.getId());
+            return blankAnswerResult();
+        }
+
+        Long interviewId = question.getInterview().getId();
+        AiRoute route = modelRouter.route(AiOperation.EVALUATION, question.getInterview());
+        String userPrompt = buildEvaluationUserPrompt(question, answer);
+
+        log.debug("답변 평가 스트리밍 요청 - 질문 ID: {}, 형식: {}", question.getId(), outputFormat);
+
+        if (outputFormat == AiOutputFormat.JSON) {
+            return streamJson(route, interviewId, promptTemplates.get(Kind.EVALUATION_JSON_SYSTEM, null, null),
+                    userPrompt, () -> new JsonEvaluationDecoder(listener));
+        }
+
+        String systemPrompt = promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null);
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(listener);
+        stream(route, interviewId, systemPrompt, userPrompt, null, token -> {
+            listener.onToken(token);
+            parser.feed(token);
+        });
+
+        EvaluationResult evaluation = finishEvaluation(parser);
+        log.debug("평가 응답 - 점수: {}", evaluation.getScore());
+        return evaluation;
+    }
+
+    /**
+     * 답변 평가 (논블로킹 스트리밍) - 수신자 호출 규칙은 evaluateAnswerStream과 동일
+     */
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        if (isBlankAnswer(answer)) {
+            log.debug("무응답 감지 - 질문 ID: {}, 0점 처리", question.getId());
+            return Mono.just(blankAnswerResult());
+        }
+
+        Long interviewId = question.getInterview().getId();
+        AiRoute route = modelRouter.route(AiOperation.EVALUATION, question.getInterview());
+        String userPrompt = buildEvaluationUserPrompt(question, answer);
+
+        if (outputFormat == AiOutputFormat.JSON) {
+            return streamJsonReactive(route, interviewId, promptTemplates.get(Kind.EVALUATION_JSON_SYSTEM, null, null),
+                    userPrompt, () -> new JsonEvaluationDecoder(listener));
+        }
+
+        String systemPrompt = promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null);
+        return Mono.defer(() -> {
+            StreamingEvaluationParser parser = new StreamingEvaluationParser(listener);
+            return streamReactive(route, interviewId, systemPrompt, userPrompt, null, token -> {
+                listener.onToken(token);
+                parser.feed(token);
+            }).then(Mono.fromSupplier(() -> finishEvaluation(parser)));
+        });
     }
 
     /**
@@ -105,228 +263,465 @@ public class GeminiService implements AiService {
      */
     @Override
     public SummaryResult generateSummary(Interview interview) {
-        List<String> categories = getCategoriesForType(interview.getType());
-        String systemPrompt = buildSummarySystemPrompt(categories);
+        List<String> categories = EvaluationCategories.forType(interview.getType());
         String userPrompt = buildSummaryUserPrompt(interview, categories);
 
-        log.debug("종합 평가 요청 - 면접 ID: {}, 카테고리: {}", interview.getId(), categories);
-
-        String response = chatClient.prompt()
-                .system(systemPrompt)
-                .user(userPrompt)
-                .call()
-                .content();
-
-        log.debug("종합 평가 응답: {}", response);
-        return parseSummaryResponse(response, categories);
-    }
-
-    /**
-     * 면접 유형별 평가 카테고리 반환
-     */
-    private List<String> getCategoriesForType(InterviewType type) {
-        return switch (type) {
-            case BACKEND -> Arrays.asList(
-                    "기본 지식",      // 언어, 프레임워크 기초
-                    "설계/아키텍처",  // 시스템 설계, 디자인 패턴
-                    "데이터베이스",   // SQL, ORM, 최적화
-                    "문제 해결",      // 디버깅, 트러블슈팅
-                    "커뮤니케이션"    // 답변의 명확성, 논리성
-            );
-            case FRONTEND -> Arrays.asList(
-                    "기본 지식",      // HTML, CSS, JS 기초
-                    "프레임워크",     // React, Vue 등
-                    "UI/UX 이해",     // 사용자 경험, 접근성
-                    "성능 최적화",    // 렌더링, 번들 최적화
-                    "커뮤니케이션"
-            );
-            case FULLSTACK -> Arrays.asList(
-                    "프론트엔드",
-                    "백엔드",
-                    "데이터베이스",
-                    "시스템 통합",    // API 설계, 전체 아키텍처
-                    "커뮤니케이션"
-            );
-            case DEVOPS -> Arrays.asList(
-                    "CI/CD",
-                    "클라우드/인프라",
-                    "컨테이너/오케스트레이션",
-                    "모니터링/로깅",
-                    "보안"
-            );
-            case DATA -> Arrays.asList(
-                    "데이터 처리",    // ETL, 파이프라인
-                    "SQL/쿼리",
-                    "분산 시스템",    // Spark, Hadoop
-                    "데이터 모델링",
-                    "커뮤니케이션"
-            );
-            case MOBILE -> Arrays.asList(
-                    "기본 지식",      // 플랫폼별 기초
-                    "UI/UX",
-                    "성능 최적화",
-                    "네이티브 API",
-                    "커뮤니케이션"
-            );
-            case OTHER -> Arrays.asList(
-                    "기본 지식",      // 직무 관련 기초
-                    "실무 역량",      // 실제 업무 수행 능력
-                    "문제 해결",      // 트러블슈팅, 논리적 사고
-                    "도구/기술",      // 관련 도구 및 기술 스택
-                    "커뮤니케이션"    // 답변의 명확성, 논리성
-            );
-        };
-    }
-
-    /**
-     * 종합 평가를 위한 시스템 프롬프트 구성
-     */
-    private String buildSummarySystemPrompt(List<String> categories) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("당신은 기술 면접 종합 평가자입니다.\n\n");
-        sb.append("면접 내용을 분석하고 반드시 아래 형식으로만 응답하세요:\n\n");
-        sb.append("=== 종합 평가 ===\n");
-        sb.append("[면접 전체에 대한 종합적인 평가를 작성. 강점, 약점, 개선점, 학습 추천 포함]\n\n");
-        sb.append("=== 전체 점수 ===\n");
-        sb.append("[1-10 사이 정수]\n\n");
-        sb.append("=== 카테고리별 점수 ===\n");
-
-        for (String category : categories) {
-            sb.append(String.format("%s: [1-10 사이 정수]\n", category));
+        log.debug("종합 평가 요청 - 면접 ID: {}, 카테고리: {}, 형식: {}", interview.getId(), categories, outputFormat);
+        return summarize(interview, categories, userPrompt);
+    }
+
+    /**
+     * 면접 종합 평가 (논블로킹 스트리밍, 응답이 끝나면 파싱)
+     */
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        List<String> categories = EvaluationCategories.forType(interview.getType());
+        String userPrompt = buildSummaryUserPrompt(interview, categories);
+        AiRoute route = modelRouter.route(AiOperation.SUMMARY, interview);
+
+        Mono<SummaryResult> summary;
+        if (outputFormat == AiOutputFormat.JSON) {
+            summary = streamJsonReactive(route, interview.getId(), promptTemplates.get(Kind.SUMMARY_JSON_SYSTEM, interview),
+                    userPrompt, () -> new JsonSummaryDecoder(categories));
+        } else {
+            String systemPrompt = promptTemplates.get(Kind.SUMMARY_SYSTEM, interview);
+            summary = Mono.defer(() -> {
+                StreamingSummaryParser parser = new StreamingSummaryParser(categories);
+                return streamReactive(route, interview.getId(), systemPrompt, userPrompt, null,
+                        parser::feed)
+                        .then(Mono.fromSupplier(() -> finishSummary(parser)));
+            });
         }
 
-        sb.append("\n점수 기준:\n");
-        sb.append("- 1-3점: 기초 부족\n");
-        sb.append("- 4-6점: 기본 이해\n");
-        sb.append("- 7-8점: 충분한 역량\n");
-        sb.append("- 9-10점: 우수한 역량\n\n");
-        sb.append("작성 형식 규칙:\n");
-        sb.append("- 종합 평가는 마크다운 형식으로 작성\n");
-        sb.append("- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n");
-        sb.append("- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n");
-        sb.append("- 중요한 키워드는 **볼드**로 강조\n");
-        sb.append("- 코드나 기술 용어는 `백틱`으로 감싸기");
+        return summary.doOnSuccess(result -> tokenUsageTracker.completeInterview(interview.getId()));
+    }
 
-        return sb.toString();
+    /**
+     * 누적 요약 갱신 (답변 1건 반영)
+     * 이전 누적 요약과 새 질문/답변/평가만 보내 압축된 종합 평가 형식으로 갱신
+     */
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        List<String> categories = EvaluationCategories.forType(interview.getType());
+        String systemPrompt = promptTemplates.get(Kind.ROLLING_SUMMARY_SYSTEM, interview);
+        String userPrompt = buildRollingSummaryUserPrompt(previousSummary, question, answer, evaluation);
+        AiRoute route = modelRouter.route(AiOperation.SUMMARY, interview);
+
+        log.debug("누적 요약 갱신 요청 - 면접 ID: {}, 질문 번호: {}", interview.getId(), question.getOrderNumber());
+
+        String response = call(route, interview.getId(), systemPrompt, userPrompt, null);
+        return response.trim();
     }
 
     /**
-     * 종합 평가를 위한 사용자 프롬프트 구성
+     * 누적 요약 기반 종합 평가 (면접 종료 시 마지막 정리)
+     */
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        List<String> categories = EvaluationCategories.forType(interview.getType());
+        String userPrompt = buildRollingFinalUserPrompt(interview, categories, rollingSummary);
+
+        log.debug("누적 요약 기반 종합 평가 요청 - 면접 ID: {}, 형식: {}", interview.getId(), outputFormat);
+        return summarize(interview, categories, userPrompt);
+    }
+
+    /**
+     * 종합 평가 호출 (출력 형식별 파싱) + 면접당 토큰 사용량 확정
+     */
+    private SummaryResult summarize(Interview interview, List<String> categories, String userPrompt) {
+        AiRoute route = modelRouter.route(AiOperation.SUMMARY, interview);
+        SummaryResult summary;
+        if (outputFormat == AiOutputFormat.JSON) {
+            summary = callJson(route, interview.getId(), promptTemplates.get(Kind.SUMMARY_JSON_SYSTEM, interview),
+                    userPrompt, () -> new JsonSummaryDecoder(categories));
+        } else {
+            String systemPrompt = promptTemplates.get(Kind.SUMMARY_SYSTEM, interview);
+            String response = call(route, interview.getId(), systemPrompt, userPrompt, null);
+            log.debug("종합 평가 응답: {}", response);
+            StreamingSummaryParser parser = new StreamingSummaryParser(categories);
+            parser.feed(response);
+            summary = finishSummary(parser);
+        }
+
+        // 종합 평가는 면접의 마지막 호출이므로 면접당 토큰 사용량 확정
+        tokenUsageTracker.completeInterview(interview.getId());
+        return summary;
+    }
+
+    private SummaryResult finishSummary(StreamingSummaryParser parser) {
+        SummaryResult summary = parser.finish();
+        if (parser.isFallback()) {
+            aiMetrics.recordParseFailure(AiOperation.SUMMARY, "fallback");
+        }
+        return summary;
+    }
+
+    private EvaluationResult finishEvaluation(StreamingEvaluationParser parser) {
+        EvaluationResult evaluation = parser.finish();
+        if (parser.isFallback()) {
+            aiMetrics.recordParseFailure(AiOperation.EVALUATION, "fallback");
+        }
+        return evaluation;
+    }
+
+    // ==================== 모델 호출 ====================
+
+    /**
+     * 단건 호출 + 토큰 사용량 기록 (응답 메타데이터에 사용량이 없으면 추정치)
+     *
+     * @param route   작업/등급별로 선택된 모델
+     * @param options 요청별 옵션 (없으면 null → 기본 옵션)
+     */
+    private String call(AiRoute route, Long interviewId, String systemPrompt, String userPrompt,
+                        ChatOptions options) {
+        long startedAt = System.nanoTime();
+        Optional<String> cachedContent = promptCache.lookup(route.operation(), route.model(), systemPrompt);
+        ChatResponse chatResponse;
+        try {
+            try {
+                chatResponse = prompt(route, systemPrompt, userPrompt, options, cachedContent).call().chatResponse();
+            } catch (RuntimeException e) {
+                if (cachedContent.isEmpty() || !AiProviderErrors.isCachedContentMissing(e)) {
+                    throw e;
+                }
+                // 제공자 측에서 캐시가 먼저 만료/삭제되었으면 캐시 없이 한 번 더 호출
+                log.warn("캐시된 시스템 프롬프트로 호출 실패, 캐시 없이 재시도 - 경로: {}, {}", route, e.getMessage());
+                promptCache.invalidate(route.model(), systemPrompt);
+                chatResponse = prompt(route, systemPrompt, userPrompt, options, Optional.empty()).call().chatResponse();
+            }
+        } catch (RuntimeException e) {
+            aiMetrics.recordRouteFailure(route, System.nanoTime() - startedAt);
+            throw e;
+        }
+        String content = chatResponse != null && chatResponse.getResult() != null
+                ? chatResponse.getResult().getOutput().getText()
+                : null;
+
+        Usage usage = chatResponse != null ? chatResponse.getMetadata().getUsage() : null;
+        int promptTokens = usage != null && usage.getPromptTokens() != null && usage.getPromptTokens() > 0
+                ? usage.getPromptTokens()
+                : TokenEstimator.estimate(systemPrompt) + TokenEstimator.estimate(userPrompt);
+        int completionTokens = usage != null && usage.getCompletionTokens() != null && usage.getCompletionTokens() > 0
+                ? usage.getCompletionTokens()
+                : TokenEstimator.estimate(content);
+        record(route, interviewId, System.nanoTime() - startedAt, promptTokens, completionTokens);
+
+        return content;
+    }
+
+    /**
+     * 스트리밍 호출 + 토큰 사용량 기록 (추정치) - 호출 스레드에서 응답이 끝날 때까지 대기
+     */
+    private void stream(AiRoute route, Long interviewId, String systemPrompt, String userPrompt,
+                        ChatOptions options, Consumer<String> onChunk) {
+        streamReactive(route, interviewId, systemPrompt, userPrompt, options, onChunk).block();
+    }
+
+    /**
+     * 논블로킹 스트리밍 호출 - 응답 조각은 도착하는 스레드에서 onChunk로 전달, 응답이 끝나면 토큰 사용량 기록 후 완료
+     * 모델 SDK가 구독 스레드에서 스트림 응답을 읽을 수 있으므로 boundedElastic에서 구독 (영속성 스케줄러 스레드 등을 잡지 않음)
+     */
+    private Mono<Void> streamReactive(AiRoute route, Long interviewId, String systemPrompt,
+                                      String userPrompt, ChatOptions options, Consumer<String> onChunk) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            Optional<String> cachedContent = promptCache.lookup(route.operation(), route.model(), systemPrompt);
+            TokenEstimator.Counter completion = new TokenEstimator.Counter();
+            AtomicBoolean received = new AtomicBoolean();
+            Consumer<String> onContent = chunk -> {
+                received.set(true);
+                completion.add(chunk);
+                onChunk.accept(chunk);
+            };
+
+            Mono<Void> response = streamContent(prompt(route, systemPrompt, userPrompt, options, cachedContent),
+                    onContent);
+            if (cachedContent.isPresent()) {
+                // 응답 조각을 받기 전에 캐시 만료/삭제로 실패했으면 캐시 없이 한 번 더 호출 (call과 동일)
+                response = response.onErrorResume(e -> !received.get() && AiProviderErrors.isCachedContentMissing(e),
+                        e -> {
+                            log.warn("캐시된 시스템 프롬프트로 호출 실패, 캐시 없이 재시도 - 경로: {}, {}",
+                                    route, e.getMessage());
+                            promptCache.invalidate(route.model(), systemPrompt);
+                            return streamContent(prompt(route, systemPrompt, userPrompt, options, Optional.empty()),
+                                    onContent);
+                        });
+            }
+
+            return response
+                    .doOnError(e -> aiMetrics.recordRouteFailure(route, System.nanoTime() - startedAt))
+                    .then(Mono.fromRunnable(() -> {
+                        int promptTokens = TokenEstimator.estimate(systemPrompt) + TokenEstimator.estimate(userPrompt);
+                        record(route, interviewId, System.nanoTime() - startedAt, promptTokens, completion.tokens());
+                    }));
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * 호출 1건의 토큰 사용량 + 경로별 지연/비용 기록
+     */
+    private void record(AiRoute route, Long interviewId, long nanos, int promptTokens, int completionTokens) {
+        tokenUsageTracker.record(route.operation(), interviewId, promptTokens, completionTokens);
+        aiMetrics.recordExchange(route.operation(), promptTokens, completionTokens);
+        aiMetrics.recordRoute(route, nanos, promptTokens, completionTokens, modelRouter.priceOf(route.model()));
+    }
+
+    private Mono<Void> streamContent(ChatClient.ChatClientRequestSpec request, Consumer<String> onContent) {
+        return request.stream()
+                .content()
+                .doOnNext(onContent)
+                .then();
+    }
+
+    /**
+     * 요청 구성 - 경로의 모델을 지정하고, 캐시가 있으면 시스템 프롬프트 대신 캐시 이름을 지정 (캐시에 시스템 프롬프트가 들어 있음)
+     *
+     * @param options 요청별 옵션 (없으면 null → 기본 옵션)
+     */
+    private ChatClient.ChatClientRequestSpec prompt(AiRoute route, String systemPrompt, String userPrompt,
+                                                   ChatOptions options, Optional<String> cachedContent) {
+        GoogleGenAiChatOptions requestOptions = options instanceof GoogleGenAiChatOptions google
+                ? google.copy()
+                : GoogleGenAiChatOptions.builder().build();
+        requestOptions.setModel(route.model());
+
+        ChatClient.ChatClientRequestSpec request = chatClient.prompt().user(userPrompt);
+        if (cachedContent.isPresent()) {
+            requestOptions.setUseCachedContent(true);
+            requestOptions.setCachedContentName(cachedContent.get());
+        } else {
+            request = request.system(systemPrompt);
+        }
+        return request.options(requestOptions);
+    }
+
+    // ==================== JSON 출력 모드 ====================
+
+    /**
+     * JSON 응답 요청 후 스키마 검증 디코딩
+     */
+    private <T> T callJson(AiRoute route, Long interviewId, String systemPrompt, String userPrompt,
+                           Supplier<IncrementalJsonDecoder<T>> decoderFactory) {
+        return withSchemaRetry(route.operation(), userPrompt, prompt -> {
+            IncrementalJsonDecoder<T> decoder = decoderFactory.get();
+            decoder.feed(call(route, interviewId, systemPrompt, prompt, JSON_OPTIONS));
+            return decoder.finish();
+        });
+    }
+
+    /**
+     * JSON 응답 스트리밍 요청 (도착하는 대로 디코딩)
+     */
+    private <T> T streamJson(AiRoute route, Long interviewId, String systemPrompt, String userPrompt,
+                             Supplier<IncrementalJsonDecoder<T>> decoderFactory) {
+        return withSchemaRetry(route.operation(), userPrompt, prompt -> {
+            IncrementalJsonDecoder<T> decoder = decoderFactory.get();
+            stream(route, interviewId, systemPrompt, prompt, JSON_OPTIONS, decoder::feed);
+            return decoder.finish();
+        });
+    }
+
+    /**
+     * JSON 응답 논블로킹 스트리밍 요청 (도착하는 대로 디코딩)
+     */
+    private <T> Mono<T> streamJsonReactive(AiRoute route, Long interviewId, String systemPrompt,
+                                           String userPrompt, Supplier<IncrementalJsonDecoder<T>> decoderFactory) {
+        Function<String, Mono<T>> call = prompt -> Mono.defer(() -> {
+            IncrementalJsonDecoder<T> decoder = decoderFactory.get();
+            return streamReactive(route, interviewId, systemPrompt, prompt, JSON_OPTIONS, decoder::feed)
+                    .then(Mono.fromCallable(decoder::finish));
+        });
+
+        // 스키마 위반 시 처리는 withSchemaRetry와 동일
+        return call.apply(userPrompt)
+                .onErrorResume(AiOutputSchemaException.class, e -> {
+                    log.warn("JSON 응답 스키마 위반, 재요청 - {}", e.getMessage());
+                    aiMetrics.recordParseFailure(route.operation(), "retried");
+                    return call.apply(userPrompt + String.format(SCHEMA_RETRY_NOTICE, e.getMessage()))
+                            .onErrorMap(AiOutputSchemaException.class, retryFailure -> {
+                                aiMetrics.recordParseFailure(route.operation(), "failed");
+                                log.error("JSON 응답 스키마 위반 (재요청 실패) - {}", retryFailure.getMessage());
+                                return new CustomException(ErrorCode.AI_RESPONSE_PARSE_ERROR);
+                            });
+                });
+    }
+
+    /**
+     * 스키마 위반 시 위반 내용을 덧붙여 1회 재요청, 재요청도 위반하면 파싱 오류
+     */
+    private <T> T withSchemaRetry(AiOperation operation, String userPrompt, Function<String, T> call) {
+        try {
+            return call.apply(userPrompt);
+        } catch (AiOutputSchemaException e) {
+            log.warn("JSON 응답 스키마 위반, 재요청 - {}", e.getMessage());
+            aiMetrics.recordParseFailure(operation, "retried");
+            try {
+                return call.apply(userPrompt + String.format(SCHEMA_RETRY_NOTICE, e.getMessage()));
+            } catch (AiOutputSchemaException retryFailure) {
+                aiMetrics.recordParseFailure(operation, "failed");
+                log.error("JSON 응답 스키마 위반 (재요청 실패) - {}", retryFailure.getMessage());
+                throw new CustomException(ErrorCode.AI_RESPONSE_PARSE_ERROR);
+            }
+        }
+    }
+
+    // ==================== 누적 요약 ====================
+
+    /**
+     * 누적 요약 갱신 사용자 프롬프트 (이전 요약 + 새 답변 1건)
+     */
+    String buildRollingSummaryUserPrompt(String previousSummary, Question question, Answer answer,
+                                         EvaluationResult evaluation) {
+        return String.format(
+                "=== 이전 누적 요약 ===\n%s\n\n" +
+                "=== 새 질문/답변 ===\n" +
+                "Q%d: %s\n" +
+                "A: %s\n" +
+                "개별 점수: %d/10\n" +
+                "피드백 요약: %s\n\n" +
+                "위 내용을 반영해 누적 요약을 갱신해주세요.",
+                previousSummary != null ? previousSummary : "(없음, 첫 답변)",
+                question.getOrderNumber(),
+                question.getContent(),
+                excerpt(answer.getContent(), summaryBudget.digestChars()),
+                evaluation.getScore(),
+                excerpt(firstLine(evaluation.getFeedback() != null ? evaluation.getFeedback() : ""),
+                        summaryBudget.digestChars())
+        );
+    }
+
+    /**
+     * 누적 요약 기반 종합 평가 사용자 프롬프트 (답변 원문 없이 문항별 점수만 포함)
      */
-    private String buildSummaryUserPrompt(Interview interview, List<String> categories) {
+    String buildRollingFinalUserPrompt(Interview interview, List<String> categories, String rollingSummary) {
         StringBuilder sb = new StringBuilder();
         sb.append(String.format("면접 유형: %s\n", interview.getType().getDescription()));
         sb.append(String.format("난이도: %s (%s)\n",
                 interview.getDifficulty().getLabel(),
                 interview.getDifficulty().getExperience()));
         sb.append(String.format("평가 카테고리: %s\n\n", String.join(", ", categories)));
-        sb.append("=== 면접 내용 ===\n\n");
+        sb.append("=== 누적 요약 ===\n").append(rollingSummary).append("\n\n");
+        sb.append("=== 문항별 점수 ===\n");
 
         for (Question q : interview.getQuestions()) {
-            sb.append(String.format("Q%d: %s\n", q.getOrderNumber(), q.getContent()));
-            if (q.getAnswer() != null) {
-                Answer a = q.getAnswer();
-                sb.append(String.format("A: %s\n", a.getContent()));
-                if (a.getScore() != null) {
-                    sb.append(String.format("개별 점수: %d/10\n", a.getScore()));
-                }
-            }
-            sb.append("\n");
+            Answer a = q.getAnswer();
+            String score = a != null && a.getScore() != null ? a.getScore() + "/10" : "미응답";
+            sb.append(String.format("Q%d (%s): %s\n", q.getOrderNumber(), score, excerpt(q.getContent(), 100)));
         }
 
-        sb.append("위 면접 내용을 바탕으로 종합 평가와 카테고리별 점수를 작성해주세요. 응답이 제공되지 않았다면 해당 응답에 대한 모든 점수를 0점으로 해주세요.");
+        sb.append("\n위 누적 요약과 문항별 점수를 바탕으로 최종 종합 평가와 카테고리별 점수를 작성해주세요. ");
+        sb.append("응답이 제공되지 않은 문항이 있다면 해당 문항의 점수는 0점으로 해주세요.");
         return sb.toString();
     }
 
+    // ==================== 프롬프트 (텍스트 형식) ====================
+
     /**
-     * AI 응답을 파싱하여 SummaryResult로 변환
+     * 종합 평가를 위한 사용자 프롬프트 구성
+     * 추정 토큰이 예산을 넘으면 답변 원문 대신 답변 발췌 + 개별 피드백 요약을 사용하고,
+     * 그래도 넘으면 요약 길이를 절반씩 줄인다.
      */
-    private SummaryResult parseSummaryResponse(String response, List<String> categories) {
-        StringBuilder summaryBuilder = new StringBuilder();
-        int overallScore = 0;
-        Map<String, Integer> categoryScores = new LinkedHashMap<>();
-
-        // 기본값으로 카테고리 초기화 (무응답 시 0점)
-        for (String category : categories) {
-            categoryScores.put(category, 0);
+    String buildSummaryUserPrompt(Interview interview, List<String> categories) {
+        StringBuilder header = new StringBuilder();
+        header.append(String.format("면접 유형: %s\n", interview.getType().getDescription()));
+        header.append(String.format("난이도: %s (%s)\n",
+                interview.getDifficulty().getLabel(),
+                interview.getDifficulty().getExperience()));
+        header.append(String.format("평가 카테고리: %s\n\n", String.join(", ", categories)));
+        header.append("=== 면접 내용 ===\n\n");
+
+        String transcript = buildSummaryTranscript(interview, 0);
+        boolean digested = false;
+        int digestChars = summaryBudget.digestChars();
+        while (exceedsSummaryBudget(header, transcript) && digestChars >= MIN_DIGEST_CHARS) {
+            transcript = buildSummaryTranscript(interview, digestChars);
+            digested = true;
+            digestChars /= 2;
         }
 
-        String currentSection = null;
-        String[] lines = response.split("\n");
-
-        for (String line : lines) {
-            String trimmedLine = line.trim();
+        if (digested) {
+            log.info("종합 평가 프롬프트 예산 초과, 답변 요약본 사용 - 면접 ID: {}, 추정 토큰: {}",
+                    interview.getId(), TokenEstimator.estimate(header) + TokenEstimator.estimate(transcript));
+        }
 
-            // 섹션 헤더 감지
-            if (trimmedLine.contains("종합 평가") && trimmedLine.contains("===")) {
-                currentSection = "summary";
-                continue;
-            } else if (trimmedLine.contains("전체 점수") && trimmedLine.contains("===")) {
-                currentSection = "overall";
-                continue;
-            } else if (trimmedLine.contains("카테고리별 점수") && trimmedLine.contains("===")) {
-                currentSection = "categories";
-                continue;
-            } else if (trimmedLine.startsWith("===")) {
-                continue; // 다른 섹션 헤더 무시
-            }
+        StringBuilder sb = new StringBuilder(header).append(transcript);
+        if (digested) {
+            sb.append("(분량 제한으로 답변은 발췌와 개별 피드백 요약으로 제공됩니다.)\n\n");
+        }
+        sb.append("위 면접 내용을 바탕으로 종합 평가와 카테고리별 점수를 작성해주세요. 응답이 제공되지 않았다면 해당 응답에 대한 모든 점수를 0점으로 해주세요.");
+        return sb.toString();
+    }
 
-            // 섹션별 파싱
-            if ("summary".equals(currentSection) && !trimmedLine.isEmpty()) {
-                if (summaryBuilder.length() > 0) {
-                    summaryBuilder.append("\n");
+    /**
+     * 질문/답변 기록
+     *
+     * @param digestChars 0이면 답변 원문, 양수면 답변 발췌 + 피드백 요약의 최대 글자 수
+     */
+    private String buildSummaryTranscript(Interview interview, int digestChars) {
+        StringBuilder sb = new StringBuilder();
+        for (Question q : interview.getQuestions()) {
+            sb.append(String.format("Q%d: %s\n", q.getOrderNumber(), q.getContent()));
+            if (q.getAnswer() != null) {
+                Answer a = q.getAnswer();
+                if (digestChars > 0) {
+                    sb.append(String.format("A(발췌): %s\n", excerpt(a.getContent(), digestChars)));
+                } else {
+                    sb.append(String.format("A: %s\n", a.getContent()));
                 }
-                summaryBuilder.append(trimmedLine);
-            } else if ("overall".equals(currentSection) && !trimmedLine.isEmpty()) {
-                overallScore = extractScore(trimmedLine);
-                currentSection = null; // 전체 점수는 한 줄
-            } else if ("categories".equals(currentSection) && !trimmedLine.isEmpty()) {
-                // 카테고리: 점수 형식 파싱
-                for (String category : categories) {
-                    if (trimmedLine.startsWith(category)) {
-                        int score = extractScore(trimmedLine);
-                        categoryScores.put(category, score);
-                        break;
-                    }
+                if (a.getScore() != null) {
+                    sb.append(String.format("개별 점수: %d/10\n", a.getScore()));
+                }
+                if (digestChars > 0 && a.getFeedback() != null) {
+                    sb.append(String.format("피드백 요약: %s\n", excerpt(firstLine(a.getFeedback()), digestChars)));
                 }
             }
+            sb.append("\n");
         }
+        return sb.toString();
+    }
 
-        String summary = summaryBuilder.toString().trim();
+    private boolean exceedsSummaryBudget(CharSequence header, CharSequence transcript) {
+        int budget = summaryBudget.maxPromptTokens();
+        return budget > 0 && TokenEstimator.estimate(header) + TokenEstimator.estimate(transcript) > budget;
+    }
 
-        // 파싱 실패 시 전체 응답을 요약으로
-        if (summary.isEmpty()) {
-            log.warn("종합 평가 파싱 실패, 원본 응답을 요약으로 사용");
-            summary = response;
+    private String excerpt(String text, int maxChars) {
+        if (text == null) {
+            return "";
         }
+        String stripped = text.strip();
+        return stripped.length() <= maxChars ? stripped : stripped.substring(0, maxChars) + "…";
+    }
 
-        return SummaryResult.of(summary, overallScore, categoryScores);
+    private String firstLine(String text) {
+        String stripped = text.strip();
+        int newline = stripped.indexOf('\n');
+        return newline < 0 ? stripped : stripped.substring(0, newline);
     }
 
     // ==================== Private Helper Methods ====================
 
     /**
-     * 질문 생성을 위한 시스템 프롬프트 구성
+     * 질문 생성 사용자 프롬프트 선택
      */
-    private String buildQuestionSystemPrompt(Interview interview) {
-        return String.format(
-                "당신은 %s 분야의 기술 면접관입니다.\n" +
-                "대상: %s 수준 (%s 경력)\n\n" +
-                "규칙:\n" +
-                "1. 질문은 한국어로 작성\n" +
-                "2. 한 번에 하나의 질문만 생성\n" +
-                "3. 실무에서 중요한 개념을 질문\n" +
-                "4. 난이도에 맞는 깊이로 질문",
-                interview.getType().getDescription(),
-                interview.getDifficulty().getLabel(),
-                interview.getDifficulty().getExperience()
-        );
+    private String buildQuestionUserPrompt(Interview interview, Answer previousAnswer) {
+        if (previousAnswer == null) {
+            // 첫 질문
+            return buildFirstQuestionUserPrompt(interview);
+        }
+        if (interview.isFollowUpEnabled()) {
+            // 꼬리질문 활성화: 이전 답변 기반 질문
+            return buildFollowUpQuestionUserPrompt(interview, previousAnswer);
+        }
+        // 꼬리질문 비활성화: 새로운 주제 질문
+        return buildNewTopicQuestionUserPrompt(interview, previousAnswer);
     }
 
     /**
      * 첫 번째 질문 생성을 위한 사용자 프롬프트
      */
-    private String buildFirstQuestionUserPrompt(Interview interview) {
+    String buildFirstQuestionUserPrompt(Interview interview) {
         return String.format(
                 "면접을 시작합니다. %s 개발자 면접의 첫 번째 기술 질문을 해주세요. "
                 + "새롭고 특이한 질문을 다수 생성한 후 무작위적으로 하나를 선택해주세요. "
@@ -338,7 +733,7 @@ public class GeminiService implements AiService {
     /**
      * 꼬리질문 활성화 시: 이전 답변 기반 후속 질문 프롬프트
      */
-    private String buildFollowUpQuestionUserPrompt(Interview interview, Answer previousAnswer) {
+    String buildFollowUpQuestionUserPrompt(Interview interview, Answer previousAnswer) {
         return String.format(
                 "이전 질문: %s\n\n" +
                 "지원자 답변: %s\n\n" +
@@ -354,7 +749,7 @@ public class GeminiService implements AiService {
     /**
      * 꼬리질문 비활성화 시: 새로운 주제 질문 프롬프트
      */
-    private String buildNewTopicQuestionUserPrompt(Interview interview, Answer previousAnswer) {
+    String buildNewTopicQuestionUserPrompt(Interview interview, Answer previousAnswer) {
         return String.format(
                 "현재 %d번째 질문까지 완료했습니다.\n\n" +
                 "이전에 다룬 주제와 완전히 다른 새로운 기술 영역에서 질문해주세요.\n" +
@@ -368,31 +763,27 @@ public class GeminiService implements AiService {
     }
 
     /**
-     * 답변 평가를 위한 시스템 프롬프트 구성
+     * 무응답(빈 답변) 여부
+     */
+    private boolean isBlankAnswer(Answer answer) {
+        return answer.getContent() == null || answer.getContent().trim().isEmpty();
+    }
+
+    /**
+     * 무응답 시 0점 평가 결과
      */
-    private String buildEvaluationSystemPrompt() {
-        return "당신은 한국 테크 기업의 기술 면접 평가자입니다.\n\n" +
-                "답변을 평가하고 반드시 아래 형식으로만 응답하세요:\n\n" +
-                "점수: [1-10 사이 정수]\n" +
-                "피드백: [답변의 좋은 점과 부족한 점을 구체적으로 설명]\n" +
-                "모범답안: [이 질문에 대한 이상적인 답변 예시]\n\n" +
-                "점수 기준:\n" +
-                "- 1-3점: 핵심 개념 이해 부족\n" +
-                "- 4-6점: 기본 개념 이해, 세부사항 부족\n" +
-                "- 7-8점: 개념 이해 충분, 실무 적용 가능\n" +
-                "- 9-10점: 깊은 이해 또는 실무 경험 반영\n\n" +
-                "작성 형식 규칙:\n" +
-                "- 피드백과 모범답안은 마크다운 형식으로 작성\n" +
-                "- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n" +
-                "- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n" +
-                "- 중요한 키워드는 **볼드**로 강조\n" +
-                "- 코드나 기술 용어는 `백틱`으로 감싸기";
+    private EvaluationResult blankAnswerResult() {
+        return EvaluationResult.builder()
+                .score(0)
+                .feedback("답변이 제출되지 않았습니다.")
+                .modelAnswer("질문에 대한 답변을 작성해주세요.")
+                .build();
     }
 
     /**
      * 답변 평가를 위한 사용자 프롬프트 구성
      */
-    private String buildEvaluationUserPrompt(Question question, Answer answer) {
+    String buildEvaluationUserPrompt(Question question, Answer answer) {
         return String.format(
                 "질문: %s\n\n" +
                 "지원자 답변: %s\n\n" +
@@ -403,71 +794,17 @@ public class GeminiService implements AiService {
     }
 
     /**
-     * AI 응답을 파싱하여 EvaluationResult로 변환
-     */
-    private EvaluationResult parseEvaluationResponse(String response) {
-        int score = 0; // 기본값 (파싱 실패 시 0점)
-        StringBuilder feedbackBuilder = new StringBuilder();
-        StringBuilder modelAnswerBuilder = new StringBuilder();
-
-        // 현재 파싱 중인 섹션 (null, "feedback", "modelAnswer")
-        String currentSection = null;
-
-        String[] lines = response.split("\n");
-        for (String line : lines) {
-            String trimmedLine = line.trim();
-
-            if (trimmedLine.startsWith("점수:") || trimmedLine.startsWith("점수 :")) {
-                // 점수 추출
-                score = extractScore(trimmedLine);
-                currentSection = null;
-            } else if (trimmedLine.startsWith("피드백:") || trimmedLine.startsWith("피드백 :")) {
-                // 피드백 시작
-                String content = trimmedLine.replaceFirst("피드백\\s*:", "").trim();
-                feedbackBuilder.append(content);
-                currentSection = "feedback";
-            } else if (trimmedLine.startsWith("모범답안:") || trimmedLine.startsWith("모범답안 :") ||
-                       trimmedLine.startsWith("모범 답안:") || trimmedLine.startsWith("모범 답안 :")) {
-                // 모범답안 시작
-                String content = trimmedLine.replaceFirst("모범\\s*답안\\s*:", "").trim();
-                modelAnswerBuilder.append(content);
-                currentSection = "modelAnswer";
-            } else if (!trimmedLine.isEmpty() && currentSection != null) {
-                // 여러 줄에 걸친 내용 처리
-                if ("feedback".equals(currentSection)) {
-                    feedbackBuilder.append(" ").append(trimmedLine);
-                } else if ("modelAnswer".equals(currentSection)) {
-                    modelAnswerBuilder.append(" ").append(trimmedLine);
-                }
-            }
-        }
-
-        String feedback = feedbackBuilder.toString().trim();
-        String modelAnswer = modelAnswerBuilder.toString().trim();
-
-        // 파싱 실패 시 전체 응답을 피드백으로
-        if (feedback.isEmpty() && modelAnswer.isEmpty()) {
-            log.warn("평가 응답 파싱 실패, 원본 응답을 피드백으로 사용");
-            feedback = response;
-        }
-
-        return EvaluationResult.of(score, feedback, modelAnswer);
-    }
-
-    /**
-     * 문자열에서 점수(1-10) 추출
+     * 답변 일괄 평가를 위한 사용자 프롬프트 구성 (항목 번호는 1부터, 응답의 id와 대응)
      */
-    private int extractScore(String line) {
-        // 정규식으로 숫자 추출
-        Pattern pattern = Pattern.compile("\\d+");
-        Matcher matcher = pattern.matcher(line);
-
-        if (matcher.find()) {
-            int score = Integer.parseInt(matcher.group());
-            // 1-10 범위로 제한
-            return Math.max(1, Math.min(10, score));
+    String buildBatchEvaluationUserPrompt(List<Answer> answers) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < answers.size(); i++) {
+            Answer answer = answers.get(i);
+            sb.append(String.format("=== 항목 %d ===\n", i + 1));
+            sb.append(String.format("질문: %s\n", answer.getQuestion().getContent()));
+            sb.append(String.format("지원자 답변: %s\n\n", answer.getContent()));
         }
-
-        return 5; // 기본값
+        sb.append(String.format("위 %d개 답변을 각각 평가해주세요.", answers.size()));
+        return sb.toString();
     }
 }
@@ -0,0 +1,158 @@
+package com.interviewai.domain.interview.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+/**
+ * 스트리밍 JSON 응답 디코더 기본 클래스 (Jackson non-blocking parser)
+ *
+ * 응답 조각이 도착할 때마다 feed 하면 완성된 값부터 onValue로 전달한다.
+ * 첫 '{' 이전(코드 블록 표시 등)과 최상위 객체가 닫힌 뒤의 내용은 무시한다.
+ * 한 번 쓰고 버리는 객체로, 스레드 안전하지 않다.
+ *
+ * @param <T> 디코딩 결과 타입
+ */
+abstract class IncrementalJsonDecoder<T> {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean completed;
+    private String fieldName;
+    // 열려 있는 객체/배열 (최상위 객체가 맨 아래), 닫힐 때 꺼내 바깥 객체의 필드명을 되찾는다
+    private final Deque<Container> containers = new ArrayDeque<>();
+
+    protected IncrementalJsonDecoder() {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 조각 입력
+     */
+    public void feed(String chunk) {
+        if (completed) {
+            return;
+        }
+
+        String input = chunk;
+        if (!started) {
+            int objectStart = chunk.indexOf('{');
+            if (objectStart < 0) {
+                return;
+            }
+            input = chunk.substring(objectStart);
+            started = true;
+        }
+
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            drain();
+        } catch (JsonProcessingException e) {
+            throw new AiOutputSchemaException("JSON 문법 오류: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스트림 종료 후 스키마 검증된 결과
+     *
+     * @throws AiOutputSchemaException JSON이 완결되지 않았거나 스키마를 위반한 경우
+     */
+    public T finish() {
+        if (!completed) {
+            feeder.endOfInput();
+            try {
+                drain();
+            } catch (JsonProcessingException e) {
+                throw new AiOutputSchemaException("JSON 문법 오류: " + e.getOriginalMessage());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        if (!completed) {
+            throw new AiOutputSchemaException("JSON 객체가 완결되지 않았습니다.");
+        }
+        return result();
+    }
+
+    /**
+     * 값 하나가 완성될 때 호출
+     *
+     * @param objectField 값이 속한 중첩 객체 필드명 (최상위 필드면 null)
+     * @param field       필드명
+     */
+    protected abstract void onValue(String objectField, String field, JsonToken token, JsonParser parser)
+            throws IOException;
+
+    /**
+     * 스키마 검증 후 결과 생성
+     */
+    protected abstract T result();
+
+    // ==================== Private Helper Methods ====================
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            switch (token) {
+                case START_OBJECT, START_ARRAY -> {
+                    Container parent = containers.peek();
+                    // 배열 원소로 열린 객체/배열은 필드명이 없음
+                    String name = parent != null && !parent.array() ? fieldName : null;
+                    containers.push(new Container(name, token == JsonToken.START_ARRAY));
+                    fieldName = null;
+                }
+                case END_OBJECT, END_ARRAY -> {
+                    containers.pop();
+                    fieldName = null;
+                    completed = containers.isEmpty();
+                }
+                case FIELD_NAME -> fieldName = parser.currentName();
+                default -> onScalar(token);
+            }
+        }
+    }
+
+    /**
+     * 최상위 객체의 값과, 최상위 객체 직속 객체의 값만 전달한다 (배열 원소/더 깊은 중첩은 무시)
+     */
+    private void onScalar(JsonToken token) throws IOException {
+        Container current = containers.peek();
+        if (current == null || current.array()) {
+            return;
+        }
+        if (containers.size() == 1) {
+            onValue(null, fieldName, token, parser);
+        } else if (containers.size() == 2 && current.name() != null) {
+            onValue(current.name(), fieldName, token, parser);
+        }
+    }
+
+    /**
+     * 열려 있는 객체/배열
+     *
+     * @param name  이 객체/배열을 값으로 가진 필드명 (최상위 객체나 배열 원소면 null)
+     * @param array 배열 여부
+     */
+    private record Container(String name, boolean array) {
+    }
+}
@@ -0,0 +1,179 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewai.domain.interview.dto.InterviewEndJobResponse;
+import com.interviewai.domain.interview.dto.InterviewEndResponse;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.global.config.SummaryJobProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.infra.redis.InterviewEndJobRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 면접 종료 작업
+ *
+ * 종합 평가 생성은 전체 면접 내용을 보내는 가장 느린 호출이므로,
+ * 요청은 작업 ID만 받고(202) 전용 워커 풀에서 종합 평가 + 완료 처리를 수행한다.
+ * 클라이언트는 작업 ID로 상태를 폴링한다.
+ *
+ * 면접별 진행 중 표시는 짧은 임대(lease-seconds)로 두고 작업을 가진 인스턴스가 주기적으로 연장한다.
+ * 서버가 작업 도중 종료되면 임대가 만료되어, 남은 작업은 중단(FAILED)으로 조회되고 다시 요청할 수 있다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class InterviewEndJobService {
+
+    private final InterviewService interviewService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final InterviewEndJobRepository interviewEndJobRepository;
+    private final ThreadPoolTaskExecutor summaryTaskExecutor;
+    private final SummaryJobProperties properties;
+    private final ObjectMapper objectMapper;
+
+    // 이 인스턴스가 임대를 연장 중인 작업 (면접 ID -> 작업 ID, 대기 중 포함)
+    private final Map<Long, String> leases = new ConcurrentHashMap<>();
+
+    /**
+     * 면접 종료 작업 등록
+     * 같은 면접의 작업이 이미 진행 중이면 새로 만들지 않고 기존 작업 상태를 반환
+     */
+    public InterviewEndJobResponse submit(String email, Long interviewId) {
+        Interview interview = interviewPersistenceService.getInProgressInterview(email, interviewId);
+
+        String jobId = UUID.randomUUID().toString();
+        while (!interviewEndJobRepository.saveInterviewJobIfAbsent(interviewId, jobId, properties.leaseSeconds())) {
+            String existingJobId = interviewEndJobRepository.findJobIdByInterviewId(interviewId);
+            if (existingJobId != null) {
+                return getJob(email, interviewId, existingJobId);
+            }
+            // 조회 사이에 기존 작업의 임대가 만료됨 → 다시 등록
+        }
+
+        InterviewEndJobResponse job = InterviewEndJobResponse.pending(jobId, interviewId);
+        leases.put(interviewId, jobId);
+        save(email, job);
+
+        try {
+            summaryTaskExecutor.execute(() -> run(email, interview, job));
+        } catch (TaskRejectedException e) {
+            log.warn("면접 종료 작업 거절 - 면접 ID: {}", interviewId);
+            save(email, job.failed(ErrorCode.AI_SERVICE_UNAVAILABLE, ErrorCode.AI_SERVICE_UNAVAILABLE.getMessage()));
+            release(interviewId, jobId);
+            throw new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+        }
+
+        return job;
+    }
+
+    /**
+     * 면접 종료 작업 상태 조회
+     */
+    public InterviewEndJobResponse getJob(String email, Long interviewId, String jobId) {
+        String json = jobId != null ? interviewEndJobRepository.findById(jobId) : null;
+        if (json == null) {
+            throw new CustomException(ErrorCode.END_JOB_NOT_FOUND);
+        }
+
+        StoredJob stored = read(json);
+        if (!stored.ownerEmail().equals(email)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+        if (!stored.job().getInterviewId().equals(interviewId)) {
+            throw new CustomException(ErrorCode.END_JOB_NOT_FOUND);
+        }
+
+        // 진행 중으로 저장되었지만 임대가 만료되었으면 작업을 가진 서버가 중단된 것이므로 다시 요청 가능
+        InterviewEndJobResponse job = stored.job();
+        if (isUnfinished(job) && !jobId.equals(interviewEndJobRepository.findJobIdByInterviewId(interviewId))) {
+            return job.failed(ErrorCode.END_JOB_INTERRUPTED, ErrorCode.END_JOB_INTERRUPTED.getMessage());
+        }
+        return job;
+    }
+
+    /**
+     * 이 인스턴스가 가진 작업의 면접별 진행 중 표시 연장
+     */
+    @Scheduled(initialDelayString = "${interview.ai.summary-job.heartbeat-interval-ms}",
+               fixedDelayString = "${interview.ai.summary-job.heartbeat-interval-ms}")
+    public void extendLeases() {
+        leases.forEach((interviewId, jobId) -> {
+            if (!interviewEndJobRepository.extendInterviewJob(interviewId, jobId, properties.leaseSeconds())) {
+                // 연장 전에 만료되어 다른 작업이 등록되었을 수 있음 (완료 처리는 면접 버전 검증으로 한 번만 성공)
+                log.warn("면접 종료 작업 임대 만료 - 면접 ID: {}, 작업 ID: {}", interviewId, jobId);
+                leases.remove(interviewId, jobId);
+            }
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void run(String email, Interview interview, InterviewEndJobResponse job) {
+        InterviewEndJobResponse running = job.running();
+        save(email, running);
+
+        try {
+            InterviewEndResponse result = interviewService.summarizeAndComplete(interview);
+            save(email, running.completed(result));
+            // 완료된 면접은 다시 종료할 수 없으므로 진행 중 표시는 남은 임대 후 만료
+            leases.remove(interview.getId(), job.getJobId());
+        } catch (CustomException e) {
+            log.error("면접 종료 작업 실패 - 면접 ID: {}, {}", interview.getId(), e.getMessage());
+            save(email, running.failed(e.getErrorCode(), e.getMessage()));
+            release(interview.getId(), job.getJobId());
+        } catch (Exception e) {
+            log.error("면접 종료 작업 실패 - 면접 ID: {}, {} - {}",
+                    interview.getId(), e.getClass().getSimpleName(), e.getMessage());
+            save(email, running.failed(ErrorCode.AI_SERVICE_UNAVAILABLE, ErrorCode.AI_SERVICE_UNAVAILABLE.getMessage()));
+            release(interview.getId(), job.getJobId());
+        }
+    }
+
+    /**
+     * 임대 연장을 멈추고 면접별 진행 중 표시 해제 (실패 후 재요청 허용)
+     */
+    private void release(Long interviewId, String jobId) {
+        leases.remove(interviewId, jobId);
+        interviewEndJobRepository.deleteInterviewJob(interviewId, jobId);
+    }
+
+    private boolean isUnfinished(InterviewEndJobResponse job) {
+        return job.getStatus() == InterviewEndJobResponse.Status.PENDING
+                || job.getStatus() == InterviewEndJobResponse.Status.RUNNING;
+    }
+
+    private void save(String email, InterviewEndJobResponse job) {
+        try {
+            String json = objectMapper.writeValueAsString(new StoredJob(email, job));
+            interviewEndJobRepository.save(job.getJobId(), json, properties.resultTtlMinutes());
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private StoredJob read(String json) {
+        try {
+            return objectMapper.readValue(json, StoredJob.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Redis 저장 형식 (소유자 이메일은 응답에 노출하지 않음)
+     */
+    record StoredJob(String ownerEmail, InterviewEndJobResponse job) {}
+}
@@ -0,0 +1,422 @@
+package com.interviewai.domain.interview.service;
+
+import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.InterviewStartRequest;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.EvaluationStatus;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewStatus;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.domain.interview.repository.AnswerRepository;
+import com.interviewai.domain.interview.repository.InterviewRepository;
+import com.interviewai.domain.interview.repository.QuestionRepository;
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.domain.user.entity.User;
+import com.interviewai.domain.user.repository.UserRepository;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 면접 흐름의 짧은 읽기/쓰기 트랜잭션 모음
+ * AI 호출은 이 서비스 밖(트랜잭션 밖)에서 수행하고, 조회와 결과 반영만 여기서 처리한다.
+ * 반환된 엔티티는 준영속 상태이므로 조회 시 함께 로딩된 필드만 사용한다.
+ *
+ * 조회 시점의 Interview 버전을 쓰기 단계에 넘겨, 그 사이 다른 요청이 면접을 변경했다면
+ * CONCURRENT_MODIFICATION 으로 거절한다. (쓰기 단계는 커밋 시 버전을 강제 증가)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class InterviewPersistenceService {
+
+    private final InterviewRepository interviewRepository;
+    private final QuestionRepository questionRepository;
+    private final AnswerRepository answerRepository;
+    private final UserRepository userRepository;
+
+    // ==================== 면접 시작 ====================
+
+    /**
+     * 면접 시작 가능 여부 검증 (AI 호출 전)
+     */
+    @Transactional(readOnly = true)
+    public void validateStart(String email, InterviewStartRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if(user.getSubscriptionType().equals(SubscriptionType.FREE)) {
+            user.checkInterviewCount();
+            validateFreePlanOptions(request);
+        }
+    }
+
+    /**
+     * 면접 + 첫 질문 저장 (AI 호출 후)
+     */
+    public Question createInterview(String email, InterviewStartRequest request, String firstQuestionContent) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        if(user.getSubscriptionType().equals(SubscriptionType.FREE)) {
+            user.increaseAndCheckInterviewCount();
+            validateFreePlanOptions(request);
+        }
+
+        Interview interview = Interview.builder()
+                .user(user)
+                .type(request.getType())
+                .customType(request.getCustomType())
+                .difficulty(request.getDifficulty())
+                .questionLimit(request.getQuestionLimit())
+                .followUpEnabled(request.isFollowUpEnabled())
+                .build();
+
+        interviewRepository.save(interview);
+
+        // 카테고리: OTHER인 경우 customType 사용
+        Question firstQuestion = Question.builder()
+                .interview(interview)
+                .content(firstQuestionContent)
+                .orderNumber(1)
+                .category(interview.getTypeDisplayName())
+                .build();
+
+        questionRepository.save(firstQuestion);
+        interview.addQuestion(firstQuestion);
+
+        return firstQuestion;
+    }
+
+    // ==================== 답변 제출 ====================
+
+    /**
+     * 답변 저장 (평가 전)
+     */
+    public SubmittedAnswer saveAnswer(String email, Long interviewId, AnswerSubmitRequest request) {
+        Interview interview = interviewRepository.findByIdWithQuestions(interviewId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
+
+        validateInterviewOwner(interview, email);
+        validateInterviewInProgress(interview);
+
+        Question question = questionRepository.findById(request.getQuestionId())
+                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
+
+        if (!question.getInterview().getId().equals(interview.getId())) {
+            throw new CustomException(ErrorCode.QUESTION_NOT_FOUND);
+        }
+        if (question.isAnswered()) {
+            throw new CustomException(ErrorCode.ANSWER_ALREADY_SUBMITTED);
+        }
+
+        // 답변 저장 (소요 시간 포함)
+        Answer answer = Answer.builder()
+                .question(question)
+                .content(request.getContent())
+                .answerTimeSeconds(request.getAnswerTimeSeconds())
+                .build();
+
+        try {
+            answerRepository.save(answer);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 같은 질문의 답변이 먼저 저장됨 (question_id 유니크 제약)
+            throw new CustomException(ErrorCode.ANSWER_ALREADY_SUBMITTED);
+        }
+        question.setAnswer(answer);
+
+        return new SubmittedAnswer(interview, question, answer);
+    }
+
+    /**
+     * AI 평가 결과 반영 (평가 지연 결과는 지연 평가 대기열에 등록)
+     */
+    public void applyEvaluation(Long answerId, EvaluationResult evaluation) {
+        Answer answer = answerRepository.findById(answerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+
+        if (evaluation.isDeferred()) {
+            if (!answer.isEvaluated()) {
+                answer.queueEvaluation(LocalDateTime.now());
+            }
+            return;
+        }
+        answer.evaluate(evaluation.getScore(), evaluation.getFeedback(), evaluation.getModelAnswer());
+    }
+
+    /**
+     * 다음 질문 저장
+     *
+     * @param expectedVersion AI 호출 전 조회한 면접 버전
+     */
+    public Question saveNextQuestion(Long interviewId, Long expectedVersion, String content) {
+        Interview interview = findForUpdate(interviewId, expectedVersion);
+
+        Question newQuestion = Question.builder()
+                .interview(interview)
+                .content(content)
+                .orderNumber(interview.getQuestionCount() + 1)
+                .category(interview.getTypeDisplayName())
+                .build();
+
+        try {
+            questionRepository.save(newQuestion);
+        } catch (DataIntegrityViolationException e) {
+            // 같은 번호의 질문이 이미 저장됨 (interview_id, order_number 유니크 제약)
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+        interview.addQuestion(newQuestion);
+
+        return newQuestion;
+    }
+
+    /**
+     * AI 평가 결과 반영 + 다음 질문 저장 (AI 호출 완료 후 한 번에 처리)
+     *
+     * @param nextQuestionContent 다음 질문 내용 (질문 한도 도달 시 null)
+     * @return 저장된 다음 질문 (없으면 null)
+     */
+    public Question completeAnswer(Long answerId, EvaluationResult evaluation,
+                                   Long interviewId, Long expectedVersion, String nextQuestionContent) {
+        applyEvaluation(answerId, evaluation);
+
+        if (nextQuestionContent == null) {
+            return null;
+        }
+        return saveNextQuestion(interviewId, expectedVersion, nextQuestionContent);
+    }
+
+    /**
+     * 누적 요약 저장 (면접 버전 증가 없음)
+     *
+     * @param orderNumber 누적 요약에 반영된 마지막 질문 번호
+     * @return 저장 여부 (더 최신 누적 요약이 이미 저장되어 있으면 false)
+     */
+    public boolean saveRollingSummary(Long interviewId, String summary, int orderNumber) {
+        return interviewRepository.updateRollingSummary(interviewId, summary, orderNumber) > 0;
+    }
+
+    // ==================== 지연 평가 ====================
+
+    /**
+     * 평가 시도 가능한 지연 평가 답변 ID
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDueEvaluations(int limit) {
+        return answerRepository.findDueEvaluationIds(
+                EvaluationStatus.QUEUED, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 면접의 평가 대기 중인 답변 ID
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findQueuedEvaluations(Long interviewId) {
+        return answerRepository.findIdsByInterviewIdAndEvaluationStatus(interviewId, EvaluationStatus.QUEUED);
+    }
+
+    /**
+     * 지연 평가 선점
+     *
+     * @param leaseMs 선점 유지 시간
+     * @return 선점한 답변 (질문/면접 포함, 이미 다른 워커가 선점했거나 평가가 끝났으면 empty)
+     *         선점 만료 시각(evaluationAvailableAt)은 결과 반영/실패 처리 시 선점 확인에 사용
+     */
+    public Optional<Answer> claimEvaluation(Long answerId, long leaseMs) {
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = answerRepository.claimEvaluation(
+                answerId, EvaluationStatus.QUEUED, now, leaseUntil(now, leaseMs));
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+        return answerRepository.findByIdWithQuestionAndInterview(answerId);
+    }
+
+    /**
+     * 면접 종료 시 지연 평가 선점 (재시도 대기 중이거나 다른 워커가 선점한 답변도 바로 가져감)
+     * 먼저 선점한 워커의 결과는 선점 확인에서 걸러진다.
+     *
+     * @return 선점한 답변 (평가가 끝났거나 다른 면접의 답변이면 empty)
+     */
+    public Optional<Answer> claimInterviewEvaluation(Long interviewId, Long answerId, long leaseMs) {
+        int claimed = answerRepository.claimInterviewEvaluation(
+                answerId, interviewId, EvaluationStatus.QUEUED, leaseUntil(LocalDateTime.now(), leaseMs));
+        if (claimed == 0) {
+            return Optional.empty();
+        }
+        return answerRepository.findByIdWithQuestionAndInterview(answerId);
+    }
+
+    /**
+     * 지연 평가 결과 반영 (선점이 유지되는 동안만)
+     * 이미 완료된 면접의 답변이면 총점도 같은 트랜잭션에서 다시 계산한다.
+     *
+     * @param leaseUntil 선점 시 받은 선점 만료 시각
+     * @return 반영 여부 (선점이 만료되었거나 다른 워커가 다시 선점했으면 false)
+     */
+    public boolean applyDeferredEvaluation(Long answerId, LocalDateTime leaseUntil, EvaluationResult evaluation) {
+        int applied = answerRepository.completeEvaluation(answerId, EvaluationStatus.QUEUED, leaseUntil,
+                LocalDateTime.now(), evaluation.getScore(), evaluation.getFeedback(), evaluation.getModelAnswer());
+        if (applied == 0) {
+            return false;
+        }
+
+        Interview interview = answerRepository.findByIdWithQuestionAndInterview(answerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND))
+                .getQuestion().getInterview();
+        if (interview.getStatus() == InterviewStatus.COMPLETED) {
+            interview.updateTotalScore(calculateTotalScore(interview));
+        }
+        return true;
+    }
+
+    /**
+     * 지연 평가 실패 반영 (시도 횟수에 비례해 재시도 지연, 최대 시도 도달 시 평가 실패)
+     *
+     * @param leaseUntil 선점 시 받은 선점 만료 시각 (그 사이 다른 워커가 다시 선점했거나 평가가 끝났으면 반영하지 않음)
+     */
+    public void releaseEvaluation(Long answerId, LocalDateTime leaseUntil, long retryDelayMs, int maxAttempts) {
+        Answer answer = answerRepository.findById(answerId)
+                .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+        if (!answer.isEvaluationPending() || !leaseUntil.equals(answer.getEvaluationAvailableAt())) {
+            return;
+        }
+
+        long delayMs = retryDelayMs * Math.max(1, answer.getEvaluationAttempts());
+        answer.retryEvaluation(LocalDateTime.now().plus(Duration.ofMillis(delayMs)), maxAttempts);
+    }
+
+    // ==================== 면접 종료 / 이어하기 ====================
+
+    /**
+     * 진행 중인 면접 조회 (질문 + 답변 포함)
+     */
+    @Transactional(readOnly = true)
+    public Interview getInProgressInterview(String email, Long interviewId) {
+        Interview interview = interviewRepository.findByIdWithQuestionsAndAnswers(interviewId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
+
+        validateInterviewOwner(interview, email);
+        validateInterviewInProgress(interview);
+
+        return interview;
+    }
+
+    /**
+     * 면접 조회 (질문 + 답변 포함, 지연 평가 반영 후 다시 조회할 때 사용)
+     */
+    @Transactional(readOnly = true)
+    public Interview getInterviewWithAnswers(Long interviewId) {
+        return interviewRepository.findByIdWithQuestionsAndAnswers(interviewId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
+    }
+
+    /**
+     * 면접 완료 처리 (종합 평가 생성 후)
+     */
+    public Interview completeInterview(Long interviewId, Long expectedVersion, SummaryResult summary) {
+        Interview interview = findForUpdate(interviewId, expectedVersion);
+
+        // 면접 완료 처리 (categoryScores 포함)
+        interview.complete(calculateTotalScore(interview), summary.getCategoryScores());
+
+        return interview;
+    }
+
+    // ==================== 일괄 재채점 ====================
+
+    /**
+     * 재채점 대상 답변 (완료된 면접, afterId 다음부터 ID 순)
+     *
+     * @param staleBefore 이 시각 이전에 평가된 답변도 대상에 포함
+     * @return 질문/면접/사용자가 함께 로딩된 답변
+     */
+    @Transactional(readOnly = true)
+    public List<Answer> findRescoringTargets(Long afterId, LocalDateTime staleBefore, int limit) {
+        return answerRepository.findRescoringTargets(afterId, InterviewStatus.COMPLETED, EvaluationStatus.QUEUED,
+                staleBefore, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 재채점 결과 일괄 반영
+     * 한 트랜잭션에서 수정하고 커밋 시 UPDATE를 hibernate.jdbc.batch_size 단위로 묶어 전송한다.
+     * 점수가 바뀐 면접의 총점도 같은 트랜잭션에서 다시 계산한다.
+     *
+     * @return 반영된 답변 수 (그 사이 지연 평가 대기열에 들어간 답변은 건너뜀)
+     */
+    public int applyRescoring(Map<Long, EvaluationResult> evaluations) {
+        int applied = 0;
+        Map<Long, Interview> rescoredInterviews = new LinkedHashMap<>();
+        for (Answer answer : answerRepository.findAllById(evaluations.keySet())) {
+            if (answer.isEvaluationPending()) {
+                continue;
+            }
+            EvaluationResult evaluation = evaluations.get(answer.getId());
+            answer.evaluate(evaluation.getScore(), evaluation.getFeedback(), evaluation.getModelAnswer());
+            applied++;
+
+            Interview interview = answer.getQuestion().getInterview();
+            rescoredInterviews.putIfAbsent(interview.getId(), interview);
+        }
+
+        // 평균 조회 전 변경된 점수가 자동 flush 되므로 새 점수 기준으로 계산됨
+        for (Interview interview : rescoredInterviews.values()) {
+            interview.updateTotalScore(calculateTotalScore(interview));
+        }
+        return applied;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    // 선점 만료 시각은 선점 확인에 그대로 비교하므로 DB 정밀도(DATETIME(6))에 맞춤
+    private LocalDateTime leaseUntil(LocalDateTime now, long leaseMs) {
+        return now.plus(Duration.ofMillis(leaseMs)).truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private int calculateTotalScore(Interview interview) {
+        Double avgScore = answerRepository.calculateAverageScoreByInterview(interview);
+        return avgScore != null ? avgScore.intValue() : 0;
+    }
+
+    private Interview findForUpdate(Long interviewId, Long expectedVersion) {
+        Interview interview = interviewRepository.findByIdWithQuestionsForUpdate(interviewId)
+                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
+
+        validateInterviewInProgress(interview);
+        if (!interview.getVersion().equals(expectedVersion)) {
+            throw new CustomException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
+
+        return interview;
+    }
+
+    private void validateFreePlanOptions(InterviewStartRequest request) {
+        if(request.getQuestionLimit() != 5 || request.isFollowUpEnabled()) throw new CustomException(ErrorCode.PREMIUM_REQUIRED);
+    }
+
+    private void validateInterviewOwner(Interview interview, String email) {
+        if (!interview.getUser().getEmail().equals(email)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
+        }
+    }
+
+    private void validateInterviewInProgress(Interview interview) {
+        if (interview.getStatus() != InterviewStatus.IN_PROGRESS) {
+            throw new CustomException(ErrorCode.INTERVIEW_ALREADY_ENDED);
+        }
+    }
+}
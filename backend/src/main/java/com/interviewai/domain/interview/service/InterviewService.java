@@ -2,139 +2,372 @@ package com.interviewai.domain.interview.service;
 
 import com.interviewai.domain.interview.dto.*;
 import com.interviewai.domain.interview.entity.*;
-import com.interviewai.domain.interview.repository.AnswerRepository;
 import com.interviewai.domain.interview.repository.InterviewRepository;
-import com.interviewai.domain.interview.repository.QuestionRepository;
-import com.interviewai.domain.user.entity.SubscriptionType;
 import com.interviewai.domain.user.entity.User;
 import com.interviewai.domain.user.repository.UserRepository;
 import com.interviewai.global.exception.CustomException;
 import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.global.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class InterviewService {
 
     private final InterviewRepository interviewRepository;
-    private final QuestionRepository questionRepository;
-    private final AnswerRepository answerRepository;
     private final UserRepository userRepository;
     private final AiService aiService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final FirstQuestionPool firstQuestionPool;
+    private final NextQuestionPrefetcher nextQuestionPrefetcher;
+    private final RollingSummaryUpdater rollingSummaryUpdater;
+    private final DeferredEvaluator deferredEvaluator;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
 
-    @Transactional
+    @Value("${interview.ai.stream-timeout-ms}")
+    private long streamTimeoutMs;
+
+    @Value("${interview.ai.parallel-submit-enabled}")
+    private boolean parallelSubmitEnabled;
+
+    /**
+     * 면접 시작
+     * - 시작 가능 여부 검증 → 첫 질문 확보 (트랜잭션 밖) → 면접/질문 저장 순으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public InterviewStartResponse startInterview(String email, InterviewStartRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        interviewPersistenceService.validateStart(email, request);
 
-        if(user.getSubscriptionType().equals(SubscriptionType.FREE)) {
-            user.increaseAndCheckInterviewCount();
-            if(request.getQuestionLimit() != 5 || request.isFollowUpEnabled()) throw new CustomException(ErrorCode.PREMIUM_REQUIRED);
-        }
+        // 사전 생성된 첫 질문 사용 (풀이 비었으면 AI로 직접 생성)
+        String questionContent = firstQuestionPool
+                .poll(request.getType(), request.getDifficulty(), request.getCustomType())
+                .orElseGet(() -> generateFirstQuestion(request));
+
+        Question firstQuestion = interviewPersistenceService.createInterview(email, request, questionContent);
+        nextQuestionPrefetcher.prefetch(firstQuestion);
+
+        return InterviewStartResponse.of(firstQuestion.getInterview(), firstQuestion);
+    }
+
+    /**
+     * AI로 첫 번째 질문 생성
+     */
+    private String generateFirstQuestion(InterviewStartRequest request) {
+        return aiService.generateQuestion(draftOf(request), null);
+    }
 
-        Interview interview = Interview.builder()
-                .user(user)
+    /**
+     * 첫 질문 생성용 임시 세션 (첫 질문 프롬프트는 유형/난이도만 사용하므로 저장 전 세션 사용)
+     */
+    static Interview draftOf(InterviewStartRequest request) {
+        return Interview.builder()
                 .type(request.getType())
                 .customType(request.getCustomType())
                 .difficulty(request.getDifficulty())
                 .questionLimit(request.getQuestionLimit())
                 .followUpEnabled(request.isFollowUpEnabled())
                 .build();
+    }
 
-        interviewRepository.save(interview);
-
-        // AI로 첫 번째 질문 생성
-        String questionContent = aiService.generateQuestion(interview, null);
+    /**
+     * 답변 제출
+     * - 답변 저장 → AI 평가/다음 질문 생성 (트랜잭션 밖) → 결과 저장 순으로 처리
+     * - 꼬리질문 비활성화 시 새 주제 질문은 평가 결과와 무관하므로 평가와 동시에 생성
+     * - 지연 평가 모드에서는 평가를 대기열에 넘기고 다음 질문만 생성해 반환
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AnswerSubmitResponse submitAnswer(String email, Long interviewId, AnswerSubmitRequest request) {
+        SubmittedAnswer submitted = interviewPersistenceService.saveAnswer(email, interviewId, request);
+        Interview interview = submitted.interview();
+        Question question = submitted.question();
+        Answer answer = submitted.answer();
+
+        boolean hasNextQuestion = interview.getQuestionCount() < interview.getQuestionLimit();
+
+        EvaluationResult evaluation = null;
+        Question newQuestion;
+        try {
+            String nextQuestionContent;
+            if (deferredEvaluator.isEnabled()) {
+                // 평가는 워커가 나중에 반영 (결과는 면접 상세에서 확인)
+                evaluation = EvaluationResult.deferred();
+                nextQuestionContent = nextQuestionContent(interview, question, answer, hasNextQuestion);
+            } else if (parallelSubmitEnabled && hasNextQuestion && !interview.isFollowUpEnabled()) {
+                // AI 평가를 먼저 시작하고, 그동안 선행 생성된 질문을 꺼내거나 다음 질문 생성
+                CompletableFuture<EvaluationResult> evaluationFuture = CompletableFuture.supplyAsync(
+                        () -> aiService.evaluateAnswer(question, answer), aiTaskExecutor);
+                nextQuestionContent = nextQuestionContent(interview, question, answer, true);
+                evaluation = join(evaluationFuture);
+            } else {
+                // AI로 답변 평가
+                evaluation = aiService.evaluateAnswer(question, answer);
+
+                // 다음 질문 생성
+                nextQuestionContent = nextQuestionContent(interview, question, answer, hasNextQuestion);
+            }
+
+            newQuestion = interviewPersistenceService.completeAnswer(
+                    answer.getId(), evaluation, interview.getId(), interview.getVersion(), nextQuestionContent);
+        } catch (RuntimeException e) {
+            // 답변은 이미 저장되어 재제출할 수 없으므로 미평가로 남기지 않음 (다음 질문은 이어하기로 생성)
+            recoverAnswer(answer.getId(), evaluation);
+            throw e;
+        }
+        rollingSummaryUpdater.submit(interview, question, answer, evaluation);
+        if (evaluation.isDeferred()) {
+            deferredEvaluator.dispatch(answer.getId());
+        }
 
-        // 카테고리: OTHER인 경우 customType 사용
-        String category = interview.getTypeDisplayName();
+        QuestionResponse nextQuestion = null;
+        if (newQuestion != null) {
+            nextQuestionPrefetcher.prefetch(newQuestion);
+            nextQuestion = QuestionResponse.from(newQuestion);
+        }
 
-        Question firstQuestion = Question.builder()
-                .interview(interview)
-                .content(questionContent)
-                .orderNumber(1)
-                .category(category)
-                .build();
+        return AnswerSubmitResponse.of(evaluation, nextQuestion);
+    }
 
-        questionRepository.save(firstQuestion);
-        interview.addQuestion(firstQuestion);
+    /**
+     * 답변 제출 (SSE 스트리밍)
+     * - 답변 저장은 요청 스레드에서 처리 (검증 오류는 일반 에러 응답으로 반환)
+     * - 평가 토큰(+ 점수/피드백/모범답안 섹션) → 평가 결과 → 다음 질문 → 최종 결과 순으로 이벤트 전송
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter submitAnswerStream(String email, Long interviewId, AnswerSubmitRequest request) {
+        SubmittedAnswer submitted = interviewPersistenceService.saveAnswer(email, interviewId, request);
 
-        return InterviewStartResponse.of(interview, firstQuestion);
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        aiTaskExecutor.execute(() -> streamEvaluationAndNextQuestion(submitted, emitter));
+        return emitter;
     }
 
-    @Transactional
-    public AnswerSubmitResponse submitAnswer(String email, Long interviewId, AnswerSubmitRequest request) {
-        Interview interview = interviewRepository.findByIdWithQuestions(interviewId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
-
-        validateInterviewOwner(interview, email);
-        validateInterviewInProgress(interview);
+    private void streamEvaluationAndNextQuestion(SubmittedAnswer submitted, SseEmitter emitter) {
+        Interview interview = submitted.interview();
+        Answer answer = submitted.answer();
+
+        boolean evaluationApplied = false;
+        try {
+            // AI로 답변 평가 (토큰 단위 전송, 점수/피드백/모범답안은 섹션이 끝나는 즉시 전송)
+            EvaluationResult evaluation = aiService.evaluateAnswerStream(submitted.question(), answer,
+                    evaluationEventSender(emitter));
+            interviewPersistenceService.applyEvaluation(answer.getId(), evaluation);
+            evaluationApplied = true;
+            rollingSummaryUpdater.submit(interview, submitted.question(), answer, evaluation);
+            if (evaluation.isDeferred()) {
+                deferredEvaluator.dispatch(answer.getId());
+            }
+            sendEvent(emitter, "evaluation", evaluation);
+
+            // 다음 질문 생성
+            QuestionResponse nextQuestion = null;
+            if (interview.getQuestionCount() < interview.getQuestionLimit()) {
+                String nextQuestionContent = nextQuestionPrefetcher.take(submitted.question().getId())
+                        .orElseGet(() -> aiService.generateQuestion(interview, answer));
+                Question newQuestion = interviewPersistenceService.saveNextQuestion(
+                        interview.getId(), interview.getVersion(), nextQuestionContent);
+                nextQuestionPrefetcher.prefetch(newQuestion);
+                nextQuestion = QuestionResponse.from(newQuestion);
+                sendEvent(emitter, "next-question", nextQuestion);
+            }
+
+            sendEvent(emitter, "result", AnswerSubmitResponse.of(evaluation, nextQuestion));
+            emitter.complete();
+        } catch (CustomException e) {
+            log.error("스트리밍 답변 처리 실패 - 면접 ID: {}, {}", interview.getId(), e.getMessage());
+            if (!evaluationApplied) {
+                recoverAnswer(answer.getId(), null);
+            }
+            sendError(emitter, e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            log.error("스트리밍 답변 처리 실패 - 면접 ID: {}, {} - {}",
+                    interview.getId(), e.getClass().getSimpleName(), e.getMessage());
+            if (!evaluationApplied) {
+                recoverAnswer(answer.getId(), null);
+            }
+            sendError(emitter, ErrorCode.AI_SERVICE_UNAVAILABLE, ErrorCode.AI_SERVICE_UNAVAILABLE.getMessage());
+        }
+    }
 
-        Question question = questionRepository.findById(request.getQuestionId())
-                .orElseThrow(() -> new CustomException(ErrorCode.QUESTION_NOT_FOUND));
+    /**
+     * 답변 저장 후 처리가 실패한 답변 복구
+     * 평가가 끝났으면 평가 결과를 반영하고, 아니면 지연 평가 대기열에 등록해 워커가 평가하도록 한다.
+     *
+     * @param evaluation 실패 전에 받은 평가 결과 (없으면 null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recoverAnswer(Long answerId, EvaluationResult evaluation) {
+        EvaluationResult recovered = evaluation != null ? evaluation : EvaluationResult.deferred();
+        try {
+            interviewPersistenceService.applyEvaluation(answerId, recovered);
+            if (recovered.isDeferred()) {
+                deferredEvaluator.dispatch(answerId);
+            }
+            log.info("제출 실패 답변 복구 - 답변 ID: {}, 지연 평가: {}", answerId, recovered.isDeferred());
+        } catch (RuntimeException e) {
+            log.error("제출 실패 답변 복구 실패 - 답변 ID: {}, {}", answerId, e.getMessage());
+        }
+    }
 
-        // 답변 저장 (소요 시간 포함)
-        Answer answer = Answer.builder()
-                .question(question)
-                .content(request.getContent())
-                .answerTimeSeconds(request.getAnswerTimeSeconds())
-                .build();
+    private EvaluationStreamListener evaluationEventSender(SseEmitter emitter) {
+        return new EvaluationStreamListener() {
+            @Override
+            public void onToken(String token) {
+                sendEvent(emitter, "evaluation-token", token);
+            }
+
+            @Override
+            public void onScore(int score) {
+                sendEvent(emitter, "evaluation-score", score);
+            }
+
+            @Override
+            public void onFeedback(String feedback) {
+                sendEvent(emitter, "evaluation-feedback", feedback);
+            }
+
+            @Override
+            public void onModelAnswer(String modelAnswer) {
+                sendEvent(emitter, "evaluation-model-answer", modelAnswer);
+            }
+        };
+    }
 
-        answerRepository.save(answer);
-        question.setAnswer(answer);
+    /**
+     * 다음 질문 내용 (답변 작성 중 선행 생성된 질문이 있으면 사용, 없으면 생성)
+     *
+     * @return 다음 질문 내용 (질문 한도에 도달했으면 null)
+     */
+    private String nextQuestionContent(Interview interview, Question question, Answer answer, boolean hasNextQuestion) {
+        if (!hasNextQuestion) {
+            return null;
+        }
+        return nextQuestionPrefetcher.take(question.getId())
+                .orElseGet(() -> aiService.generateQuestion(interview, answer));
+    }
 
-        // AI로 답변 평가
-        EvaluationResult evaluation = aiService.evaluateAnswer(question, answer);
-        answer.evaluate(evaluation.getScore(), evaluation.getFeedback(), evaluation.getModelAnswer());
+    private <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
 
-        // 다음 질문 생성
-        QuestionResponse nextQuestion = null;
-        if (interview.getQuestionCount() < interview.getQuestionLimit()) {
-            String nextQuestionContent = aiService.generateQuestion(interview, answer);
-            int nextOrderNumber = interview.getQuestionCount() + 1;
-
-            Question newQuestion = Question.builder()
-                    .interview(interview)
-                    .content(nextQuestionContent)
-                    .orderNumber(nextOrderNumber)
-                    .category(interview.getTypeDisplayName())
-                    .build();
-
-            questionRepository.save(newQuestion);
-            interview.addQuestion(newQuestion);
-            nextQuestion = QuestionResponse.from(newQuestion);
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료: 전송만 중단하고 저장은 계속 진행
+            log.debug("SSE 전송 실패 - 이벤트: {}, {}", name, e.getMessage());
         }
+    }
 
-        return AnswerSubmitResponse.of(evaluation, nextQuestion);
+    private void sendError(SseEmitter emitter, ErrorCode errorCode, String message) {
+        sendEvent(emitter, "error", ApiResponse.ErrorResponse.of(errorCode.getCode(), errorCode.name(), message));
+        emitter.complete();
     }
 
-    @Transactional
+    /**
+     * 면접 종료
+     * - 면접 조회 → AI 종합 평가 (트랜잭션 밖) → 완료 처리 순으로 처리
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public InterviewEndResponse endInterview(String email, Long interviewId) {
-        Interview interview = interviewRepository.findByIdWithQuestionsAndAnswers(interviewId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
+        Interview interview = interviewPersistenceService.getInProgressInterview(email, interviewId);
+        return summarizeAndComplete(interview);
+    }
 
-        validateInterviewOwner(interview, email);
-        validateInterviewInProgress(interview);
+    /**
+     * 종합 평가 생성 + 완료 처리 (동기 종료와 비동기 종료 작업에서 공용)
+     *
+     * @param interview 질문/답변이 로딩된 진행 중 면접
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public InterviewEndResponse summarizeAndComplete(Interview interview) {
+        // 남은 지연 평가를 기다린 뒤 점수가 반영된 면접으로 종합 평가 (버전 검증은 처음 조회한 면접 기준)
+        Interview evaluated = awaitDeferredEvaluations(interview);
 
         // AI로 종합 평가 (먼저 생성하여 categoryScores 획득)
-        SummaryResult summary = aiService.generateSummary(interview);
+        SummaryResult summary = generateSummary(evaluated);
+
+        Interview completed = interviewPersistenceService.completeInterview(
+                interview.getId(), interview.getVersion(), summary);
+
+        return InterviewEndResponse.of(completed, summary);
+    }
 
-        // 평균 점수 계산
-        Double avgScore = answerRepository.calculateAverageScoreByInterview(interview);
-        int totalScore = avgScore != null ? avgScore.intValue() : 0;
+    /**
+     * 남은 지연 평가가 끝날 때까지 대기 후 점수가 반영된 면접을 다시 조회
+     * 대기 시간 안에 끝나지 않은 답변은 미평가 상태로 종합 평가한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Interview awaitDeferredEvaluations(Interview interview) {
+        boolean hasPending = interview.getQuestions().stream()
+                .map(Question::getAnswer)
+                .anyMatch(answer -> answer != null && answer.isEvaluationPending());
+        if (!hasPending) {
+            return interview;
+        }
 
-        // 면접 완료 처리 (categoryScores 포함)
-        interview.complete(totalScore, summary.getCategoryScores());
+        deferredEvaluator.awaitInterview(interview.getId());
+        return interviewPersistenceService.getInterviewWithAnswers(interview.getId());
+    }
 
-        return InterviewEndResponse.of(interview, summary);
+    /**
+     * 종합 평가 생성
+     * 누적 요약이 답변한 질문을 모두 반영했으면 누적 요약 기반으로, 아니면 전체 질문/답변으로 생성
+     */
+    private SummaryResult generateSummary(Interview interview) {
+        return findCompleteRollingSummary(interview)
+                .map(rollingSummary -> aiService.finalizeRollingSummary(interview, rollingSummary))
+                .orElseGet(() -> aiService.generateSummary(interview));
+    }
+
+    /**
+     * 답변한 질문을 모두 반영한 누적 요약 (진행 중인 갱신은 대기)
+     *
+     * @return 누적 요약 (비활성화되었거나 미반영 답변이 있으면 empty → 전체 종합 평가)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<String> findCompleteRollingSummary(Interview interview) {
+        if (!rollingSummaryUpdater.isEnabled()) {
+            return Optional.empty();
+        }
+
+        RollingSummaryUpdater.RollingState state = rollingSummaryUpdater.awaitPending(interview.getId())
+                .orElseGet(() -> new RollingSummaryUpdater.RollingState(
+                        interview.getRollingSummary(), interview.getRollingSummaryOrder()));
+
+        int lastAnswered = interview.getLastAnsweredOrderNumber();
+        if (lastAnswered > 0 && state.summary() != null && state.orderNumber() != null
+                && state.orderNumber() >= lastAnswered) {
+            return Optional.of(state.summary());
+        }
+
+        log.debug("누적 요약 미반영 답변 존재, 전체 종합 평가 사용 - 면접 ID: {}", interview.getId());
+        return Optional.empty();
     }
 
     public Page<InterviewListResponse> getInterviewList(String email, Pageable pageable) {
@@ -159,13 +392,9 @@ public class InterviewService {
      * - 답변하지 않은 질문이 있으면 해당 질문 반환
      * - 모든 질문에 답변했으면 새 질문 생성 (최대 5개까지)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public InterviewResumeResponse resumeInterview(String email, Long interviewId) {
-        Interview interview = interviewRepository.findByIdWithQuestionsAndAnswers(interviewId)
-                .orElseThrow(() -> new CustomException(ErrorCode.INTERVIEW_NOT_FOUND));
-
-        validateInterviewOwner(interview, email);
-        validateInterviewInProgress(interview);
+        Interview interview = interviewPersistenceService.getInProgressInterview(email, interviewId);
 
         // 답변하지 않은 질문 찾기
         Question unansweredQuestion = interview.getQuestions().stream()
@@ -179,23 +408,20 @@ public class InterviewService {
                 .count();
 
         if (unansweredQuestion != null) {
-            // 답변하지 않은 질문이 있으면 반환
+            // 답변하지 않은 질문이 있으면 반환 (선행 생성이 없었다면 다시 요청)
+            nextQuestionPrefetcher.prefetch(unansweredQuestion);
             return InterviewResumeResponse.of(interview, unansweredQuestion, answeredCount);
         }
 
         if (interview.getQuestionCount() < interview.getQuestionLimit()) {
-            Answer lastAnswer = interview.getQuestions().get(interview.getQuestionCount() - 1).getAnswer();
-            String newQuestionContent = aiService.generateQuestion(interview, lastAnswer);
-
-            Question newQuestion = Question.builder()
-                    .interview(interview)
-                    .content(newQuestionContent)
-                    .orderNumber(interview.getQuestionCount() + 1)
-                    .category(interview.getTypeDisplayName())
-                    .build();
+            Question answeredQuestion = interview.getQuestions().get(interview.getQuestionCount() - 1);
+            guardInFlightSubmission(answeredQuestion.getAnswer());
+            String newQuestionContent = nextQuestionPrefetcher.take(answeredQuestion.getId())
+                    .orElseGet(() -> aiService.generateQuestion(interview, answeredQuestion.getAnswer()));
 
-            questionRepository.save(newQuestion);
-            interview.addQuestion(newQuestion);
+            Question newQuestion = interviewPersistenceService.saveNextQuestion(
+                    interview.getId(), interview.getVersion(), newQuestionContent);
+            nextQuestionPrefetcher.prefetch(newQuestion);
 
             return InterviewResumeResponse.of(interview, newQuestion, answeredCount);
         }
@@ -205,15 +431,25 @@ public class InterviewService {
         return InterviewResumeResponse.of(interview, lastQuestion, answeredCount);
     }
 
-    private void validateInterviewOwner(Interview interview, String email) {
-        if (!interview.getUser().getEmail().equals(email)) {
-            throw new CustomException(ErrorCode.FORBIDDEN);
+    /**
+     * 마지막 답변의 제출 요청이 아직 처리 중이면 이어하기에서 다음 질문을 만들지 않음
+     * (제출 요청이 만든 다음 질문과 충돌). 제출 처리 최대 시간이 지나도록 미평가로 남은 답변은
+     * 서버 중단 등으로 버려진 것으로 보고 지연 평가 대기열에 등록한 뒤 이어서 진행한다.
+     */
+    private void guardInFlightSubmission(Answer answer) {
+        if (!answer.isEvaluationInFlight()) {
+            return;
+        }
+        LocalDateTime submittedAt = answer.getCreatedAt();
+        if (submittedAt != null && submittedAt.isAfter(LocalDateTime.now().minus(Duration.ofMillis(streamTimeoutMs)))) {
+            throw new CustomException(ErrorCode.ANSWER_SUBMISSION_IN_PROGRESS);
         }
+        recoverAnswer(answer.getId(), null);
     }
 
-    private void validateInterviewInProgress(Interview interview) {
-        if (interview.getStatus() != InterviewStatus.IN_PROGRESS) {
-            throw new CustomException(ErrorCode.INTERVIEW_ALREADY_ENDED);
+    private void validateInterviewOwner(Interview interview, String email) {
+        if (!interview.getUser().getEmail().equals(email)) {
+            throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
 
@@ -0,0 +1,64 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+
+/**
+ * 일괄 평가 JSON 디코더
+ * 스키마: {"results": [{"id": 항목 번호(1부터), "score": 1-10 정수, "feedback": 문자열, "modelAnswer": 문자열}, ...]}
+ *
+ * 스트리밍하지 않으므로 응답 전체를 한 번에 읽는다. 항목별 검증은 JsonEvaluationDecoder와 같고,
+ * 스키마를 위반하거나 빠진 항목만 null로 남겨 나머지 항목은 그대로 반영할 수 있게 한다.
+ */
+final class JsonBatchEvaluationDecoder {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JsonBatchEvaluationDecoder() {
+    }
+
+    /**
+     * @param itemCount 요청한 항목 수
+     * @return 항목 순서대로의 평가 결과 (빠졌거나 스키마를 위반한 항목은 null)
+     * @throws AiOutputSchemaException 응답이 JSON 객체가 아니거나 results 배열이 없는 경우
+     */
+    static List<EvaluationResult> decode(String response, int itemCount) {
+        int objectStart = response != null ? response.indexOf('{') : -1;
+        if (objectStart < 0) {
+            throw new AiOutputSchemaException("JSON 객체가 없습니다.");
+        }
+
+        JsonNode root;
+        try {
+            root = MAPPER.readTree(response.substring(objectStart));
+        } catch (JsonProcessingException e) {
+            throw new AiOutputSchemaException("JSON 문법 오류: " + e.getOriginalMessage());
+        }
+        JsonNode items = root.get("results");
+        if (items == null || !items.isArray()) {
+            throw new AiOutputSchemaException("results 배열이 없습니다.");
+        }
+
+        List<EvaluationResult> results = new ArrayList<>(Collections.nCopies(itemCount, null));
+        for (JsonNode item : items) {
+            JsonNode id = item.get("id");
+            if (id == null || !id.isIntegralNumber() || id.asInt() < 1 || id.asInt() > itemCount) {
+                continue;
+            }
+            try {
+                JsonEvaluationDecoder decoder = new JsonEvaluationDecoder(token -> { });
+                decoder.feed(item.toString());
+                results.set(id.asInt() - 1, decoder.finish());
+            } catch (AiOutputSchemaException e) {
+                // 이 항목만 평가하지 못한 것으로 처리
+            }
+        }
+        return results;
+    }
+}
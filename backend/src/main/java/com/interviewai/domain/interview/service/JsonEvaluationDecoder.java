@@ -0,0 +1,74 @@
+package com.interviewai.domain.interview.service;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+
+/**
+ * 평가 JSON 디코더
+ * 스키마: {"score": 1-10 정수, "feedback": 문자열, "modelAnswer": 문자열}
+ * 각 필드는 값이 완성되는 즉시 리스너로 전달한다.
+ */
+class JsonEvaluationDecoder extends IncrementalJsonDecoder<EvaluationResult> {
+
+    private final EvaluationStreamListener listener;
+
+    private Integer score;
+    private String feedback;
+    private String modelAnswer;
+
+    JsonEvaluationDecoder(EvaluationStreamListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    protected void onValue(String objectField, String field, JsonToken token, JsonParser parser) throws IOException {
+        if (objectField != null || field == null) {
+            return;
+        }
+
+        switch (field) {
+            case "score" -> {
+                if (token != JsonToken.VALUE_NUMBER_INT) {
+                    throw new AiOutputSchemaException("score는 정수여야 합니다.");
+                }
+                score = parser.getIntValue();
+                listener.onScore(score);
+            }
+            case "feedback" -> {
+                feedback = requireString(field, token, parser);
+                listener.onFeedback(feedback);
+            }
+            case "modelAnswer" -> {
+                modelAnswer = requireString(field, token, parser);
+                listener.onModelAnswer(modelAnswer);
+            }
+            default -> {
+                // 정의되지 않은 필드는 무시
+            }
+        }
+    }
+
+    @Override
+    protected EvaluationResult result() {
+        if (score == null || score < 1 || score > 10) {
+            throw new AiOutputSchemaException("score는 1-10 사이 정수여야 합니다.");
+        }
+        if (feedback == null || feedback.isBlank()) {
+            throw new AiOutputSchemaException("feedback이 비어 있습니다.");
+        }
+        if (modelAnswer == null || modelAnswer.isBlank()) {
+            throw new AiOutputSchemaException("modelAnswer가 비어 있습니다.");
+        }
+        return EvaluationResult.of(score, feedback.trim(), modelAnswer.trim());
+    }
+
+    private String requireString(String field, JsonToken token, JsonParser parser) throws IOException {
+        if (token != JsonToken.VALUE_STRING) {
+            throw new AiOutputSchemaException(field + "는 문자열이어야 합니다.");
+        }
+        return parser.getText();
+    }
+}
@@ -0,0 +1,93 @@
+package com.interviewai.domain.interview.service;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+/**
+ * 종합 평가 JSON 디코더
+ * 스키마: {"summary": 문자열, "overallScore": 0-10 정수, "categoryScores": {카테고리: 0-10 정수, ...}}
+ * categoryScores는 면접 유형의 모든 카테고리를 포함해야 한다.
+ */
+class JsonSummaryDecoder extends IncrementalJsonDecoder<SummaryResult> {
+
+    private static final String CATEGORY_SCORES_FIELD = "categoryScores";
+
+    private final List<String> categories;
+
+    private String summary;
+    private Integer overallScore;
+    private final Map<String, Integer> categoryScores = new LinkedHashMap<>();
+
+    JsonSummaryDecoder(List<String> categories) {
+        this.categories = categories;
+    }
+
+    @Override
+    protected void onValue(String objectField, String field, JsonToken token, JsonParser parser) throws IOException {
+        if (field == null) {
+            return;
+        }
+
+        if (CATEGORY_SCORES_FIELD.equals(objectField)) {
+            if (categories.contains(field)) {
+                categoryScores.put(field, requireScore(field, token, parser));
+            }
+            return;
+        }
+        if (objectField != null) {
+            return;
+        }
+
+        switch (field) {
+            case "summary" -> {
+                if (token != JsonToken.VALUE_STRING) {
+                    throw new AiOutputSchemaException("summary는 문자열이어야 합니다.");
+                }
+                summary = parser.getText();
+            }
+            case "overallScore" -> overallScore = requireScore(field, token, parser);
+            default -> {
+                // 정의되지 않은 필드는 무시
+            }
+        }
+    }
+
+    @Override
+    protected SummaryResult result() {
+        if (summary == null || summary.isBlank()) {
+            throw new AiOutputSchemaException("summary가 비어 있습니다.");
+        }
+        if (overallScore == null) {
+            throw new AiOutputSchemaException("overallScore가 없습니다.");
+        }
+
+        // 카테고리 순서는 면접 유형 정의 순서를 따름
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        for (String category : categories) {
+            Integer score = categoryScores.get(category);
+            if (score == null) {
+                throw new AiOutputSchemaException("categoryScores에 '" + category + "' 점수가 없습니다.");
+            }
+            ordered.put(category, score);
+        }
+
+        return SummaryResult.of(summary.trim(), overallScore, ordered);
+    }
+
+    private int requireScore(String field, JsonToken token, JsonParser parser) throws IOException {
+        if (token != JsonToken.VALUE_NUMBER_INT) {
+            throw new AiOutputSchemaException(field + "는 정수여야 합니다.");
+        }
+        int score = parser.getIntValue();
+        if (score < 0 || score > 10) {
+            throw new AiOutputSchemaException(field + "는 0-10 사이 정수여야 합니다.");
+        }
+        return score;
+    }
+}
@@ -0,0 +1,54 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * 토큰 스트림을 줄 단위로 끊어 넘겨주는 증분 파서 기본 클래스
+ *
+ * 토큰이 도착할 때마다 feed 하면 줄이 끝나는 즉시 onLine이 호출된다.
+ * 줄 버퍼 하나를 재사용하며, 줄 앞뒤 공백은 잘라낸 구간(start, end)으로 넘긴다.
+ */
+abstract class LineStreamParser {
+
+    private final StringBuilder raw = new StringBuilder();
+    private final StringBuilder line = new StringBuilder();
+
+    /**
+     * 토큰(또는 전체 응답) 입력
+     */
+    public void feed(CharSequence chunk) {
+        raw.append(chunk);
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (c == '\n') {
+                processLine();
+            } else {
+                line.append(c);
+            }
+        }
+    }
+
+    /**
+     * 줄 하나 처리 (line은 재사용되므로 보관하려면 복사해야 함)
+     */
+    protected abstract void onLine(CharSequence line, int start, int end);
+
+    /**
+     * 마지막 줄 처리 (스트림 종료 시)
+     */
+    protected void flush() {
+        processLine();
+    }
+
+    /**
+     * 지금까지 입력된 원본 응답
+     */
+    protected String raw() {
+        return raw.toString();
+    }
+
+    private void processLine() {
+        int start = AiResponseParser.trimStart(line, 0, line.length());
+        int end = AiResponseParser.trimEnd(line, start, line.length());
+        onLine(line, start, end);
+        line.setLength(0);
+    }
+}
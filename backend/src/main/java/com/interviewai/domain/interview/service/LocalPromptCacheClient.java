@@ -0,0 +1,43 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 컨텍스트 캐시 (loadtest 프로필)
+ * 제공자 호출 없이 캐시 생성/연장/만료 흐름과 지표만 재현한다.
+ */
+@Profile("loadtest")
+@Component
+public class LocalPromptCacheClient implements PromptCacheClient {
+
+    private final Map<String, Instant> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public Handle create(String model, String systemPrompt, Duration ttl) {
+        String name = "cachedContents/local-" + UUID.randomUUID();
+        Instant expireTime = Instant.now().plus(ttl);
+        caches.put(name, expireTime);
+        return new Handle(name, expireTime, TokenEstimator.estimate(systemPrompt));
+    }
+
+    @Override
+    public Instant refresh(String name, Duration ttl) {
+        Instant expireTime = Instant.now().plus(ttl);
+        if (caches.computeIfPresent(name, (key, previous) -> expireTime) == null) {
+            throw new IllegalStateException("존재하지 않는 캐시: " + name);
+        }
+        return expireTime;
+    }
+
+    @Override
+    public void delete(String name) {
+        caches.remove(name);
+    }
+}
@@ -0,0 +1,173 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.hibernate.Hibernate;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+/**
+ * AiService 호출 지표 데코레이터 (가장 바깥에서 호출자가 체감하는 시간을 측정)
+ *
+ * - ai.service.calls: 메서드/면접 유형/난이도/결과별 소요 시간 (캐시 적중, 스케줄러 대기 포함)
+ * - ai.service.in.flight: 메서드별 진행 중인 호출 수
+ */
+public class MeteredAiService extends DelegatingAiService {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry registry;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public MeteredAiService(AiService delegate, MeterRegistry registry) {
+        super(delegate);
+        this.registry = registry;
+    }
+
+    @Override
+    public String generateQuestion(Interview interview, Answer previousAnswer) {
+        return record("generateQuestion", interview, () -> delegate.generateQuestion(interview, previousAnswer));
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        return record("evaluateAnswer", question.getInterview(), () -> delegate.evaluateAnswer(question, answer));
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        return record("evaluateAnswerStream", question.getInterview(),
+                () -> delegate.evaluateAnswerStream(question, answer, listener));
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        return record("evaluateAnswers", null, () -> delegate.evaluateAnswers(answers));
+    }
+
+    @Override
+    public SummaryResult generateSummary(Interview interview) {
+        return record("generateSummary", interview, () -> delegate.generateSummary(interview));
+    }
+
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        return record("updateRollingSummary", interview,
+                () -> delegate.updateRollingSummary(interview, previousSummary, question, answer, evaluation));
+    }
+
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        return record("finalizeRollingSummary", interview,
+                () -> delegate.finalizeRollingSummary(interview, rollingSummary));
+    }
+
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        return recordReactive("generateQuestionReactive", interview,
+                () -> delegate.generateQuestionReactive(interview, previousAnswer));
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        return recordReactive("evaluateAnswerReactive", question.getInterview(),
+                () -> delegate.evaluateAnswerReactive(question, answer, listener));
+    }
+
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        return recordReactive("generateSummaryReactive", interview, () -> delegate.generateSummaryReactive(interview));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private <T> T record(String method, Interview interview, Supplier<T> call) {
+        AtomicInteger counter = inFlight.computeIfAbsent(method, this::registerInFlight);
+        counter.incrementAndGet();
+
+        Timer.Sample sample = Timer.start(registry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = outcomeOf(result);
+            return result;
+        } finally {
+            counter.decrementAndGet();
+            stop(sample, method, interview, outcome);
+        }
+    }
+
+    // 구독부터 완료/오류/취소까지 측정 (취소는 클라이언트 연결 종료 등)
+    private <T> Mono<T> recordReactive(String method, Interview interview, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            AtomicInteger counter = inFlight.computeIfAbsent(method, this::registerInFlight);
+            counter.incrementAndGet();
+
+            Timer.Sample sample = Timer.start(registry);
+            AtomicReference<String> outcome = new AtomicReference<>("error");
+            return Mono.defer(call)
+                    .doOnSuccess(result -> outcome.set(outcomeOf(result)))
+                    .doOnCancel(() -> outcome.set("cancelled"))
+                    .doFinally(signal -> {
+                        counter.decrementAndGet();
+                        stop(sample, method, interview, outcome.get());
+                    });
+        });
+    }
+
+    private String outcomeOf(Object result) {
+        return result instanceof EvaluationResult evaluation && evaluation.isDeferred() ? "deferred" : "success";
+    }
+
+    private void stop(Timer.Sample sample, String method, Interview interview, String outcome) {
+        sample.stop(Timer.builder("ai.service.calls")
+                .description("AiService 호출 소요 시간")
+                .tag("method", method)
+                .tag("type", typeOf(interview))
+                .tag("difficulty", difficultyOf(interview))
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private AtomicInteger registerInFlight(String method) {
+        AtomicInteger counter = new AtomicInteger();
+        Gauge.builder("ai.service.in.flight", counter, AtomicInteger::get)
+                .description("진행 중인 AiService 호출 수")
+                .tag("method", method)
+                .register(registry);
+        return counter;
+    }
+
+    // 준영속 면접의 연관이 로딩되지 않았거나 저장 전 면접이면 UNKNOWN (태그 값은 enum으로 한정)
+    private String typeOf(Interview interview) {
+        if (interview == null || !Hibernate.isInitialized(interview) || interview.getType() == null) {
+            return UNKNOWN;
+        }
+        return interview.getType().name();
+    }
+
+    private String difficultyOf(Interview interview) {
+        if (interview == null || !Hibernate.isInitialized(interview) || interview.getDifficulty() == null) {
+            return UNKNOWN;
+        }
+        return interview.getDifficulty().name();
+    }
+}
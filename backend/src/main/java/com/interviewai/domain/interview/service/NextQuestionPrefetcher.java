@@ -0,0 +1,137 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.global.config.QuestionPrefetchProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * 다음 질문 선행 생성
+ *
+ * 꼬리질문 비활성화 면접의 새 주제 질문은 이전 질문 내용과 진행 개수만 사용하므로,
+ * 질문 N을 내려준 직후 사용자가 답변을 작성하는 동안 질문 N+1을 미리 생성해 둔다.
+ * 답변 제출/이어하기 시 질문 N의 ID로 꺼내 쓰고, 없으면 기존처럼 동기 생성한다.
+ * 선행 생성은 백그라운드 우선순위로 실행되어 부하 시 가장 늦게 처리되므로,
+ * 생성 중인 질문은 take-wait-ms까지만 기다리고 넘어간다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class NextQuestionPrefetcher {
+
+    private final AiService aiService;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final QuestionPrefetchProperties properties;
+
+    // 키: 방금 내려준 질문 ID
+    private final Map<Long, Prefetch> prefetches = new ConcurrentHashMap<>();
+
+    /**
+     * 질문을 내려준 직후 다음 질문 선행 생성
+     *
+     * @param servedQuestion 방금 내려준 질문 (면접의 질문 목록이 로딩된 상태여야 함)
+     */
+    public void prefetch(Question servedQuestion) {
+        Interview interview = servedQuestion.getInterview();
+
+        if (!properties.enabled()
+                || interview.isFollowUpEnabled()
+                || interview.getQuestionCount() >= interview.getQuestionLimit()
+                || prefetches.containsKey(servedQuestion.getId())
+                || prefetches.size() >= properties.maxEntries()) {
+            return;
+        }
+
+        // 새 주제 질문 프롬프트는 답변 내용을 사용하지 않으므로 질문만 연결된 빈 답변으로 생성
+        Answer placeholder = Answer.builder()
+                .question(servedQuestion)
+                .build();
+
+        try {
+            CompletableFuture<String> future = CompletableFuture.supplyAsync(
+                    () -> AiRequestScheduler.background(() -> aiService.generateQuestion(interview, placeholder)),
+                    aiTaskExecutor);
+            prefetches.putIfAbsent(servedQuestion.getId(), new Prefetch(future, Instant.now()));
+        } catch (TaskRejectedException e) {
+            log.debug("다음 질문 선행 생성 거절 - 질문 ID: {}", servedQuestion.getId());
+        }
+    }
+
+    /**
+     * 선행 생성된 다음 질문 꺼내기 (생성 중이면 take-wait-ms까지 대기)
+     *
+     * @param answeredQuestionId 답변한 질문 ID
+     * @return 다음 질문 내용 (없거나 생성 실패/대기 시간 초과 시 empty → 동기 생성)
+     */
+    public Optional<String> take(Long answeredQuestionId) {
+        Prefetch prefetch = prefetches.remove(answeredQuestionId);
+        if (prefetch == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(prefetch.future().get(properties.takeWaitMs(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            log.debug("다음 질문 선행 생성 대기 시간 초과 - 질문 ID: {}", answeredQuestionId);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("다음 질문 선행 생성 실패 - 질문 ID: {}, {}", answeredQuestionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 선행 생성된 다음 질문 꺼내기 (리액티브, 생성 중이면 스레드를 점유하지 않고 take-wait-ms까지 대기)
+     */
+    public Mono<Optional<String>> takeReactive(Long answeredQuestionId) {
+        Prefetch prefetch = prefetches.remove(answeredQuestionId);
+        if (prefetch == null) {
+            return Mono.just(Optional.empty());
+        }
+
+        return Mono.fromFuture(prefetch.future(), true)
+                .map(Optional::of)
+                .timeout(Duration.ofMillis(properties.takeWaitMs()), Mono.fromSupplier(() -> {
+                    log.debug("다음 질문 선행 생성 대기 시간 초과 - 질문 ID: {}", answeredQuestionId);
+                    return Optional.<String>empty();
+                }))
+                .onErrorResume(e -> {
+                    log.warn("다음 질문 선행 생성 실패 - 질문 ID: {}, {}", answeredQuestionId, e.getMessage());
+                    return Mono.just(Optional.<String>empty());
+                });
+    }
+
+    /**
+     * 사용되지 않은 선행 생성 결과 정리 (면접 이탈 등)
+     */
+    @Scheduled(initialDelayString = "${interview.ai.prefetch.evict-interval-ms}",
+               fixedDelayString = "${interview.ai.prefetch.evict-interval-ms}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        prefetches.entrySet().removeIf(entry ->
+                Duration.between(entry.getValue().createdAt(), now).toMinutes() >= properties.ttlMinutes());
+    }
+
+    private record Prefetch(CompletableFuture<String> future, Instant createdAt) {}
+}
@@ -0,0 +1,37 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 모델 제공자 측 컨텍스트 캐시 API
+ * 구현체는 프로필로 선택: 기본 GeminiPromptCacheClient, loadtest 프로필은 LocalPromptCacheClient
+ */
+public interface PromptCacheClient {
+
+    /**
+     * 시스템 프롬프트를 담은 캐시 생성
+     */
+    Handle create(String model, String systemPrompt, Duration ttl);
+
+    /**
+     * 캐시 만료 시각 연장
+     *
+     * @return 새 만료 시각
+     */
+    Instant refresh(String name, Duration ttl);
+
+    /**
+     * 캐시 삭제
+     */
+    void delete(String name);
+
+    /**
+     * 생성된 캐시
+     *
+     * @param name       요청에 지정할 캐시 이름
+     * @param expireTime 만료 시각
+     * @param tokens     캐시된 토큰 수 (요청마다 다시 보내지 않는 입력 토큰)
+     */
+    record Handle(String name, Instant expireTime, int tokens) {}
+}
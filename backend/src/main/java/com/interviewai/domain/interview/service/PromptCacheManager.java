@@ -0,0 +1,184 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.interviewai.global.config.PromptCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시스템 프롬프트 컨텍스트 캐시 관리
+ *
+ * 시스템 프롬프트는 PromptTemplateRegistry에서 (종류, 유형, 난이도)별로 고정된 문자열이므로
+ * (모델, 시스템 프롬프트)마다 제공자 측 캐시를 하나 만들어 두고 요청에는 캐시 이름만 지정한다.
+ * - 생성/연장은 aiTaskExecutor에서 수행하고, 캐시가 준비되기 전 요청은 시스템 프롬프트를 그대로 보냄
+ * - 만료가 refresh-before-minutes 안으로 다가오면 사용 중인 캐시만 연장
+ * - idle-minutes 동안 사용되지 않은 캐시(템플릿 갱신으로 바뀐 프롬프트 포함)는 삭제
+ * - 생성 실패 시 retry-delay-ms 동안 캐시 없이 호출
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PromptCacheManager {
+
+    private final PromptCacheClient client;
+    private final PromptCacheProperties properties;
+    private final AiMetrics aiMetrics;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+
+    private final Map<CacheKey, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 시스템 프롬프트 대신 요청에 지정할 캐시 이름
+     *
+     * @return 사용 가능한 캐시가 없으면 empty (시스템 프롬프트를 그대로 전송)
+     */
+    public Optional<String> lookup(AiOperation operation, String model, String systemPrompt) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+
+        Entry entry = entries.computeIfAbsent(new CacheKey(model, systemPrompt),
+                key -> new Entry(TokenEstimator.estimate(systemPrompt)));
+        if (entry.estimatedTokens < properties.minTokens()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        entry.lastUsedAt = now;
+
+        PromptCacheClient.Handle handle = entry.handle;
+        if (handle != null && handle.expireTime().toEpochMilli() > now) {
+            if (handle.expireTime().toEpochMilli() - now < TimeUnit.MINUTES.toMillis(properties.refreshBeforeMinutes())) {
+                submit(entry, () -> refresh(entry));
+            }
+            aiMetrics.recordPromptCacheLookup(operation, true, handle.tokens());
+            return Optional.of(handle.name());
+        }
+
+        if (now >= entry.retryAt) {
+            submit(entry, () -> create(model, systemPrompt, entry));
+        }
+        aiMetrics.recordPromptCacheLookup(operation, false, 0);
+        return Optional.empty();
+    }
+
+    /**
+     * 사용 중인 캐시에 대해 오류가 발생하면 버림 (제공자 측에서 먼저 만료/삭제된 경우)
+     */
+    public void invalidate(String model, String systemPrompt) {
+        Entry entry = entries.get(new CacheKey(model, systemPrompt));
+        if (entry != null) {
+            entry.handle = null;
+        }
+    }
+
+    /**
+     * 사용되지 않는 캐시 삭제
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictIdle() {
+        long idleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(properties.idleMinutes());
+        entries.entrySet().removeIf(e -> {
+            Entry entry = e.getValue();
+            if (entry.lastUsedAt >= idleBefore || entry.busy.get()) {
+                return false;
+            }
+            PromptCacheClient.Handle handle = entry.handle;
+            if (handle != null) {
+                submit(entry, () -> delete(handle));
+            }
+            return true;
+        });
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void submit(Entry entry, Runnable task) {
+        if (!entry.busy.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            aiTaskExecutor.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    entry.busy.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            entry.busy.set(false);
+            log.debug("프롬프트 캐시 작업 거절 (실행기 포화)");
+        }
+    }
+
+    private void create(String model, String systemPrompt, Entry entry) {
+        try {
+            entry.handle = client.create(model, systemPrompt, ttl());
+            aiMetrics.recordPromptCacheEvent("created");
+            log.info("프롬프트 캐시 생성 - 모델: {}, 이름: {}, 토큰: {}", model, entry.handle.name(), entry.handle.tokens());
+        } catch (RuntimeException e) {
+            entry.retryAt = System.currentTimeMillis() + properties.retryDelayMs();
+            aiMetrics.recordPromptCacheEvent("failed");
+            log.warn("프롬프트 캐시 생성 실패, {}ms 동안 캐시 없이 호출 - 모델: {}, {}",
+                    properties.retryDelayMs(), model, e.getMessage());
+        }
+    }
+
+    private void refresh(Entry entry) {
+        PromptCacheClient.Handle handle = entry.handle;
+        if (handle == null) {
+            return;
+        }
+        try {
+            Instant expireTime = client.refresh(handle.name(), ttl());
+            entry.handle = new PromptCacheClient.Handle(handle.name(), expireTime, handle.tokens());
+            aiMetrics.recordPromptCacheEvent("refreshed");
+        } catch (RuntimeException e) {
+            // 연장에 실패한 캐시는 버리고 다음 요청에서 다시 생성
+            entry.handle = null;
+            aiMetrics.recordPromptCacheEvent("failed");
+            log.warn("프롬프트 캐시 연장 실패 - 이름: {}, {}", handle.name(), e.getMessage());
+        }
+    }
+
+    private void delete(PromptCacheClient.Handle handle) {
+        try {
+            client.delete(handle.name());
+            aiMetrics.recordPromptCacheEvent("expired");
+        } catch (RuntimeException e) {
+            // 삭제하지 못해도 제공자 측 TTL이 지나면 만료됨
+            log.debug("프롬프트 캐시 삭제 실패 - 이름: {}, {}", handle.name(), e.getMessage());
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofMinutes(properties.ttlMinutes());
+    }
+
+    private record CacheKey(String model, String systemPrompt) {}
+
+    private static final class Entry {
+        private final int estimatedTokens;
+        private final AtomicBoolean busy = new AtomicBoolean();
+        private volatile PromptCacheClient.Handle handle;
+        private volatile long lastUsedAt = System.currentTimeMillis();
+        private volatile long retryAt;
+
+        private Entry(int estimatedTokens) {
+            this.estimatedTokens = estimatedTokens;
+        }
+    }
+}
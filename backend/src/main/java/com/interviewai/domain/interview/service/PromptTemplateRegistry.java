@@ -0,0 +1,325 @@
+package com.interviewai.domain.interview.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.InterviewDifficulty;
+import com.interviewai.domain.interview.entity.InterviewType;
+import com.interviewai.global.config.PromptTemplateProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시스템 프롬프트 템플릿 레지스트리
+ *
+ * 시스템 프롬프트는 (종류, 면접 유형, 난이도)로만 달라지므로 시작 시 모든 조합을 미리 만들어 두고
+ * 요청마다 같은 문자열 인스턴스를 반환한다. (요청별 내용은 사용자 프롬프트에만 넣는다)
+ * 같은 키의 시스템 프롬프트는 템플릿이 바뀌기 전까지 항상 동일하므로 모델 측 프롬프트 캐시에 재사용할 수 있다.
+ *
+ * location에 템플릿 파일(UTF-8 properties)을 지정하면 내장 템플릿을 키별로 덮어쓰고,
+ * 파일이 바뀌면 다시 읽는다. (읽기 실패 시 기존 템플릿 유지)
+ * 치환자: {type}, {level}, {experience}, {categoryLines:점수 형식}, {categoryFields:점수 형식}
+ */
+@Slf4j
+@Component
+public class PromptTemplateRegistry {
+
+    private static final InterviewType[] TYPES = InterviewType.values();
+    private static final InterviewDifficulty[] DIFFICULTIES = InterviewDifficulty.values();
+
+    private static final Pattern CATEGORY_PLACEHOLDER = Pattern.compile("\\{(categoryLines|categoryFields):([^}]*)}");
+
+    private static final String QUESTION_SYSTEM =
+            "당신은 {type} 분야의 기술 면접관입니다.\n" +
+            "대상: {level} 수준 ({experience} 경력)\n\n" +
+            "규칙:\n" +
+            "1. 질문은 한국어로 작성\n" +
+            "2. 한 번에 하나의 질문만 생성\n" +
+            "3. 실무에서 중요한 개념을 질문\n" +
+            "4. 난이도에 맞는 깊이로 질문";
+
+    private static final String EVALUATION_SYSTEM =
+            "당신은 한국 테크 기업의 기술 면접 평가자입니다.\n\n" +
+            "답변을 평가하고 반드시 아래 형식으로만 응답하세요:\n\n" +
+            "점수: [1-10 사이 정수]\n" +
+            "피드백: [답변의 좋은 점과 부족한 점을 구체적으로 설명]\n" +
+            "모범답안: [이 질문에 대한 이상적인 답변 예시]\n\n" +
+            "점수 기준:\n" +
+            "- 1-3점: 핵심 개념 이해 부족\n" +
+            "- 4-6점: 기본 개념 이해, 세부사항 부족\n" +
+            "- 7-8점: 개념 이해 충분, 실무 적용 가능\n" +
+            "- 9-10점: 깊은 이해 또는 실무 경험 반영\n\n" +
+            "작성 형식 규칙:\n" +
+            "- 피드백과 모범답안은 마크다운 형식으로 작성\n" +
+            "- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n" +
+            "- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n" +
+            "- 중요한 키워드는 **볼드**로 강조\n" +
+            "- 코드나 기술 용어는 `백틱`으로 감싸기";
+
+    private static final String EVALUATION_JSON_SYSTEM =
+            "당신은 한국 테크 기업의 기술 면접 평가자입니다.\n\n" +
+            "답변을 평가하고 다음 JSON 객체 하나로만 응답하세요:\n" +
+            "{\"score\": 1-10 정수, \"feedback\": 좋은 점과 부족한 점, \"modelAnswer\": 이상적인 답변 예시}\n\n" +
+            "점수 기준: 1-3 핵심 개념 이해 부족, 4-6 기본 이해/세부사항 부족, " +
+            "7-8 실무 적용 가능, 9-10 깊은 이해 또는 실무 경험 반영\n" +
+            "feedback과 modelAnswer는 마크다운(번호 리스트, **볼드**, `백틱`)으로 작성";
+
+    private static final String EVALUATION_BATCH_SYSTEM =
+            "당신은 한국 테크 기업의 기술 면접 평가자입니다.\n\n" +
+            "번호가 붙은 여러 질문/답변을 각각 독립적으로 평가하고 다음 JSON 객체 하나로만 응답하세요:\n" +
+            "{\"results\": [{\"id\": 항목 번호, \"score\": 1-10 정수, \"feedback\": 좋은 점과 부족한 점, " +
+            "\"modelAnswer\": 이상적인 답변 예시}, ...]}\n\n" +
+            "모든 항목을 빠짐없이 한 번씩 포함하고, id는 입력의 항목 번호를 그대로 사용하세요.\n" +
+            "점수 기준: 1-3 핵심 개념 이해 부족, 4-6 기본 이해/세부사항 부족, " +
+            "7-8 실무 적용 가능, 9-10 깊은 이해 또는 실무 경험 반영\n" +
+            "feedback과 modelAnswer는 마크다운(번호 리스트, **볼드**, `백틱`)으로 작성";
+
+    private static final String SUMMARY_SYSTEM =
+            "당신은 기술 면접 종합 평가자입니다.\n\n" +
+            "면접 내용을 분석하고 반드시 아래 형식으로만 응답하세요:\n\n" +
+            "=== 종합 평가 ===\n" +
+            "[면접 전체에 대한 종합적인 평가를 작성. 강점, 약점, 개선점, 학습 추천 포함]\n\n" +
+            "=== 전체 점수 ===\n" +
+            "[1-10 사이 정수]\n\n" +
+            "=== 카테고리별 점수 ===\n" +
+            "{categoryLines:[1-10 사이 정수]}" +
+            "\n점수 기준:\n" +
+            "- 1-3점: 기초 부족\n" +
+            "- 4-6점: 기본 이해\n" +
+            "- 7-8점: 충분한 역량\n" +
+            "- 9-10점: 우수한 역량\n\n" +
+            "작성 형식 규칙:\n" +
+            "- 종합 평가는 마크다운 형식으로 작성\n" +
+            "- 여러 항목이 있으면 번호 리스트(1. 2. 3.)를 사용하고 각 항목은 반드시 줄바꿈으로 구분\n" +
+            "- 하위 항목이 있으면 들여쓰기와 함께 글머리 기호(-)를 사용\n" +
+            "- 중요한 키워드는 **볼드**로 강조\n" +
+            "- 코드나 기술 용어는 `백틱`으로 감싸기";
+
+    private static final String SUMMARY_JSON_SYSTEM =
+            "당신은 기술 면접 종합 평가자입니다.\n\n" +
+            "면접 내용을 분석하고 다음 JSON 객체 하나로만 응답하세요:\n" +
+            "{\"summary\": 강점/약점/개선점/학습 추천을 포함한 종합 평가, " +
+            "\"overallScore\": 1-10 정수, \"categoryScores\": {{categoryFields:1-10 정수}}}\n\n" +
+            "점수 기준: 1-3 기초 부족, 4-6 기본 이해, 7-8 충분한 역량, 9-10 우수한 역량\n" +
+            "summary는 마크다운(번호 리스트, **볼드**, `백틱`)으로 작성";
+
+    private static final String ROLLING_SUMMARY_SYSTEM =
+            "당신은 진행 중인 기술 면접의 누적 요약을 관리하는 평가자입니다.\n\n" +
+            "이전 누적 요약에 새 질문/답변을 반영해 갱신하고 반드시 아래 형식으로만 응답하세요:\n\n" +
+            "=== 종합 평가 ===\n" +
+            "[지금까지의 강점, 약점, 개선점을 600자 이내로 압축]\n\n" +
+            "=== 카테고리별 점수 ===\n" +
+            "{categoryLines:[0-10 사이 정수]}" +
+            "\n아직 근거가 없는 카테고리는 이전 점수를 유지하고, 처음이면 0으로 작성하세요.";
+
+    /**
+     * 시스템 프롬프트 종류 (key: 템플릿 파일의 키)
+     */
+    public enum Kind {
+        QUESTION_SYSTEM(AiOperation.QUESTION, "question.system", true, true),
+        EVALUATION_SYSTEM(AiOperation.EVALUATION, "evaluation.system", false, false),
+        EVALUATION_JSON_SYSTEM(AiOperation.EVALUATION, "evaluation.json-system", false, false),
+        EVALUATION_BATCH_SYSTEM(AiOperation.EVALUATION, "evaluation.batch-system", false, false),
+        SUMMARY_SYSTEM(AiOperation.SUMMARY, "summary.system", true, false),
+        SUMMARY_JSON_SYSTEM(AiOperation.SUMMARY, "summary.json-system", true, false),
+        ROLLING_SUMMARY_SYSTEM(AiOperation.SUMMARY, "rolling-summary.system", true, false);
+
+        private final AiOperation operation;
+        private final String key;
+        private final boolean byType;
+        private final boolean byDifficulty;
+
+        Kind(AiOperation operation, String key, boolean byType, boolean byDifficulty) {
+            this.operation = operation;
+            this.key = key;
+            this.byType = byType;
+            this.byDifficulty = byDifficulty;
+        }
+
+        public AiOperation getOperation() {
+            return operation;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final PromptTemplateProperties properties;
+
+    private volatile Templates current;
+
+    public PromptTemplateRegistry(PromptTemplateProperties properties) {
+        this.properties = properties;
+        // 시작 시 템플릿 파일이 잘못되었으면 기동 실패
+        try {
+            this.current = load(0);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalStateException("프롬프트 템플릿 로드 실패: " + properties.location(), e);
+        }
+    }
+
+    /**
+     * 미리 만들어 둔 시스템 프롬프트 (유형/난이도에 따라 달라지지 않는 종류는 null 허용)
+     */
+    public String get(Kind kind, InterviewType type, InterviewDifficulty difficulty) {
+        return current.prompts()[index(kind, type, difficulty)];
+    }
+
+    /**
+     * 면접의 유형/난이도에 맞는 시스템 프롬프트
+     */
+    public String get(Kind kind, Interview interview) {
+        return get(kind, interview.getType(), interview.getDifficulty());
+    }
+
+    /**
+     * 템플릿 버전 (다시 읽을 때마다 증가, 프롬프트 캐시 무효화 기준)
+     */
+    public long version() {
+        return current.version();
+    }
+
+    /**
+     * 템플릿 파일이 바뀌었으면 다시 읽음
+     */
+    @Scheduled(initialDelayString = "${interview.ai.prompt-templates.reload-interval-ms}",
+               fixedDelayString = "${interview.ai.prompt-templates.reload-interval-ms}")
+    public void reloadIfModified() {
+        if (!StringUtils.hasText(properties.location())) {
+            return;
+        }
+
+        Templates previous = current;
+        try {
+            FileTime modified = Files.getLastModifiedTime(Path.of(properties.location()));
+            if (modified.equals(previous.lastModified())) {
+                return;
+            }
+            current = load(previous.version() + 1);
+            log.info("프롬프트 템플릿 갱신 - 파일: {}, 버전: {}", properties.location(), current.version());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("프롬프트 템플릿 갱신 실패, 기존 템플릿 유지 - 파일: {}, {}", properties.location(), e.getMessage());
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private Templates load(long version) throws IOException {
+        Map<Kind, String> templates = defaults();
+        FileTime lastModified = null;
+
+        if (StringUtils.hasText(properties.location())) {
+            Path path = Path.of(properties.location());
+            lastModified = Files.getLastModifiedTime(path);
+            Properties overrides = new Properties();
+            try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                overrides.load(reader);
+            }
+            for (Kind kind : Kind.values()) {
+                String template = overrides.getProperty(kind.key);
+                if (template != null) {
+                    templates.put(kind, template);
+                }
+            }
+        }
+
+        return new Templates(compile(templates), version, lastModified);
+    }
+
+    private static Map<Kind, String> defaults() {
+        Map<Kind, String> templates = new EnumMap<>(Kind.class);
+        templates.put(Kind.QUESTION_SYSTEM, QUESTION_SYSTEM);
+        templates.put(Kind.EVALUATION_SYSTEM, EVALUATION_SYSTEM);
+        templates.put(Kind.EVALUATION_JSON_SYSTEM, EVALUATION_JSON_SYSTEM);
+        templates.put(Kind.EVALUATION_BATCH_SYSTEM, EVALUATION_BATCH_SYSTEM);
+        templates.put(Kind.SUMMARY_SYSTEM, SUMMARY_SYSTEM);
+        templates.put(Kind.SUMMARY_JSON_SYSTEM, SUMMARY_JSON_SYSTEM);
+        templates.put(Kind.ROLLING_SUMMARY_SYSTEM, ROLLING_SUMMARY_SYSTEM);
+        return templates;
+    }
+
+    /**
+     * 모든 (종류, 유형, 난이도) 조합의 프롬프트 생성
+     */
+    private static String[] compile(Map<Kind, String> templates) {
+        String[] prompts = new String[Kind.values().length * TYPES.length * DIFFICULTIES.length];
+        for (Kind kind : Kind.values()) {
+            String template = templates.get(kind);
+            if (!StringUtils.hasText(template)) {
+                throw new IllegalArgumentException("빈 템플릿: " + kind.key);
+            }
+            for (InterviewType type : kind.byType ? TYPES : new InterviewType[] {null}) {
+                for (InterviewDifficulty difficulty : kind.byDifficulty ? DIFFICULTIES : new InterviewDifficulty[] {null}) {
+                    prompts[index(kind, type, difficulty)] = render(template, type, difficulty);
+                }
+            }
+        }
+        return prompts;
+    }
+
+    private static String render(String template, InterviewType type, InterviewDifficulty difficulty) {
+        String rendered = template;
+        if (type != null) {
+            rendered = renderCategories(rendered.replace("{type}", type.getDescription()),
+                    EvaluationCategories.forType(type));
+        }
+        if (difficulty != null) {
+            rendered = rendered.replace("{level}", difficulty.getLabel())
+                    .replace("{experience}", difficulty.getExperience());
+        }
+        return rendered;
+    }
+
+    /**
+     * categoryLines: 카테고리마다 "이름: 점수 형식" 한 줄, categoryFields: "\"이름\": 점수 형식"을 쉼표로 연결
+     */
+    private static String renderCategories(String template, List<String> categories) {
+        Matcher matcher = CATEGORY_PLACEHOLDER.matcher(template);
+        StringBuilder sb = new StringBuilder();
+        while (matcher.find()) {
+            boolean lines = matcher.group(1).equals("categoryLines");
+            String score = matcher.group(2);
+            StringBuilder replacement = new StringBuilder();
+            for (int i = 0; i < categories.size(); i++) {
+                if (lines) {
+                    replacement.append(categories.get(i)).append(": ").append(score).append('\n');
+                } else {
+                    if (i > 0) {
+                        replacement.append(", ");
+                    }
+                    replacement.append('"').append(categories.get(i)).append("\": ").append(score);
+                }
+            }
+            matcher.appendReplacement(sb, Matcher.quoteReplacement(replacement.toString()));
+        }
+        matcher.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static int index(Kind kind, InterviewType type, InterviewDifficulty difficulty) {
+        int typeIndex = kind.byType ? type.ordinal() : 0;
+        int difficultyIndex = kind.byDifficulty ? difficulty.ordinal() : 0;
+        return (kind.ordinal() * TYPES.length + typeIndex) * DIFFICULTIES.length + difficultyIndex;
+    }
+
+    /**
+     * 한 번에 교체되는 템플릿 묶음
+     */
+    private record Templates(String[] prompts, long version, FileTime lastModified) {}
+}
@@ -0,0 +1,313 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+
+import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
+import com.interviewai.domain.interview.dto.AnswerSubmitResponse;
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.InterviewEndResponse;
+import com.interviewai.domain.interview.dto.InterviewStartRequest;
+import com.interviewai.domain.interview.dto.InterviewStartResponse;
+import com.interviewai.domain.interview.dto.QuestionResponse;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.global.common.ApiResponse;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+
+/**
+ * 리액티브 면접 흐름 (시작 / 답변 제출 / 종료)
+ *
+ * InterviewService와 같은 검증/저장 규칙을 따르되 요청 스레드와 모델 응답을 기다리는 스레드를 두지 않는다.
+ * - 모델 호출: AiService의 논블로킹 호출 (ChatClient.stream() 기반, 스케줄러/데드라인/캐시 데코레이터 동일 적용)
+ * - JPA 작업: 커넥션 풀 크기의 persistenceScheduler로 넘겨 짧은 트랜잭션만 실행
+ * - 선행 생성 질문 대기, 지연 평가/누적 요약 대기처럼 블로킹 대기가 남은 작업은 boundedElastic에서 실행
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ReactiveInterviewService {
+
+    private final AiService aiService;
+    private final InterviewService interviewService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final FirstQuestionPool firstQuestionPool;
+    private final NextQuestionPrefetcher nextQuestionPrefetcher;
+    private final RollingSummaryUpdater rollingSummaryUpdater;
+    private final DeferredEvaluator deferredEvaluator;
+    private final Scheduler persistenceScheduler;
+
+    @Value("${interview.ai.parallel-submit-enabled}")
+    private boolean parallelSubmitEnabled;
+
+    /**
+     * 면접 시작
+     * - 시작 가능 여부 검증 → 첫 질문 확보 (풀 또는 AI) → 면접/질문 저장 순으로 처리
+     */
+    public Mono<InterviewStartResponse> startInterview(String email, InterviewStartRequest request) {
+        return persist(() -> {
+                    interviewPersistenceService.validateStart(email, request);
+                    return firstQuestionPool.poll(request.getType(), request.getDifficulty(), request.getCustomType());
+                })
+                .flatMap(pooled -> pooled.map(Mono::just)
+                        .orElseGet(() -> aiService.generateQuestionReactive(InterviewService.draftOf(request), null)))
+                .flatMap(content -> persist(() -> interviewPersistenceService.createInterview(email, request, content)))
+                .map(firstQuestion -> {
+                    nextQuestionPrefetcher.prefetch(firstQuestion);
+                    return InterviewStartResponse.of(firstQuestion.getInterview(), firstQuestion);
+                });
+    }
+
+    /**
+     * 답변 제출
+     * - 답변 저장 → AI 평가/다음 질문 생성 → 결과 저장 순으로 처리
+     * - 꼬리질문 비활성화 시 새 주제 질문은 평가와 동시에 생성, 지연 평가 모드에서는 다음 질문만 생성
+     */
+    public Mono<AnswerSubmitResponse> submitAnswer(String email, Long interviewId, AnswerSubmitRequest request) {
+        return persist(() -> interviewPersistenceService.saveAnswer(email, interviewId, request))
+                .flatMap(submitted -> {
+                    AtomicReference<EvaluationResult> evaluated = new AtomicReference<>();
+                    return evaluateWithNextQuestion(submitted)
+                            .doOnNext(result -> evaluated.set(result.getT1()))
+                            .flatMap(result -> completeAnswer(submitted, result.getT1(), result.getT2().orElse(null)))
+                            .onErrorResume(error -> recoverAnswer(submitted, evaluated.get(), error));
+                });
+    }
+
+    /**
+     * 답변 제출 (SSE 스트리밍)
+     * - 평가 토큰(+ 점수/피드백/모범답안 섹션) → 평가 결과 → 다음 질문 → 최종 결과 순으로 이벤트 전송
+     * - 답변 검증 오류를 포함한 모든 오류는 error 이벤트로 전달
+     * - 클라이언트 연결이 끊겨도 전송만 중단하고 평가/저장은 끝까지 진행
+     */
+    public Flux<ServerSentEvent<Object>> submitAnswerStream(String email, Long interviewId,
+                                                            AnswerSubmitRequest request) {
+        return Flux.create(sink -> persist(() -> interviewPersistenceService.saveAnswer(email, interviewId, request))
+                .flatMap(submitted -> streamEvaluationAndNextQuestion(submitted, sink))
+                .subscribe(
+                        result -> {
+                            sink.next(event("result", result));
+                            sink.complete();
+                        },
+                        error -> sendError(sink, interviewId, error)));
+    }
+
+    /**
+     * 면접 종료
+     * - 면접 조회 → 남은 지연 평가 대기 → AI 종합 평가 → 완료 처리 순으로 처리 (버전 검증은 처음 조회한 면접 기준)
+     */
+    public Mono<InterviewEndResponse> endInterview(String email, Long interviewId) {
+        return persist(() -> interviewPersistenceService.getInProgressInterview(email, interviewId))
+                .flatMap(interview -> Mono.fromCallable(() -> interviewService.awaitDeferredEvaluations(interview))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMap(this::generateSummary)
+                        .flatMap(summary -> persist(() -> interviewPersistenceService.completeInterview(
+                                        interview.getId(), interview.getVersion(), summary))
+                                .map(completed -> InterviewEndResponse.of(completed, summary))));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 답변 작성 중 선행 생성된 다음 질문 (생성 중이면 스레드를 점유하지 않고 take-wait-ms까지 대기)
+     */
+    private Mono<Optional<String>> takePrefetched(SubmittedAnswer submitted) {
+        Interview interview = submitted.interview();
+        if (interview.getQuestionCount() >= interview.getQuestionLimit()) {
+            return Mono.just(Optional.empty());
+        }
+        return nextQuestionPrefetcher.takeReactive(submitted.question().getId());
+    }
+
+    /**
+     * AI 평가 + 다음 질문 (선행 생성된 질문이 없으면 생성, 병렬 제출이면 평가와 동시에 꺼내거나 생성)
+     */
+    private Mono<Tuple2<EvaluationResult, Optional<String>>> evaluateWithNextQuestion(SubmittedAnswer submitted) {
+        Interview interview = submitted.interview();
+        Answer answer = submitted.answer();
+
+        boolean hasNextQuestion = interview.getQuestionCount() < interview.getQuestionLimit();
+        Mono<Optional<String>> nextQuestion = takePrefetched(submitted)
+                .flatMap(prefetched -> prefetched.isPresent() || !hasNextQuestion
+                        ? Mono.just(prefetched)
+                        : aiService.generateQuestionReactive(interview, answer).map(Optional::of));
+
+        if (deferredEvaluator.isEnabled()) {
+            // 평가는 워커가 나중에 반영 (결과는 면접 상세에서 확인)
+            return Mono.zip(Mono.just(EvaluationResult.deferred()), nextQuestion);
+        }
+
+        Mono<EvaluationResult> evaluation = aiService.evaluateAnswerReactive(submitted.question(), answer, token -> { });
+        if (parallelSubmitEnabled && !interview.isFollowUpEnabled()) {
+            return Mono.zip(evaluation, nextQuestion);
+        }
+        return evaluation.zipWhen(result -> nextQuestion);
+    }
+
+    private Mono<AnswerSubmitResponse> completeAnswer(SubmittedAnswer submitted, EvaluationResult evaluation,
+                                                      String nextQuestionContent) {
+        Interview interview = submitted.interview();
+        Answer answer = submitted.answer();
+
+        return persist(() -> Optional.ofNullable(interviewPersistenceService.completeAnswer(
+                        answer.getId(), evaluation, interview.getId(), interview.getVersion(), nextQuestionContent)))
+                .map(newQuestion -> {
+                    afterEvaluation(submitted, evaluation);
+
+                    QuestionResponse nextQuestion = newQuestion.map(question -> {
+                        nextQuestionPrefetcher.prefetch(question);
+                        return QuestionResponse.from(question);
+                    }).orElse(null);
+                    return AnswerSubmitResponse.of(evaluation, nextQuestion);
+                });
+    }
+
+    private Mono<AnswerSubmitResponse> streamEvaluationAndNextQuestion(SubmittedAnswer submitted,
+                                                                       FluxSink<ServerSentEvent<Object>> sink) {
+        Answer answer = submitted.answer();
+        AtomicBoolean evaluationApplied = new AtomicBoolean();
+
+        // AI로 답변 평가 (토큰 단위 전송, 점수/피드백/모범답안은 섹션이 끝나는 즉시 전송)
+        return aiService.evaluateAnswerReactive(submitted.question(), answer, evaluationEventSender(sink))
+                .flatMap(evaluation -> persist(() -> {
+                    interviewPersistenceService.applyEvaluation(answer.getId(), evaluation);
+                    evaluationApplied.set(true);
+                    return evaluation;
+                }))
+                .flatMap(evaluation -> {
+                    afterEvaluation(submitted, evaluation);
+                    sink.next(event("evaluation", evaluation));
+
+                    return generateNextQuestion(submitted)
+                            .doOnNext(nextQuestion -> sink.next(event("next-question", nextQuestion)))
+                            .map(nextQuestion -> AnswerSubmitResponse.of(evaluation, nextQuestion))
+                            .defaultIfEmpty(AnswerSubmitResponse.of(evaluation, null));
+                })
+                .onErrorResume(error -> evaluationApplied.get()
+                        ? Mono.error(error)
+                        : recoverAnswer(submitted, null, error));
+    }
+
+    /**
+     * 답변 저장 후 처리가 실패한 답변을 미평가로 남기지 않도록 복구한 뒤 원래 오류 전달
+     */
+    private <T> Mono<T> recoverAnswer(SubmittedAnswer submitted, EvaluationResult evaluation, Throwable error) {
+        return persist(() -> {
+                    interviewService.recoverAnswer(submitted.answer().getId(), evaluation);
+                    return true;
+                })
+                .then(Mono.error(error));
+    }
+
+    /**
+     * 다음 질문 생성 + 저장 (질문 한도에 도달했으면 empty)
+     */
+    private Mono<QuestionResponse> generateNextQuestion(SubmittedAnswer submitted) {
+        Interview interview = submitted.interview();
+        if (interview.getQuestionCount() >= interview.getQuestionLimit()) {
+            return Mono.empty();
+        }
+
+        return takePrefetched(submitted)
+                .flatMap(prefetched -> prefetched.map(Mono::just)
+                        .orElseGet(() -> aiService.generateQuestionReactive(interview, submitted.answer())))
+                .flatMap(content -> persist(() -> interviewPersistenceService.saveNextQuestion(
+                        interview.getId(), interview.getVersion(), content)))
+                .map(newQuestion -> {
+                    nextQuestionPrefetcher.prefetch(newQuestion);
+                    return QuestionResponse.from(newQuestion);
+                });
+    }
+
+    private void afterEvaluation(SubmittedAnswer submitted, EvaluationResult evaluation) {
+        rollingSummaryUpdater.submit(submitted.interview(), submitted.question(), submitted.answer(), evaluation);
+        if (evaluation.isDeferred()) {
+            deferredEvaluator.dispatch(submitted.answer().getId());
+        }
+    }
+
+    /**
+     * 종합 평가 생성 (누적 요약 기반 정리는 블로킹 호출이므로 boundedElastic에서 실행)
+     */
+    private Mono<SummaryResult> generateSummary(Interview interview) {
+        if (!rollingSummaryUpdater.isEnabled()) {
+            return aiService.generateSummaryReactive(interview);
+        }
+
+        return Mono.fromCallable(() -> interviewService.findCompleteRollingSummary(interview))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(rollingSummary -> rollingSummary
+                        .map(summary -> Mono.fromCallable(() -> aiService.finalizeRollingSummary(interview, summary))
+                                .subscribeOn(Schedulers.boundedElastic()))
+                        .orElseGet(() -> aiService.generateSummaryReactive(interview)));
+    }
+
+    private EvaluationStreamListener evaluationEventSender(FluxSink<ServerSentEvent<Object>> sink) {
+        return new EvaluationStreamListener() {
+            @Override
+            public void onToken(String token) {
+                sink.next(event("evaluation-token", token));
+            }
+
+            @Override
+            public void onScore(int score) {
+                sink.next(event("evaluation-score", score));
+            }
+
+            @Override
+            public void onFeedback(String feedback) {
+                sink.next(event("evaluation-feedback", feedback));
+            }
+
+            @Override
+            public void onModelAnswer(String modelAnswer) {
+                sink.next(event("evaluation-model-answer", modelAnswer));
+            }
+        };
+    }
+
+    private void sendError(FluxSink<ServerSentEvent<Object>> sink, Long interviewId, Throwable error) {
+        ErrorCode errorCode = ErrorCode.AI_SERVICE_UNAVAILABLE;
+        String message = errorCode.getMessage();
+        if (error instanceof CustomException custom) {
+            errorCode = custom.getErrorCode();
+            message = custom.getMessage();
+            log.error("리액티브 답변 처리 실패 - 면접 ID: {}, {}", interviewId, message);
+        } else {
+            log.error("리액티브 답변 처리 실패 - 면접 ID: {}, {} - {}",
+                    interviewId, error.getClass().getSimpleName(), error.getMessage());
+        }
+
+        sink.next(event("error", ApiResponse.ErrorResponse.of(errorCode.getCode(), errorCode.name(), message)));
+        sink.complete();
+    }
+
+    private ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    /**
+     * 블로킹 JPA 작업을 영속성 스케줄러로 넘김 (이후 연산자도 해당 스레드에서 이어지므로 블로킹 호출만 넣음)
+     */
+    private <T> Mono<T> persist(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(persistenceScheduler);
+    }
+}
@@ -0,0 +1,430 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.global.config.AiResilienceProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * AI 호출 장애 대응 데코레이터
+ *
+ * - 데드라인: 작업별 제한 시간 안에 끝나지 않으면 호출을 중단(인터럽트)하고 AI_RESPONSE_TIMEOUT
+ * - 헤징: 질문 생성/평가가 최근 지연 백분위보다 오래 걸리면 같은 요청을 한 번 더 보내 먼저 끝난 결과 사용
+ * - 서킷 브레이커: 실패율이 높으면 일정 시간 호출하지 않고 곧바로 AI_SERVICE_UNAVAILABLE
+ * - 대체 응답: 질문 생성 실패 시 첫 질문 풀의 질문, 평가 실패 시 평가 지연 결과 (나중에 다시 평가)
+ *
+ * 백그라운드 작업(풀 보충, 재평가 등)은 대체 응답 없이 예외를 그대로 던진다.
+ * 리액티브 호출은 같은 데드라인/서킷 브레이커/대체 응답을 적용하되 헤징하지 않는다.
+ */
+@Slf4j
+public class ResilientAiService extends DelegatingAiService {
+
+    private final AiResilienceProperties properties;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiResilienceMetrics metrics;
+    private final ThreadPoolTaskExecutor aiCallExecutor;
+    private final ObjectProvider<FirstQuestionPool> firstQuestionPool;
+
+    public ResilientAiService(AiService delegate,
+                              AiResilienceProperties properties,
+                              AiCircuitBreaker circuitBreaker,
+                              AiResilienceMetrics metrics,
+                              ThreadPoolTaskExecutor aiCallExecutor,
+                              ObjectProvider<FirstQuestionPool> firstQuestionPool) {
+        super(delegate);
+        this.properties = properties;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        this.aiCallExecutor = aiCallExecutor;
+        this.firstQuestionPool = firstQuestionPool;
+    }
+
+    @Override
+    public String generateQuestion(Interview interview, Answer previousAnswer) {
+        boolean background = AiRequestScheduler.isBackground();
+        try {
+            return execute(AiOperation.QUESTION, properties.questionTimeoutMs(), true,
+                    () -> delegate.generateQuestion(interview, previousAnswer));
+        } catch (RuntimeException e) {
+            if (background || !isUnavailable(e)) {
+                throw e;
+            }
+            return fallbackQuestion(interview, e).orElseThrow(() -> e);
+        }
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        boolean background = AiRequestScheduler.isBackground();
+        try {
+            return execute(AiOperation.EVALUATION, properties.evaluationTimeoutMs(), true,
+                    () -> delegate.evaluateAnswer(question, answer));
+        } catch (RuntimeException e) {
+            if (background || !isUnavailable(e)) {
+                throw e;
+            }
+            return deferEvaluation(question, e);
+        }
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        boolean background = AiRequestScheduler.isBackground();
+
+        // 데드라인 이후 늦게 도착한 토큰/섹션은 전달하지 않음 (스트리밍은 헤징하지 않음)
+        GuardedListener guarded = new GuardedListener(listener);
+        try {
+            return execute(AiOperation.EVALUATION, properties.streamTimeoutMs(), false,
+                    () -> delegate.evaluateAnswerStream(question, answer, guarded));
+        } catch (RuntimeException e) {
+            if (background || !isUnavailable(e)) {
+                throw e;
+            }
+            return deferEvaluation(question, e);
+        } finally {
+            guarded.close();
+        }
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        // 여러 답변의 평가를 한 번에 생성하므로 종합 평가와 같은 제한 시간 적용, 대체 응답 없음
+        return execute(AiOperation.EVALUATION, properties.summaryTimeoutMs(), false,
+                () -> delegate.evaluateAnswers(answers));
+    }
+
+    @Override
+    public SummaryResult generateSummary(Interview interview) {
+        return execute(AiOperation.SUMMARY, properties.summaryTimeoutMs(), false,
+                () -> delegate.generateSummary(interview));
+    }
+
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        return execute(AiOperation.SUMMARY, properties.summaryTimeoutMs(), false,
+                () -> delegate.updateRollingSummary(interview, previousSummary, question, answer, evaluation));
+    }
+
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        return execute(AiOperation.SUMMARY, properties.summaryTimeoutMs(), false,
+                () -> delegate.finalizeRollingSummary(interview, rollingSummary));
+    }
+
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        return executeReactive(AiOperation.QUESTION, properties.questionTimeoutMs(),
+                () -> delegate.generateQuestionReactive(interview, previousAnswer))
+                .onErrorResume(this::isUnavailable, e -> Mono.justOrEmpty(fallbackQuestion(interview, e))
+                        .switchIfEmpty(Mono.error(e)));
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        return Mono.defer(() -> {
+            GuardedListener guarded = new GuardedListener(listener);
+            return executeReactive(AiOperation.EVALUATION, properties.streamTimeoutMs(),
+                    () -> delegate.evaluateAnswerReactive(question, answer, guarded))
+                    .doFinally(signal -> guarded.close());
+        }).onErrorResume(this::isUnavailable, e -> Mono.just(deferEvaluation(question, e)));
+    }
+
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        return executeReactive(AiOperation.SUMMARY, properties.summaryTimeoutMs(),
+                () -> delegate.generateSummaryReactive(interview));
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private <T> T execute(AiOperation operation, long timeoutMs, boolean hedgeable, Supplier<T> call) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            metrics.recordShortCircuit(operation);
+            throw new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+        }
+
+        // 호출 스레드가 바뀌므로 백그라운드 우선순위를 그대로 넘겨줌
+        Supplier<T> task = AiRequestScheduler.isBackground()
+                ? () -> AiRequestScheduler.background(call)
+                : call;
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        Attempts<T> attempts = new Attempts<>(task);
+
+        try {
+            attempts.launch();
+            T result = hedgeable && properties.hedgeEnabled()
+                    ? awaitHedged(operation, attempts, deadline)
+                    : attempts.await(deadline);
+
+            circuitBreaker.onSuccess();
+            metrics.recordSuccess(operation, System.nanoTime() - startedAt);
+            if (attempts.winner() > 0) {
+                metrics.recordHedgeWin(operation);
+            }
+            return result;
+        } catch (TimeoutException | RuntimeException e) {
+            throw onCallFailure(operation, timeoutMs, e);
+        } finally {
+            attempts.cancelLosers();
+        }
+    }
+
+    /**
+     * 리액티브 호출에 데드라인/서킷 브레이커 적용 (데드라인 초과 시 구독을 취소해 모델 스트림도 끊음)
+     */
+    private <T> Mono<T> executeReactive(AiOperation operation, long timeoutMs, Supplier<Mono<T>> call) {
+        if (!properties.enabled()) {
+            return call.get();
+        }
+
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                metrics.recordShortCircuit(operation);
+                return Mono.error(new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE));
+            }
+
+            long startedAt = System.nanoTime();
+            return Mono.defer(call)
+                    .timeout(Duration.ofMillis(timeoutMs))
+                    .doOnSuccess(result -> {
+                        circuitBreaker.onSuccess();
+                        metrics.recordSuccess(operation, System.nanoTime() - startedAt);
+                    })
+                    .doOnCancel(circuitBreaker::onIgnored)
+                    .onErrorMap(Exception.class, e -> onCallFailure(operation, timeoutMs, e));
+        });
+    }
+
+    /**
+     * 호출 실패 기록 (서킷 브레이커 + 지표) 후 호출자에게 던질 예외 반환
+     */
+    private RuntimeException onCallFailure(AiOperation operation, long timeoutMs, Exception e) {
+        if (e instanceof TimeoutException) {
+            circuitBreaker.onFailure();
+            metrics.recordTimeout(operation);
+            log.warn("AI 호출 데드라인 초과 - 작업: {}, 제한: {}ms", operation, timeoutMs);
+            return new CustomException(ErrorCode.AI_RESPONSE_TIMEOUT);
+        }
+
+        boolean modelFailure = e instanceof CustomException custom
+                ? isModelFailure(custom.getErrorCode())
+                : AiProviderErrors.isUnavailable(e);
+        if (modelFailure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+        metrics.recordFailure(operation);
+        return e instanceof RuntimeException runtime ? runtime : new IllegalStateException(e);
+    }
+
+    private <T> T awaitHedged(AiOperation operation, Attempts<T> attempts, long deadline) throws TimeoutException {
+        OptionalLong percentileMs = metrics.latencyPercentileMs(
+                operation, properties.hedgePercentile(), properties.hedgeMinSamples());
+        if (percentileMs.isEmpty()) {
+            return attempts.await(deadline);
+        }
+
+        long hedgeDelayMs = Math.max(properties.hedgeMinDelayMs(), percentileMs.getAsLong());
+        long hedgeAt = Math.min(deadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(hedgeDelayMs));
+        try {
+            return attempts.await(hedgeAt);
+        } catch (TimeoutException e) {
+            // 반개방 상태에서는 시험 호출만 보내야 하므로 헤징하지 않음
+            if (hedgeAt < deadline && circuitBreaker.getState() == AiCircuitBreaker.State.CLOSED) {
+                metrics.recordHedge(operation);
+                log.debug("AI 보조 요청 전송 - 작업: {}, 기준 지연: {}ms", operation, hedgeDelayMs);
+                attempts.launch();
+            }
+            return attempts.await(deadline);
+        }
+    }
+
+    /**
+     * 같은 유형/난이도의 사전 생성 질문으로 대체 (직접 입력 직무는 풀이 없음)
+     */
+    private Optional<String> fallbackQuestion(Interview interview, Throwable cause) {
+        Optional<String> pooled = firstQuestionPool.getObject()
+                .poll(interview.getType(), interview.getDifficulty(), interview.getCustomType());
+        if (pooled.isPresent()) {
+            metrics.recordFallback(AiOperation.QUESTION);
+            log.warn("질문 생성 실패, 풀 질문으로 대체 - 면접 ID: {}, {}", interview.getId(), cause.getMessage());
+        }
+        return pooled;
+    }
+
+    private EvaluationResult deferEvaluation(Question question, Throwable cause) {
+        metrics.recordFallback(AiOperation.EVALUATION);
+        log.warn("답변 평가 실패, 평가 지연 처리 - 질문 ID: {}, {}", question.getId(), cause.getMessage());
+        return EvaluationResult.deferred();
+    }
+
+    /**
+     * 대체 응답을 사용할 오류 (모델 장애/지연/과부하)
+     * 그 밖의 오류(요청 오류, 애플리케이션 버그 등)는 대체 응답으로 가리지 않고 그대로 던진다.
+     */
+    private boolean isUnavailable(Throwable e) {
+        if (e instanceof CustomException custom) {
+            return isModelFailure(custom.getErrorCode()) || custom.getErrorCode() == ErrorCode.AI_SERVICE_BUSY;
+        }
+        return AiProviderErrors.isUnavailable(e);
+    }
+
+    /**
+     * 서킷 브레이커 실패율에 반영할 오류 (스케줄러 거절, 응답 형식 오류는 모델 장애가 아님)
+     */
+    private boolean isModelFailure(ErrorCode errorCode) {
+        return errorCode == ErrorCode.AI_SERVICE_UNAVAILABLE
+                || errorCode == ErrorCode.AI_RESPONSE_TIMEOUT
+                || errorCode == ErrorCode.AI_QUOTA_EXCEEDED;
+    }
+
+    /**
+     * 같은 요청의 시도들 (첫 시도 + 보조 요청), 먼저 성공한 결과를 사용
+     */
+    private final class Attempts<T> {
+        private final Supplier<T> task;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final List<Future<?>> futures = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger winner = new AtomicInteger(-1);
+
+        private Attempts(Supplier<T> task) {
+            this.task = task;
+        }
+
+        private void launch() {
+            int index = futures.size();
+            pending.incrementAndGet();
+            try {
+                futures.add(aiCallExecutor.submit(() -> run(index)));
+            } catch (TaskRejectedException e) {
+                log.warn("AI 호출 실행 거절 - 시도: {}", index);
+                fail(new CustomException(ErrorCode.AI_SERVICE_BUSY));
+            }
+        }
+
+        private void run(int index) {
+            try {
+                T value = task.get();
+                if (winner.compareAndSet(-1, index)) {
+                    result.complete(value);
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        // 모든 시도가 실패했을 때만 실패로 완료
+        private void fail(RuntimeException e) {
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(e);
+            }
+        }
+
+        private T await(long deadlineNanos) throws TimeoutException {
+            try {
+                return result.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        private int winner() {
+            return winner.get();
+        }
+
+        // 끝나지 않은 시도 중단 (스케줄러 대기 중이면 대기열에서 빠짐)
+        private void cancelLosers() {
+            for (int i = 0; i < futures.size(); i++) {
+                if (i != winner.get()) {
+                    futures.get(i).cancel(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * 호출이 끝난 뒤(데드라인 초과 포함) 도착한 이벤트를 버리는 리스너
+     */
+    private static final class GuardedListener implements EvaluationStreamListener {
+        private final EvaluationStreamListener listener;
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private GuardedListener(EvaluationStreamListener listener) {
+            this.listener = listener;
+        }
+
+        private void close() {
+            closed.set(true);
+        }
+
+        @Override
+        public void onToken(String token) {
+            if (!closed.get()) {
+                listener.onToken(token);
+            }
+        }
+
+        @Override
+        public void onScore(int score) {
+            if (!closed.get()) {
+                listener.onScore(score);
+            }
+        }
+
+        @Override
+        public void onFeedback(String feedback) {
+            if (!closed.get()) {
+                listener.onFeedback(feedback);
+            }
+        }
+
+        @Override
+        public void onModelAnswer(String modelAnswer) {
+            if (!closed.get()) {
+                listener.onModelAnswer(modelAnswer);
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.global.config.RollingSummaryProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 누적 요약 갱신
+ *
+ * 답변 평가가 끝날 때마다 백그라운드에서 (이전 누적 요약 + 새 답변)으로 누적 요약을 갱신해 면접에 저장한다.
+ * 같은 면접의 갱신은 순서대로 이어서 실행하고, 면접 종료 시 남은 갱신을 기다린 뒤
+ * 전체 질문/답변 대신 누적 요약으로 짧게 종합 평가를 만든다.
+ * 갱신이 실패하거나 누락되면(서버 재시작 등) 종료 시 기존 전체 종합 평가로 대체된다.
+ *
+ * 평가가 지연된 답변은 지연 평가 워커가 결과를 반영할 때까지(최대 deferred-wait-ms) 해당 순서에서 기다렸다가
+ * 이어서 요약한다. (기다리는 동안 스레드를 점유하지 않음)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RollingSummaryUpdater {
+
+    private final AiService aiService;
+    private final InterviewPersistenceService interviewPersistenceService;
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final RollingSummaryProperties properties;
+
+    // 면접별 마지막 갱신 작업 (결과: 최신 누적 요약 상태)
+    private final Map<Long, CompletableFuture<RollingState>> chains = new ConcurrentHashMap<>();
+
+    // 지연 평가 결과를 기다리는 답변 (키: 답변 ID)
+    private final Map<Long, CompletableFuture<EvaluationResult>> deferredEvaluations = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    /**
+     * 평가가 끝난 답변을 누적 요약에 반영하도록 예약
+     *
+     * @param interview  답변 저장 시 조회한 면접 (누적 요약 컬럼 포함)
+     * @param evaluation 답변 평가 결과 (평가 지연이면 지연 평가 결과가 반영된 뒤 요약)
+     */
+    public void submit(Interview interview, Question question, Answer answer, EvaluationResult evaluation) {
+        if (!properties.enabled()) {
+            return;
+        }
+
+        CompletableFuture<EvaluationResult> evaluated = evaluation.isDeferred()
+                ? takeDeferredEvaluation(answer.getId())
+                : CompletableFuture.completedFuture(evaluation);
+
+        Long interviewId = interview.getId();
+        CompletableFuture<RollingState> chain = chains.compute(interviewId, (id, previous) -> {
+            CompletableFuture<RollingState> base = previous != null
+                    ? previous
+                    : CompletableFuture.completedFuture(
+                            new RollingState(interview.getRollingSummary(), interview.getRollingSummaryOrder()));
+            return base.thenCombineAsync(evaluated,
+                    (state, result) -> update(interview, state, question, answer, result), aiTaskExecutor);
+        });
+
+        // 마지막 작업이 끝나면 정리 (그 사이 새 작업이 이어졌다면 유지)
+        chain.whenComplete((state, e) -> chains.remove(interviewId, chain));
+    }
+
+    /**
+     * 지연 평가 결과 반영 알림 (기다리던 누적 요약 갱신을 이어서 실행)
+     */
+    public void onDeferredEvaluation(Long answerId, EvaluationResult evaluation) {
+        if (!properties.enabled()) {
+            return;
+        }
+        deferredEvaluation(answerId).complete(evaluation);
+    }
+
+    /**
+     * 면접 종료 전 진행 중인 갱신 대기
+     *
+     * @return 최신 누적 요약 상태 (진행 중인 갱신이 없거나 대기 실패 시 empty → 저장된 값 사용)
+     */
+    public Optional<RollingState> awaitPending(Long interviewId) {
+        CompletableFuture<RollingState> chain = chains.get(interviewId);
+        if (chain == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(chain.get(properties.finalWaitMs(), TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            log.warn("누적 요약 갱신 대기 시간 초과 - 면접 ID: {}", interviewId);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("누적 요약 갱신 대기 실패 - 면접 ID: {}, {}", interviewId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    /**
+     * 답변의 지연 평가 결과 (워커가 먼저 끝나도 받을 수 있도록 양쪽에서 같은 항목을 사용)
+     * deferred-wait-ms 안에 반영되지 않으면 평가 지연 결과로 끝남 → 누적 요약 중단
+     */
+    private CompletableFuture<EvaluationResult> takeDeferredEvaluation(Long answerId) {
+        CompletableFuture<EvaluationResult> pending = deferredEvaluation(answerId);
+        return pending.whenComplete((result, e) -> deferredEvaluations.remove(answerId, pending));
+    }
+
+    private CompletableFuture<EvaluationResult> deferredEvaluation(Long answerId) {
+        return deferredEvaluations.computeIfAbsent(answerId, id -> {
+            CompletableFuture<EvaluationResult> pending = new CompletableFuture<EvaluationResult>()
+                    .completeOnTimeout(EvaluationResult.deferred(), properties.deferredWaitMs(), TimeUnit.MILLISECONDS);
+            // 받아 가는 쪽이 없어도(다른 서버에서 제출 등) 대기 시간이 지나면 정리
+            CompletableFuture.delayedExecutor(properties.deferredWaitMs(), TimeUnit.MILLISECONDS)
+                    .execute(() -> deferredEvaluations.remove(id, pending));
+            return pending;
+        });
+    }
+
+    private RollingState update(Interview interview, RollingState previous,
+                                Question question, Answer answer, EvaluationResult evaluation) {
+        if (previous.isAbandoned()
+                || (previous.orderNumber() != null && previous.orderNumber() >= question.getOrderNumber())) {
+            return previous;
+        }
+
+        try {
+            if (evaluation.isDeferred()) {
+                // 지연 평가 결과를 받지 못한 답변은 요약할 수 없으므로 누적 요약 중단 → 종료 시 전체 종합 평가
+                interviewPersistenceService.saveRollingSummary(interview.getId(), null, question.getOrderNumber());
+                return new RollingState(null, question.getOrderNumber());
+            }
+
+            String summary = AiRequestScheduler.background(() ->
+                    aiService.updateRollingSummary(interview, previous.summary(), question, answer, evaluation));
+            interviewPersistenceService.saveRollingSummary(interview.getId(), summary, question.getOrderNumber());
+            return new RollingState(summary, question.getOrderNumber());
+        } catch (Exception e) {
+            // 이전 상태를 유지 → 종료 시 누락이 감지되어 전체 종합 평가로 대체
+            log.warn("누적 요약 갱신 실패 - 면접 ID: {}, 질문 번호: {}, {}",
+                    interview.getId(), question.getOrderNumber(), e.getMessage());
+            return previous;
+        }
+    }
+
+    /**
+     * 누적 요약 상태
+     *
+     * @param orderNumber 반영된 마지막 질문 번호
+     */
+    public record RollingState(String summary, Integer orderNumber) {
+
+        /**
+         * 중단된 누적 요약 여부 (요약 없이 질문 번호만 저장된 상태)
+         */
+        public boolean isAbandoned() {
+            return summary == null && orderNumber != null;
+        }
+    }
+}
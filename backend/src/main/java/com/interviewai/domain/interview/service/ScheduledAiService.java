@@ -0,0 +1,88 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.List;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * AiRequestScheduler를 거쳐 실제 AI 구현체를 호출하는 데코레이터
+ */
+public class ScheduledAiService extends DelegatingAiService {
+
+    private final AiRequestScheduler scheduler;
+
+    public ScheduledAiService(AiService delegate, AiRequestScheduler scheduler) {
+        super(delegate);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public String generateQuestion(Interview interview, Answer previousAnswer) {
+        return scheduler.execute(AiOperation.QUESTION, interview,
+                () -> delegate.generateQuestion(interview, previousAnswer));
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        return scheduler.execute(AiOperation.EVALUATION, question.getInterview(),
+                () -> delegate.evaluateAnswer(question, answer));
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        return scheduler.execute(AiOperation.EVALUATION, question.getInterview(),
+                () -> delegate.evaluateAnswerStream(question, answer, listener));
+    }
+
+    @Override
+    public List<EvaluationResult> evaluateAnswers(List<Answer> answers) {
+        // 묶음 하나가 모델 호출 한 번이므로 슬롯 하나로 실행
+        return scheduler.execute(AiOperation.EVALUATION, null,
+                () -> delegate.evaluateAnswers(answers));
+    }
+
+    @Override
+    public SummaryResult generateSummary(Interview interview) {
+        return scheduler.execute(AiOperation.SUMMARY, interview,
+                () -> delegate.generateSummary(interview));
+    }
+
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        return scheduler.execute(AiOperation.SUMMARY, interview,
+                () -> delegate.updateRollingSummary(interview, previousSummary, question, answer, evaluation));
+    }
+
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        return scheduler.execute(AiOperation.SUMMARY, interview,
+                () -> delegate.finalizeRollingSummary(interview, rollingSummary));
+    }
+
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        return scheduler.executeReactive(AiOperation.QUESTION, interview,
+                () -> delegate.generateQuestionReactive(interview, previousAnswer));
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        return scheduler.executeReactive(AiOperation.EVALUATION, question.getInterview(),
+                () -> delegate.evaluateAnswerReactive(question, answer, listener));
+    }
+
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        return scheduler.executeReactive(AiOperation.SUMMARY, interview,
+                () -> delegate.generateSummaryReactive(interview));
+    }
+}
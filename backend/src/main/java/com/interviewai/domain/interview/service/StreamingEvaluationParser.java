@@ -0,0 +1,116 @@
+package com.interviewai.domain.interview.service;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 평가 응답 증분 파서 ("점수:", "피드백:", "모범답안:" 형식)
+ *
+ * 점수는 점수 줄이 끝나는 즉시, 피드백/모범답안은 다음 섹션이 시작되거나 스트림이 끝나는 즉시
+ * 리스너로 전달한다. 한 번 쓰고 버리는 객체로, 스레드 안전하지 않다.
+ */
+@Slf4j
+public class StreamingEvaluationParser extends LineStreamParser {
+
+    private static final String SCORE_LABEL = "점수";
+    private static final String FEEDBACK_LABEL = "피드백";
+    private static final String MODEL_ANSWER_LABEL = "모범답안";
+    private static final String MODEL_ANSWER_SPACED_LABEL = "모범 답안";
+
+    private final EvaluationStreamListener listener;
+
+    private int score = 0; // 기본값 (파싱 실패 시 0점)
+    private final StringBuilder feedbackBuilder = new StringBuilder();
+    private final StringBuilder modelAnswerBuilder = new StringBuilder();
+
+    // 현재 이어 붙이는 섹션 (null, feedback, modelAnswer)
+    private StringBuilder currentSection;
+
+    // 섹션을 찾지 못해 원본 응답을 사용했는지 여부
+    private boolean fallback;
+
+    public StreamingEvaluationParser(EvaluationStreamListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 스트림 종료 후 최종 평가 결과
+     */
+    public EvaluationResult finish() {
+        flush();
+        closeSection();
+
+        String feedback = feedbackBuilder.toString().trim();
+        String modelAnswer = modelAnswerBuilder.toString().trim();
+
+        // 파싱 실패 시 전체 응답을 피드백으로
+        if (feedback.isEmpty() && modelAnswer.isEmpty()) {
+            log.warn("평가 응답 파싱 실패, 원본 응답을 피드백으로 사용");
+            fallback = true;
+            return EvaluationResult.parseFallback(score, raw());
+        }
+
+        return EvaluationResult.of(score, feedback, modelAnswer);
+    }
+
+    /**
+     * 형식에 맞는 섹션이 없어 원본 응답을 피드백으로 사용했는지 여부 (finish 이후 유효)
+     */
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    @Override
+    protected void onLine(CharSequence line, int start, int end) {
+        int contentStart;
+        if ((contentStart = AiResponseParser.afterLabel(line, start, end, SCORE_LABEL)) >= 0) {
+            closeSection();
+            score = AiResponseParser.extractScore(line, contentStart, end);
+            listener.onScore(score);
+        } else if ((contentStart = AiResponseParser.afterLabel(line, start, end, FEEDBACK_LABEL)) >= 0) {
+            openSection(feedbackBuilder);
+            appendTrimmed(feedbackBuilder, line, contentStart, end);
+        } else if ((contentStart = AiResponseParser.afterLabel(line, start, end, MODEL_ANSWER_LABEL)) >= 0
+                || (contentStart = AiResponseParser.afterLabel(line, start, end, MODEL_ANSWER_SPACED_LABEL)) >= 0) {
+            openSection(modelAnswerBuilder);
+            appendTrimmed(modelAnswerBuilder, line, contentStart, end);
+        } else if (start < end && currentSection != null) {
+            // 여러 줄에 걸친 내용 처리
+            currentSection.append(' ').append(line, start, end);
+        }
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void openSection(StringBuilder section) {
+        if (currentSection != section) {
+            closeSection();
+        }
+        currentSection = section;
+    }
+
+    /**
+     * 진행 중인 섹션을 닫고 리스너로 전달
+     */
+    private void closeSection() {
+        if (currentSection == null) {
+            return;
+        }
+
+        String content = currentSection.toString().trim();
+        if (!content.isEmpty()) {
+            if (currentSection == feedbackBuilder) {
+                listener.onFeedback(content);
+            } else {
+                listener.onModelAnswer(content);
+            }
+        }
+        currentSection = null;
+    }
+
+    private void appendTrimmed(StringBuilder sb, CharSequence line, int start, int end) {
+        int trimmedStart = AiResponseParser.trimStart(line, start, end);
+        sb.append(line, trimmedStart, AiResponseParser.trimEnd(line, trimmedStart, end));
+    }
+}
@@ -0,0 +1,121 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종합 평가 응답 증분 파서 ("=== 종합 평가 ===", "=== 전체 점수 ===", "=== 카테고리별 점수 ===" 형식)
+ * 한 번 쓰고 버리는 객체로, 스레드 안전하지 않다.
+ */
+@Slf4j
+public class StreamingSummaryParser extends LineStreamParser {
+
+    private static final String SECTION_MARK = "===";
+
+    private final List<String> categories;
+
+    private final StringBuilder summaryBuilder = new StringBuilder();
+    private int overallScore = 0;
+    private final Map<String, Integer> categoryScores = new LinkedHashMap<>();
+
+    private Section currentSection;
+
+    // 요약 섹션을 찾지 못해 원본 응답을 사용했는지 여부
+    private boolean fallback;
+
+    public StreamingSummaryParser(List<String> categories) {
+        this.categories = categories;
+
+        // 기본값으로 카테고리 초기화 (무응답 시 0점)
+        for (String category : categories) {
+            categoryScores.put(category, 0);
+        }
+    }
+
+    /**
+     * 스트림 종료 후 최종 종합 평가 결과
+     */
+    public SummaryResult finish() {
+        flush();
+
+        String summary = summaryBuilder.toString().trim();
+
+        // 파싱 실패 시 전체 응답을 요약으로
+        if (summary.isEmpty()) {
+            log.warn("종합 평가 파싱 실패, 원본 응답을 요약으로 사용");
+            summary = raw();
+            fallback = true;
+        }
+
+        return SummaryResult.of(summary, overallScore, categoryScores);
+    }
+
+    /**
+     * 요약 섹션이 없어 원본 응답을 요약으로 사용했는지 여부 (finish 이후 유효)
+     */
+    public boolean isFallback() {
+        return fallback;
+    }
+
+    @Override
+    protected void onLine(CharSequence line, int start, int end) {
+        // 섹션 헤더 감지
+        if (AiResponseParser.contains(line, start, end, SECTION_MARK)) {
+            Section header = sectionOf(line, start, end);
+            if (header != null) {
+                currentSection = header;
+                return;
+            }
+            if (AiResponseParser.startsWith(line, start, end, SECTION_MARK)) {
+                return; // 다른 섹션 헤더 무시
+            }
+        }
+
+        if (currentSection == null || start == end) {
+            return;
+        }
+
+        switch (currentSection) {
+            case SUMMARY -> {
+                if (summaryBuilder.length() > 0) {
+                    summaryBuilder.append('\n');
+                }
+                summaryBuilder.append(line, start, end);
+            }
+            case OVERALL -> {
+                overallScore = AiResponseParser.extractScore(line, start, end);
+                currentSection = null; // 전체 점수는 한 줄
+            }
+            case CATEGORIES -> {
+                for (String category : categories) {
+                    if (AiResponseParser.startsWith(line, start, end, category)) {
+                        categoryScores.put(category, AiResponseParser.extractScore(line, start, end));
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private Section sectionOf(CharSequence line, int start, int end) {
+        if (AiResponseParser.contains(line, start, end, "종합 평가")) {
+            return Section.SUMMARY;
+        }
+        if (AiResponseParser.contains(line, start, end, "전체 점수")) {
+            return Section.OVERALL;
+        }
+        if (AiResponseParser.contains(line, start, end, "카테고리별 점수")) {
+            return Section.CATEGORIES;
+        }
+        return null;
+    }
+
+    private enum Section {
+        SUMMARY, OVERALL, CATEGORIES
+    }
+}
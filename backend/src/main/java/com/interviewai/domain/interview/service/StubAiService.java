@@ -0,0 +1,303 @@
+package com.interviewai.domain.interview.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+import com.interviewai.domain.interview.service.PromptTemplateRegistry.Kind;
+import com.interviewai.global.config.StubAiProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 부하 테스트용 로컬 AI 스텁 (loadtest 프로필)
+ *
+ * 네트워크 없이 면접 파이프라인의 처리량/커넥션 사용량/꼬리 지연을 측정하기 위한 구현체.
+ * - 응답 내용은 입력값으로 결정되어 같은 입력이면 항상 같은 결과
+ * - 지연: 첫 토큰까지 로그정규분포(중앙값, sigma) + 응답 길이 / tokens-per-second
+ * - 스트리밍 평가는 설정된 토큰 속도로 Gemini 응답 형식의 텍스트를 흘려보냄
+ * - 리액티브 호출은 같은 지연을 타이머로 재현 (스레드를 재우지 않음)
+ * - 시스템 프롬프트 캐시는 로컬 캐시(LocalPromptCacheClient)로 조회해 캐시 수명 주기/지표만 재현
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Qualifier("aiBackend")
+@Profile("loadtest")
+@Service
+public class StubAiService implements AiService {
+
+    /** 한국어 기준 토큰당 평균 글자 수 (근사치) */
+    private static final int CHARS_PER_TOKEN = 2;
+
+    private static final String STUB_MODEL = "stub";
+
+    private final StubAiProperties properties;
+    private final PromptTemplateRegistry promptTemplates;
+    private final PromptCacheManager promptCache;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public String generateQuestion(Interview interview, Answer previousAnswer) {
+        lookupPromptCache(AiOperation.QUESTION, promptTemplates.get(Kind.QUESTION_SYSTEM, interview));
+        long n = sequence.incrementAndGet();
+        String question = question(interview, previousAnswer, n);
+
+        simulate(seedOf(interview.getType(), interview.getDifficulty(), n), question, null);
+        return question;
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswer(Question question, Answer answer) {
+        lookupPromptCache(AiOperation.EVALUATION, promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null));
+        EvaluationResult result = evaluate(question, answer);
+        simulate(seedOf(question.getContent(), answer.getContent()), formatEvaluation(result), null);
+        return result;
+    }
+
+    @Override
+    public EvaluationResult evaluateAnswerStream(Question question, Answer answer,
+                                                 EvaluationStreamListener listener) {
+        lookupPromptCache(AiOperation.EVALUATION, promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null));
+        EvaluationResult result = evaluate(question, answer);
+
+        // 실제 구현과 같은 파서를 거쳐 섹션 이벤트까지 재현
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(listener);
+        simulate(seedOf(question.getContent(), answer.getContent()), formatEvaluation(result), token -> {
+            listener.onToken(token);
+            parser.feed(token);
+        });
+        parser.finish();
+        return result;
+    }
+
+    @Override
+    public SummaryResult generateSummary(Interview interview) {
+        lookupPromptCache(AiOperation.SUMMARY, promptTemplates.get(Kind.SUMMARY_SYSTEM, interview));
+        SummaryResult summary = summarize(interview);
+        simulate(seedOf(interview.getId(), summary.getOverallScore()), summary.getSummary(), null);
+        return summary;
+    }
+
+    @Override
+    public String updateRollingSummary(Interview interview, String previousSummary,
+                                       Question question, Answer answer, EvaluationResult evaluation) {
+        lookupPromptCache(AiOperation.SUMMARY, promptTemplates.get(Kind.ROLLING_SUMMARY_SYSTEM, interview));
+        StringBuilder sb = new StringBuilder();
+        sb.append("=== 종합 평가 ===\n");
+        sb.append(String.format("[스텁] Q%d까지 반영한 누적 요약입니다.\n\n", question.getOrderNumber()));
+        sb.append("=== 카테고리별 점수 ===\n");
+        for (String category : EvaluationCategories.forType(interview.getType())) {
+            sb.append(category).append(": ").append(evaluation.getScore()).append('\n');
+        }
+
+        String summary = sb.toString();
+        simulate(seedOf(interview.getId(), question.getOrderNumber()), summary, null);
+        return summary;
+    }
+
+    @Override
+    public SummaryResult finalizeRollingSummary(Interview interview, String rollingSummary) {
+        // 스텁은 문항별 점수만으로 종합 평가를 만들므로 전체 종합 평가와 동일
+        return generateSummary(interview);
+    }
+
+    @Override
+    public Mono<String> generateQuestionReactive(Interview interview, Answer previousAnswer) {
+        lookupPromptCache(AiOperation.QUESTION, promptTemplates.get(Kind.QUESTION_SYSTEM, interview));
+        long n = sequence.incrementAndGet();
+        String question = question(interview, previousAnswer, n);
+
+        return simulateReactive(seedOf(interview.getType(), interview.getDifficulty(), n), question, null)
+                .thenReturn(question);
+    }
+
+    @Override
+    public Mono<EvaluationResult> evaluateAnswerReactive(Question question, Answer answer,
+                                                         EvaluationStreamListener listener) {
+        lookupPromptCache(AiOperation.EVALUATION, promptTemplates.get(Kind.EVALUATION_SYSTEM, null, null));
+        EvaluationResult result = evaluate(question, answer);
+
+        return Mono.defer(() -> {
+            StreamingEvaluationParser parser = new StreamingEvaluationParser(listener);
+            return simulateReactive(seedOf(question.getContent(), answer.getContent()), formatEvaluation(result),
+                    token -> {
+                        listener.onToken(token);
+                        parser.feed(token);
+                    })
+                    .then(Mono.fromRunnable(parser::finish))
+                    .thenReturn(result);
+        });
+    }
+
+    @Override
+    public Mono<SummaryResult> generateSummaryReactive(Interview interview) {
+        lookupPromptCache(AiOperation.SUMMARY, promptTemplates.get(Kind.SUMMARY_SYSTEM, interview));
+        SummaryResult summary = summarize(interview);
+        return simulateReactive(seedOf(interview.getId(), summary.getOverallScore()), summary.getSummary(), null)
+                .thenReturn(summary);
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private void lookupPromptCache(AiOperation operation, String systemPrompt) {
+        promptCache.lookup(operation, STUB_MODEL, systemPrompt);
+    }
+
+    private String question(Interview interview, Answer previousAnswer, long n) {
+        String topic = previousAnswer == null ? "첫 번째" : (interview.getQuestionCount() + 1) + "번째";
+        return String.format("[스텁] %s %s 질문 #%d: %s 난이도에서 자주 다루는 개념을 설명해주세요.",
+                interview.getType().getDescription(), topic, n, interview.getDifficulty().getLabel());
+    }
+
+    /**
+     * 문항별 점수 평균으로 종합 평가 생성
+     */
+    private SummaryResult summarize(Interview interview) {
+        List<String> categories = EvaluationCategories.forType(interview.getType());
+
+        int total = 0;
+        int answered = 0;
+        for (Question q : interview.getQuestions()) {
+            if (q.getAnswer() != null && q.getAnswer().getScore() != null) {
+                total += q.getAnswer().getScore();
+                answered++;
+            }
+        }
+        int overallScore = answered == 0 ? 0 : total / answered;
+
+        Map<String, Integer> categoryScores = new LinkedHashMap<>();
+        for (int i = 0; i < categories.size(); i++) {
+            categoryScores.put(categories.get(i), clamp(overallScore + (i % 3) - 1));
+        }
+
+        String summary = String.format("[스텁] 총 %d개 질문 중 %d개 답변, 평균 %d점입니다.",
+                interview.getQuestions().size(), answered, overallScore);
+        return SummaryResult.of(summary, overallScore, categoryScores);
+    }
+
+    /**
+     * 답변 길이 기반 결정적 평가 (무응답은 Gemini 구현과 동일하게 0점)
+     */
+    private EvaluationResult evaluate(Question question, Answer answer) {
+        String content = answer.getContent();
+        if (content == null || content.trim().isEmpty()) {
+            return EvaluationResult.of(0, "답변이 제출되지 않았습니다.", "질문에 대한 답변을 작성해주세요.");
+        }
+
+        int score = clamp(3 + content.trim().length() / 50);
+        String feedback = String.format("[스텁] 답변 길이 %d자 기준으로 평가했습니다.", content.trim().length());
+        String modelAnswer = String.format("[스텁] '%s'에 대한 모범답안입니다.", question.getContent());
+        return EvaluationResult.of(score, feedback, modelAnswer);
+    }
+
+    private String formatEvaluation(EvaluationResult result) {
+        return "점수: " + result.getScore() + "\n"
+                + "피드백: " + result.getFeedback() + "\n"
+                + "모범답안: " + result.getModelAnswer();
+    }
+
+    /**
+     * 첫 토큰 지연 + 토큰 생성 시간만큼 호출 스레드를 대기
+     */
+    private void simulate(long seed, String text, Consumer<String> onToken) {
+        SplittableRandom random = new SplittableRandom(seed ^ properties.seed());
+        sleepMillis(sampleLatencyMs(random));
+
+        long tokenIntervalNanos = properties.tokensPerSecond() > 0
+                ? TimeUnit.SECONDS.toNanos(1) / properties.tokensPerSecond()
+                : 0;
+
+        for (int i = 0; i < text.length(); i += CHARS_PER_TOKEN) {
+            if (tokenIntervalNanos > 0) {
+                sleepNanos(tokenIntervalNanos);
+            }
+            if (onToken != null) {
+                onToken.accept(text.substring(i, Math.min(i + CHARS_PER_TOKEN, text.length())));
+            }
+        }
+    }
+
+    /**
+     * simulate와 같은 지연을 타이머로 재현 (응답 조각은 타이머 스레드에서 전달)
+     */
+    private Mono<Void> simulateReactive(long seed, String text, Consumer<String> onToken) {
+        SplittableRandom random = new SplittableRandom(seed ^ properties.seed());
+        long latencyMs = sampleLatencyMs(random);
+
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < text.length(); i += CHARS_PER_TOKEN) {
+            tokens.add(text.substring(i, Math.min(i + CHARS_PER_TOKEN, text.length())));
+        }
+
+        Flux<String> stream = Flux.fromIterable(tokens);
+        if (properties.tokensPerSecond() > 0) {
+            stream = stream.delayElements(Duration.ofNanos(TimeUnit.SECONDS.toNanos(1) / properties.tokensPerSecond()));
+        }
+
+        return Mono.delay(Duration.ofMillis(Math.max(0, latencyMs)))
+                .thenMany(stream)
+                .doOnNext(token -> {
+                    if (onToken != null) {
+                        onToken.accept(token);
+                    }
+                })
+                .then();
+    }
+
+    private long sampleLatencyMs(SplittableRandom random) {
+        if (properties.latencySigma() <= 0) {
+            return properties.latencyMedianMs();
+        }
+        // Box-Muller 변환으로 표준정규 샘플 생성
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        double gaussian = Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+        return Math.round(properties.latencyMedianMs() * Math.exp(properties.latencySigma() * gaussian));
+    }
+
+    private void sleepMillis(long millis) {
+        sleepNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AI_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    private long seedOf(Object... values) {
+        return Objects.hash(values);
+    }
+
+    private int clamp(int score) {
+        return Math.max(1, Math.min(10, score));
+    }
+}
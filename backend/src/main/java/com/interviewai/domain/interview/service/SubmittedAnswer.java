@@ -0,0 +1,15 @@
+package com.interviewai.domain.interview.service;
+
+import com.interviewai.domain.interview.entity.Answer;
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.interview.entity.Question;
+
+/**
+ * 트랜잭션 밖 AI 처리 단계로 넘기는 답변 제출 컨텍스트
+ * (트랜잭션 종료 후에는 준영속 상태이므로 이미 로딩된 필드만 사용)
+ */
+public record SubmittedAnswer(
+    Interview interview,
+    Question question,
+    Answer answer
+) {}
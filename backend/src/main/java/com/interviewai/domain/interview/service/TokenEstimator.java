@@ -0,0 +1,45 @@
+package com.interviewai.domain.interview.service;
+
+/**
+ * 토큰 수 추정 (Gemini 토크나이저 근사치)
+ *
+ * 영문/숫자/기호(ASCII)는 약 4자당 1토큰, 한글 등 그 외 문자는 약 1.5자당 1토큰으로 계산한다.
+ * 실제 사용량을 받을 수 없는 경우(스트리밍, 프롬프트 예산 계산)에만 사용한다.
+ */
+public final class TokenEstimator {
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        Counter counter = new Counter();
+        counter.add(text);
+        return counter.tokens();
+    }
+
+    /**
+     * 조각 단위로 누적하는 추정기 (스트리밍 응답용)
+     */
+    public static final class Counter {
+
+        private long asciiChars;
+        private long otherChars;
+
+        public void add(CharSequence text) {
+            if (text == null) {
+                return;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) < 128) {
+                    asciiChars++;
+                } else {
+                    otherChars++;
+                }
+            }
+        }
+
+        public int tokens() {
+            return (int) ((asciiChars + 3) / 4 + (otherChars * 2 + 2) / 3);
+        }
+    }
+}
@@ -100,10 +100,14 @@ public class User extends BaseTimeEntity {
         }
     }
 
-    public void increaseAndCheckInterviewCount() {
+    public void checkInterviewCount() {
         if(getDailyInterviewCount() > 4) {
             throw new CustomException(ErrorCode.PREMIUM_REQUIRED);
         }
+    }
+
+    public void increaseAndCheckInterviewCount() {
+        checkInterviewCount();
         this.dailyInterviewCount = getDailyInterviewCount() + 1;
     }
 
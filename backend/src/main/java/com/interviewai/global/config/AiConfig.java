@@ -1,14 +1,104 @@
 package com.interviewai.global.config;
 
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import com.google.genai.Client;
+import com.google.genai.types.HttpOptions;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import com.interviewai.domain.interview.service.AiCircuitBreaker;
+import com.interviewai.domain.interview.service.AiRequestScheduler;
+import com.interviewai.domain.interview.service.AiResilienceMetrics;
+import com.interviewai.domain.interview.service.AiService;
+import com.interviewai.domain.interview.service.CachingAiService;
+import com.interviewai.domain.interview.service.EvaluationCache;
+import com.interviewai.domain.interview.service.FirstQuestionPool;
+import com.interviewai.domain.interview.service.MeteredAiService;
+import com.interviewai.domain.interview.service.ResilientAiService;
+import com.interviewai.domain.interview.service.ScheduledAiService;
 
 @Configuration
+@EnableConfigurationProperties({
+        QuestionPoolProperties.class,
+        QuestionPrefetchProperties.class,
+        AiSchedulerProperties.class,
+        EvaluationCacheProperties.class,
+        StubAiProperties.class,
+        SummaryBudgetProperties.class,
+        RollingSummaryProperties.class,
+        IdempotencyProperties.class,
+        PromptTemplateProperties.class,
+        PromptCacheProperties.class,
+        AiRoutingProperties.class
+})
 public class AiConfig {
 
     @Bean
     public ChatClient chatClient(ChatClient.Builder builder) {
         return builder.build();
     }
+
+    /**
+     * Gemini API 클라이언트 (자동 설정 대신 등록해 HTTP 타임아웃 적용)
+     * 데드라인은 호출 스레드만 취소하므로, 전송 타임아웃이 없으면 데드라인이 지난 호출도 응답이 올 때까지
+     * 스케줄러 슬롯과 ai-call 스레드를 점유한다. 타임아웃은 작업별 데드라인 중 가장 긴 값으로 맞춘다.
+     */
+    @Bean
+    public Client googleGenAiClient(@Value("${spring.ai.google.genai.api-key:}") String apiKey,
+                                    @Value("${spring.ai.google.genai.project-id:}") String projectId,
+                                    @Value("${spring.ai.google.genai.location:us-central1}") String location,
+                                    AiResilienceProperties resilienceProperties) {
+        Client.Builder builder = Client.builder()
+                .httpOptions(HttpOptions.builder()
+                        .timeout(Math.toIntExact(transportTimeoutMs(resilienceProperties)))
+                        .build());
+
+        if (StringUtils.hasText(apiKey)) {
+            builder.apiKey(apiKey);
+        } else {
+            builder.project(projectId).location(location).vertexAI(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 서비스 계층에서 주입받는 AiService
+     * 지표 → 평가 캐시 → 장애 대응(데드라인/헤징/서킷 브레이커) → 스케줄러(동시성 제한/우선순위 큐) → 구현체 순으로 감싼다.
+     * 캐시 적중 시 스케줄러 대기열에 들어가지 않고, 데드라인은 스케줄러 대기 시간을 포함한다.
+     * 첫 질문 풀은 이 빈을 사용하므로 대체 응답용으로는 지연 조회한다.
+     *
+     * 구현체(aiBackend)는 프로필로 선택: 기본 GeminiService, loadtest 프로필은 StubAiService
+     */
+    @Bean
+    @Primary
+    public AiService aiService(@Qualifier("aiBackend") AiService aiBackend,
+                               AiRequestScheduler aiRequestScheduler,
+                               EvaluationCache evaluationCache,
+                               AiResilienceProperties resilienceProperties,
+                               AiCircuitBreaker aiCircuitBreaker,
+                               AiResilienceMetrics aiResilienceMetrics,
+                               ThreadPoolTaskExecutor aiCallExecutor,
+                               ObjectProvider<FirstQuestionPool> firstQuestionPool,
+                               MeterRegistry meterRegistry) {
+        AiService scheduled = new ScheduledAiService(aiBackend, aiRequestScheduler);
+        AiService resilient = new ResilientAiService(scheduled, resilienceProperties, aiCircuitBreaker,
+                aiResilienceMetrics, aiCallExecutor, firstQuestionPool);
+        AiService caching = new CachingAiService(resilient, evaluationCache);
+        return new MeteredAiService(caching, meterRegistry);
+    }
+
+    private static long transportTimeoutMs(AiResilienceProperties properties) {
+        return Math.max(Math.max(properties.questionTimeoutMs(), properties.evaluationTimeoutMs()),
+                Math.max(properties.streamTimeoutMs(), properties.summaryTimeoutMs()));
+    }
 }
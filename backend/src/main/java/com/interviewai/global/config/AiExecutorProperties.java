@@ -0,0 +1,10 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "interview.ai.executor")
+public record AiExecutorProperties(
+    int corePoolSize,
+    int maxPoolSize,
+    int queueCapacity
+) {}
@@ -0,0 +1,41 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * AI 호출 장애 대응 설정
+ *
+ * @param enabled                  데드라인/헤징/서킷 브레이커 적용 여부
+ * @param callPoolSize             데드라인 적용을 위해 AI 호출을 실행하는 스레드 수 (스케줄러 대기 포함)
+ * @param questionTimeoutMs        질문 생성 데드라인
+ * @param evaluationTimeoutMs      답변 평가 데드라인
+ * @param streamTimeoutMs          스트리밍 답변 평가 데드라인
+ * @param summaryTimeoutMs         종합 평가/누적 요약 데드라인
+ * @param hedgeEnabled             지연된 질문 생성/평가에 보조 요청(헤징) 사용 여부
+ * @param hedgePercentile          보조 요청을 보내는 기준 지연 백분위 (0~1)
+ * @param hedgeMinDelayMs          보조 요청 최소 대기 시간
+ * @param hedgeMinSamples          백분위 계산에 필요한 최소 표본 수 (부족하면 헤징 안 함)
+ * @param failureRateThreshold     서킷 차단 실패율 (0~1)
+ * @param windowSize               실패율 계산 구간 (최근 호출 수)
+ * @param minimumCalls             실패율 판단에 필요한 최소 호출 수
+ * @param openDurationMs           차단 유지 시간 (이후 반개방 상태로 전환)
+ * @param halfOpenProbes           반개방 상태에서 허용하는 시험 호출 수
+ */
+@ConfigurationProperties(prefix = "interview.ai.resilience")
+public record AiResilienceProperties(
+    boolean enabled,
+    int callPoolSize,
+    long questionTimeoutMs,
+    long evaluationTimeoutMs,
+    long streamTimeoutMs,
+    long summaryTimeoutMs,
+    boolean hedgeEnabled,
+    double hedgePercentile,
+    long hedgeMinDelayMs,
+    int hedgeMinSamples,
+    double failureRateThreshold,
+    int windowSize,
+    int minimumCalls,
+    long openDurationMs,
+    int halfOpenProbes
+) {}
@@ -0,0 +1,37 @@
+package com.interviewai.global.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.interviewai.domain.interview.service.AiOperation;
+import com.interviewai.domain.user.entity.SubscriptionType;
+
+/**
+ * 작업/구독 등급별 모델 라우팅 설정
+ *
+ * @param defaultModel 일치하는 경로가 없을 때 사용할 모델
+ * @param routes       경로 목록 (operation/tier를 비우면 전체에 적용, 더 구체적인 경로가 우선)
+ * @param prices       모델별 100만 토큰당 가격 (USD, 비용 지표용)
+ */
+@ConfigurationProperties(prefix = "interview.ai.routing")
+public record AiRoutingProperties(
+    String defaultModel,
+    List<Route> routes,
+    Map<String, Price> prices
+) {
+
+    /**
+     * @param operation 작업 (null이면 모든 작업)
+     * @param tier      구독 등급 (null이면 모든 등급)
+     * @param model     사용할 모델
+     */
+    public record Route(AiOperation operation, SubscriptionType tier, String model) {}
+
+    /**
+     * @param input  입력 100만 토큰당 가격
+     * @param output 출력 100만 토큰당 가격
+     */
+    public record Price(double input, double output) {}
+}
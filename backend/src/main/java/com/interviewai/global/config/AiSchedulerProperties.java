@@ -0,0 +1,10 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "interview.ai.scheduler")
+public record AiSchedulerProperties(
+    int maxConcurrency,
+    int maxQueueSize,
+    long maxQueueWaitMs
+) {}
@@ -0,0 +1,114 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * AI 호출 전용 비동기 실행기 설정
+ *
+ * aiTaskExecutor: 스트리밍 응답, 선행 생성 등 요청 스레드 밖에서 수행할 AI 작업
+ * summaryTaskExecutor: 면접 종료(종합 평가) 작업 - 가장 무거운 호출이라 별도 풀로 처리량 제한
+ * aiCallExecutor: 데드라인/헤징 적용을 위해 개별 AI 호출을 실행 (대기열 없이 스레드를 바로 할당)
+ * evaluationTaskExecutor: 지연 평가 대기열 워커
+ * rescoringTaskExecutor: 답변 일괄 재채점 작업 (한 번에 하나만 실행)
+ * persistenceScheduler: 리액티브 면접 흐름에서 블로킹 JPA 작업만 넘겨받는 스케줄러
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21 이상)에서는 모든 실행기가 가상 스레드로 작업을 실행한다.
+ * 풀 크기/대기열은 그대로 동시 실행 상한(입장 제어)으로 쓰이므로 virtual-threads 프로필에서 크게 잡는다.
+ */
+@Configuration
+@EnableConfigurationProperties({AiExecutorProperties.class, SummaryJobProperties.class, AiResilienceProperties.class,
+        DeferredEvaluationProperties.class, ReactiveInterviewProperties.class, RescoringProperties.class})
+public class AsyncConfig {
+
+    private final boolean virtualThreads;
+
+    public AsyncConfig(Environment environment) {
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor aiTaskExecutor(AiExecutorProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.corePoolSize());
+        executor.setMaxPoolSize(properties.maxPoolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("ai-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor summaryTaskExecutor(SummaryJobProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.workers());
+        executor.setMaxPoolSize(properties.workers());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("summary-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor aiCallExecutor(AiResilienceProperties properties) {
+        // 스케줄러 대기도 이 스레드에서 하므로 대기열을 두지 않고, 스레드가 모자라면 거절(AI_SERVICE_BUSY)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.min(16, properties.callPoolSize()));
+        executor.setMaxPoolSize(properties.callPoolSize());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("ai-call-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor evaluationTaskExecutor(DeferredEvaluationProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.workers());
+        executor.setMaxPoolSize(properties.workers());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("evaluation-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor rescoringTaskExecutor() {
+        // 작업 하나가 끝날 때까지 스레드를 점유하므로 대기열 없이 1개만 실행
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("rescoring-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler(ReactiveInterviewProperties properties) {
+        // 스레드 수를 커넥션 풀 크기에 맞춰 커넥션 대기가 스레드 대기로 번지지 않게 함
+        return Schedulers.newBoundedElastic(properties.persistenceThreads(), properties.persistenceQueueSize(),
+                "persistence");
+    }
+}
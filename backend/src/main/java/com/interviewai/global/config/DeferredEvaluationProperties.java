@@ -0,0 +1,29 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 지연 평가 대기열 설정
+ *
+ * @param enabled        답변 제출 시 평가를 기다리지 않고 다음 질문부터 반환 (false여도 AI 장애로 미룬 평가는 처리)
+ * @param workers        평가 워커 수
+ * @param queueCapacity  워커 실행 대기 수 (초과분은 다음 폴링에서 처리)
+ * @param pollIntervalMs 대기열 폴링 주기
+ * @param batchSize      폴링 1회에 가져오는 답변 수
+ * @param maxAttempts    최대 평가 시도 횟수 (초과 시 평가 실패 처리)
+ * @param claimTimeoutMs 평가 선점 유지 시간 (워커 중단 시 이후 다시 처리)
+ * @param retryDelayMs   실패 후 재시도 대기 시간 (시도 횟수에 비례해 증가)
+ * @param endWaitMs      면접 종료 시 남은 평가를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "interview.ai.deferred-evaluation")
+public record DeferredEvaluationProperties(
+    boolean enabled,
+    int workers,
+    int queueCapacity,
+    long pollIntervalMs,
+    int batchSize,
+    int maxAttempts,
+    long claimTimeoutMs,
+    long retryDelayMs,
+    long endWaitMs
+) {}
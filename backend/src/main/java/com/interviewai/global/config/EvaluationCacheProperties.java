@@ -0,0 +1,11 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "interview.ai.evaluation-cache")
+public record EvaluationCacheProperties(
+    boolean enabled,
+    long maxSize,
+    long ttlMinutes,
+    boolean redisEnabled
+) {}
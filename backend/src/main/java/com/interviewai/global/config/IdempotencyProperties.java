@@ -0,0 +1,15 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 답변 제출 Idempotency-Key 설정
+ *
+ * @param resultTtlMinutes  저장된 결과를 같은 키의 재요청에 돌려주는 기간
+ * @param pendingTtlMinutes 처리 중 표시 유지 시간 (처리 도중 인스턴스가 죽어도 이 시간 뒤 재시도 가능)
+ */
+@ConfigurationProperties(prefix = "interview.ai.idempotency")
+public record IdempotencyProperties(
+    long resultTtlMinutes,
+    long pendingTtlMinutes
+) {}
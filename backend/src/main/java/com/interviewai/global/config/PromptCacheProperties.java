@@ -0,0 +1,23 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시스템 프롬프트 컨텍스트 캐시 설정
+ *
+ * @param enabled              캐시 사용 여부
+ * @param ttlMinutes           캐시 유지 시간 (생성/연장 시 적용)
+ * @param refreshBeforeMinutes 만료까지 남은 시간이 이보다 짧아지면 연장
+ * @param idleMinutes          이 시간 동안 사용되지 않은 캐시는 삭제
+ * @param minTokens            이보다 짧은 시스템 프롬프트는 캐시하지 않음 (모델별 최소 캐시 크기)
+ * @param retryDelayMs         캐시 생성 실패 후 재시도까지 대기 시간
+ */
+@ConfigurationProperties(prefix = "interview.ai.prompt-cache")
+public record PromptCacheProperties(
+    boolean enabled,
+    long ttlMinutes,
+    long refreshBeforeMinutes,
+    long idleMinutes,
+    int minTokens,
+    long retryDelayMs
+) {}
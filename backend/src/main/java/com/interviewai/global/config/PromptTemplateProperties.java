@@ -0,0 +1,15 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시스템 프롬프트 템플릿 설정
+ *
+ * @param location         템플릿 파일 경로 (UTF-8 properties, 비어 있으면 내장 템플릿만 사용)
+ * @param reloadIntervalMs 템플릿 파일 변경 확인 주기
+ */
+@ConfigurationProperties(prefix = "interview.ai.prompt-templates")
+public record PromptTemplateProperties(
+    String location,
+    long reloadIntervalMs
+) {}
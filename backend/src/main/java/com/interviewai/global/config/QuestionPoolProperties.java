@@ -0,0 +1,12 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "interview.ai.question-pool")
+public record QuestionPoolProperties(
+    boolean enabled,
+    int lowWatermark,
+    int highWatermark,
+    long refillIntervalMs,
+    long maxAgeMinutes
+) {}
@@ -0,0 +1,21 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 다음 질문 선행 생성 설정
+ *
+ * @param enabled         선행 생성 사용 여부
+ * @param ttlMinutes      사용되지 않은 선행 생성 결과 보관 시간
+ * @param maxEntries      보관하는 선행 생성 결과 최대 수
+ * @param takeWaitMs      답변 제출 시 생성 중인 질문을 기다리는 최대 시간 (초과 시 바로 동기 생성)
+ * @param evictIntervalMs 만료된 선행 생성 결과 정리 주기
+ */
+@ConfigurationProperties(prefix = "interview.ai.prefetch")
+public record QuestionPrefetchProperties(
+    boolean enabled,
+    long ttlMinutes,
+    int maxEntries,
+    long takeWaitMs,
+    long evictIntervalMs
+) {}
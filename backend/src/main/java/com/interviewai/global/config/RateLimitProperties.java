@@ -0,0 +1,35 @@
+package com.interviewai.global.config;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.interviewai.domain.user.entity.SubscriptionType;
+
+/**
+ * 사용자별 AI 엔드포인트 요청 제한 (토큰 버킷)
+ *
+ * @param enabled 요청 제한 사용 여부
+ * @param rules   엔드포인트 묶음별 제한 (먼저 선언된 규칙 하나만 적용)
+ */
+@ConfigurationProperties(prefix = "interview.ai.rate-limit")
+public record RateLimitProperties(
+    boolean enabled,
+    List<Rule> rules
+) {
+
+    /**
+     * @param name   버킷 이름 (같은 규칙의 경로는 버킷 하나를 함께 사용)
+     * @param method HTTP 메서드
+     * @param paths  경로 패턴 (PathPattern 문법)
+     * @param limits 구독 등급별 제한 (없는 등급은 제한하지 않음)
+     */
+    public record Rule(String name, String method, List<String> paths, Map<SubscriptionType, Limit> limits) {}
+
+    /**
+     * @param capacity        버킷 크기 (연속으로 보낼 수 있는 요청 수)
+     * @param refillPerMinute 분당 채워지는 요청 수
+     */
+    public record Limit(int capacity, double refillPerMinute) {}
+}
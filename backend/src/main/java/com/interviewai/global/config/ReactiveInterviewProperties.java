@@ -0,0 +1,15 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 리액티브 면접 흐름 설정
+ *
+ * @param persistenceThreads   JPA 작업 스레드 수 (DB 커넥션 풀 크기에 맞춤)
+ * @param persistenceQueueSize 스레드가 모두 사용 중일 때 대기할 수 있는 JPA 작업 수
+ */
+@ConfigurationProperties(prefix = "interview.ai.reactive")
+public record ReactiveInterviewProperties(
+    int persistenceThreads,
+    int persistenceQueueSize
+) {}
@@ -0,0 +1,23 @@
+package com.interviewai.global.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 답변 일괄 재채점 작업 설정
+ *
+ * @param adminEmails          작업을 시작/중지/조회할 수 있는 관리자 이메일
+ * @param pageSize             DB에서 한 번에 읽는 답변 수
+ * @param batchSize            모델 호출 1회에 묶는 답변 수 (응답 길이 한도 안에서 조정)
+ * @param lockTtlMinutes       실행 중 표시 유지 시간 (배치마다 연장, 서버가 죽으면 만료 후 재개 가능)
+ * @param checkpointTtlMinutes 체크포인트 보관 시간
+ */
+@ConfigurationProperties(prefix = "interview.ai.rescoring")
+public record RescoringProperties(
+    List<String> adminEmails,
+    int pageSize,
+    int batchSize,
+    long lockTtlMinutes,
+    long checkpointTtlMinutes
+) {}
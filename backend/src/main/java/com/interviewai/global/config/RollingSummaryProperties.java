@@ -0,0 +1,17 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 누적 요약 설정
+ *
+ * @param enabled        답변마다 누적 요약 갱신 여부 (종료 시 누적 요약 기반으로 짧게 종합 평가)
+ * @param finalWaitMs    종료 시 진행 중인 누적 요약 갱신을 기다리는 최대 시간
+ * @param deferredWaitMs 평가가 지연된 답변의 지연 평가 결과를 기다리는 최대 시간 (초과 시 누적 요약 중단)
+ */
+@ConfigurationProperties(prefix = "interview.ai.rolling-summary")
+public record RollingSummaryProperties(
+    boolean enabled,
+    long finalWaitMs,
+    long deferredWaitMs
+) {}
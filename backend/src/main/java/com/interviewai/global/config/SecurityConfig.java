@@ -17,6 +17,8 @@ import org.springframework.web.filter.CorsFilter;
 
 import com.interviewai.global.security.jwt.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -35,7 +37,10 @@ public class SecurityConfig {
             "/swagger-ui.html",
             "/api-docs/**",
             "/v3/api-docs/**",
-            "/health-check"
+            "/health-check",
+            // 운영에서는 management 포트로 분리되어 내부에서만 수집
+            "/actuator/health",
+            "/actuator/prometheus"
     };
 
     @Bean
@@ -46,6 +51,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> 
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답 완료 시 발생하는 비동기 디스패치 (원 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .anyRequest().authenticated())
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()))
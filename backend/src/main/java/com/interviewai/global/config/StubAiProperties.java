@@ -0,0 +1,19 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 부하 테스트용 AI 스텁 설정 (loadtest 프로필)
+ *
+ * @param latencyMedianMs 첫 토큰까지 지연 중앙값
+ * @param latencySigma    지연 로그정규분포 표준편차 (0이면 고정 지연)
+ * @param tokensPerSecond 응답 토큰 생성 속도 (0이면 즉시 생성)
+ * @param seed            지연 샘플링 시드
+ */
+@ConfigurationProperties(prefix = "interview.ai.stub")
+public record StubAiProperties(
+    long latencyMedianMs,
+    double latencySigma,
+    int tokensPerSecond,
+    long seed
+) {}
@@ -0,0 +1,15 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 종합 평가 프롬프트 토큰 예산
+ *
+ * @param maxPromptTokens 사용자 프롬프트 추정 토큰 상한 (초과 시 답변을 요약본으로 대체)
+ * @param digestChars     요약본의 답변 발췌/피드백 요약 최대 글자 수
+ */
+@ConfigurationProperties(prefix = "interview.ai.summary-budget")
+public record SummaryBudgetProperties(
+    int maxPromptTokens,
+    int digestChars
+) {}
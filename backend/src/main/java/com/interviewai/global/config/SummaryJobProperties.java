@@ -0,0 +1,12 @@
+package com.interviewai.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "interview.ai.summary-job")
+public record SummaryJobProperties(
+    int workers,
+    int queueCapacity,
+    long resultTtlMinutes,
+    long leaseSeconds,
+    long heartbeatIntervalMs
+) {}
@@ -15,6 +15,7 @@ public enum ErrorCode {
     RESOURCE_NOT_FOUND(1003, HttpStatus.NOT_FOUND, "리소스를 찾을 수 없습니다."),
     METHOD_NOT_ALLOWED(1004, HttpStatus.METHOD_NOT_ALLOWED, "허용되지 않은 메서드입니다."),
     RATE_LIMIT_EXCEEDED(1005, HttpStatus.TOO_MANY_REQUESTS, "요청 한도를 초과했습니다."),
+    CONCURRENT_MODIFICATION(1006, HttpStatus.CONFLICT, "다른 요청과 충돌했습니다. 다시 시도해주세요."),
 
     // Auth Errors (2xxx)
     UNAUTHORIZED(2000, HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
@@ -39,6 +40,12 @@ public enum ErrorCode {
     QUESTION_NOT_FOUND(3004, HttpStatus.NOT_FOUND, "질문을 찾을 수 없습니다."),
     ANSWER_ALREADY_SUBMITTED(3005, HttpStatus.BAD_REQUEST, "이미 제출된 답변입니다."),
     NO_MORE_QUESTIONS(3006, HttpStatus.BAD_REQUEST, "더 이상 질문이 없습니다."),
+    END_JOB_NOT_FOUND(3008, HttpStatus.NOT_FOUND, "면접 종료 작업을 찾을 수 없습니다."),
+    ANSWER_SUBMISSION_IN_PROGRESS(3009, HttpStatus.CONFLICT, "같은 답변을 처리 중입니다. 잠시 후 다시 시도해주세요."),
+    IDEMPOTENCY_KEY_REUSED(3010, HttpStatus.UNPROCESSABLE_ENTITY, "이미 다른 요청에 사용된 Idempotency-Key입니다."),
+    RESCORING_JOB_NOT_FOUND(3011, HttpStatus.NOT_FOUND, "재채점 작업을 찾을 수 없습니다."),
+    RESCORING_JOB_ALREADY_RUNNING(3012, HttpStatus.CONFLICT, "재채점 작업이 이미 실행 중입니다."),
+    END_JOB_INTERRUPTED(3013, HttpStatus.SERVICE_UNAVAILABLE, "면접 종료 작업이 중단되었습니다. 다시 요청해주세요."),
 
     // Premium Errors (4xxx)
     PREMIUM_REQUIRED(4000, HttpStatus.FORBIDDEN, "Premium 구독이 필요합니다."),
@@ -63,7 +70,8 @@ public enum ErrorCode {
     AI_SERVICE_UNAVAILABLE(6000, HttpStatus.SERVICE_UNAVAILABLE, "AI 서비스를 일시적으로 사용할 수 없습니다."),
     AI_RESPONSE_TIMEOUT(6001, HttpStatus.GATEWAY_TIMEOUT, "AI 응답 시간이 초과되었습니다."),
     AI_RESPONSE_PARSE_ERROR(6002, HttpStatus.INTERNAL_SERVER_ERROR, "AI 응답 파싱에 실패했습니다."),
-    AI_QUOTA_EXCEEDED(6003, HttpStatus.SERVICE_UNAVAILABLE, "AI API 할당량을 초과했습니다.");
+    AI_QUOTA_EXCEEDED(6003, HttpStatus.SERVICE_UNAVAILABLE, "AI API 할당량을 초과했습니다."),
+    AI_SERVICE_BUSY(6004, HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final int code;
     private final HttpStatus httpStatus;
@@ -2,6 +2,8 @@ package com.interviewai.global.exception;
 
 import com.interviewai.global.common.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -33,6 +35,24 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorResponse));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRateLimitExceededException(RateLimitExceededException e) {
+        log.warn("RateLimitExceededException: retryAfter={}s", e.getRetryAfterSeconds());
+
+        ErrorCode errorCode = e.getErrorCode();
+        ApiResponse.ErrorResponse errorResponse = ApiResponse.ErrorResponse.of(
+                errorCode.getCode(),
+                errorCode.name(),
+                e.getMessage(),
+                e.getDetails()
+        );
+
+        return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(errorResponse));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiResponse<Void>> handleValidationException(MethodArgumentNotValidException e) {
         log.error("ValidationException: {}", e.getMessage());
@@ -56,6 +76,21 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorResponse));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        log.error("OptimisticLockingFailureException: {}", e.getMessage());
+
+        ApiResponse.ErrorResponse errorResponse = ApiResponse.ErrorResponse.of(
+                ErrorCode.CONCURRENT_MODIFICATION.getCode(),
+                ErrorCode.CONCURRENT_MODIFICATION.name(),
+                ErrorCode.CONCURRENT_MODIFICATION.getMessage()
+        );
+
+        return ResponseEntity
+                .status(ErrorCode.CONCURRENT_MODIFICATION.getHttpStatus())
+                .body(ApiResponse.error(errorResponse));
+    }
+
     @ExceptionHandler(MethodArgumentTypeMismatchException.class)
     public ResponseEntity<ApiResponse<Void>> handleTypeMismatchException(MethodArgumentTypeMismatchException e) {
         log.error("TypeMismatchException: {}", e.getMessage());
@@ -0,0 +1,19 @@
+package com.interviewai.global.exception;
+
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 요청 한도 초과 (응답에 Retry-After 헤더를 포함)
+ */
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(ErrorCode.RATE_LIMIT_EXCEEDED, Map.of("retryAfterSeconds", retryAfterSeconds));
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
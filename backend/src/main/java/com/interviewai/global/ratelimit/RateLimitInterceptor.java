@@ -0,0 +1,162 @@
+package com.interviewai.global.ratelimit;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.global.config.RateLimitProperties;
+import com.interviewai.global.exception.RateLimitExceededException;
+import com.interviewai.infra.redis.RateLimitRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 AI 엔드포인트 요청 제한
+ *
+ * 일일 면접 횟수 제한과 별도로, 답변 제출/이어하기 등 모델을 호출하는 엔드포인트를 짧은 간격으로 반복 호출해
+ * 공용 모델 할당량을 소진하지 못하도록 (사용자, 규칙)마다 Redis 토큰 버킷으로 제한한다.
+ * - 구독 등급별 버킷 크기/채움 속도는 interview.ai.rate-limit.rules 설정을 따름
+ * - 초과 시 RATE_LIMIT_EXCEEDED(429) + Retry-After, 허용 시 X-RateLimit-Remaining 헤더
+ * - Redis 장애 시에는 요청을 막지 않음
+ * - http.rate.limit.requests: 규칙/등급/결과(allowed, rejected, error)별 요청 수
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimitProperties properties;
+    private final RateLimitRepository rateLimitRepository;
+    private final MeterRegistry registry;
+    private final List<CompiledRule> rules = new ArrayList<>();
+
+    public RateLimitInterceptor(RateLimitProperties properties, RateLimitRepository rateLimitRepository,
+                                MeterRegistry registry) {
+        this.properties = properties;
+        this.rateLimitRepository = rateLimitRepository;
+        this.registry = registry;
+
+        List<RateLimitProperties.Rule> configured = properties.rules() != null ? properties.rules() : List.of();
+        for (RateLimitProperties.Rule rule : configured) {
+            rules.add(compile(rule));
+        }
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답 완료 후 재디스패치는 원 요청에서 이미 차감됨
+        if (!properties.enabled() || request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        CompiledRule rule = match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (rule == null || authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return true;
+        }
+
+        SubscriptionType tier = tierOf(authentication);
+        RateLimitProperties.Limit limit = rule.limits().get(tier);
+        if (limit == null) {
+            return true;
+        }
+
+        RateLimitRepository.Consumption consumption;
+        try {
+            consumption = rateLimitRepository.tryConsume(rule.name(), authentication.getName(),
+                    limit.capacity(), limit.refillPerMinute() / 60_000);
+        } catch (RuntimeException e) {
+            log.warn("요청 제한 확인 실패, 제한 없이 처리 - 규칙: {}, {}", rule.name(), e.getMessage());
+            count(rule, tier, "error");
+            return true;
+        }
+
+        response.setHeader(REMAINING_HEADER, String.valueOf(consumption.remaining()));
+        if (!consumption.allowed()) {
+            count(rule, tier, "rejected");
+            long retryAfterSeconds = Math.max(1, (consumption.retryAfterMs() + 999) / 1000);
+            log.debug("요청 한도 초과 - 규칙: {}, 등급: {}, 재시도: {}s", rule.name(), tier, retryAfterSeconds);
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+        count(rule, tier, "allowed");
+        return true;
+    }
+
+    // ==================== Private Helper Methods ====================
+
+    private CompiledRule match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(
+                request.getRequestURI().substring(request.getContextPath().length()));
+        for (CompiledRule rule : rules) {
+            if (!rule.method().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            for (PathPattern pattern : rule.paths()) {
+                if (pattern.matches(path)) {
+                    return rule;
+                }
+            }
+        }
+        return null;
+    }
+
+    private SubscriptionType tierOf(Authentication authentication) {
+        boolean premium = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_PREMIUM".equals(authority.getAuthority()));
+        return premium ? SubscriptionType.PREMIUM : SubscriptionType.FREE;
+    }
+
+    private void count(CompiledRule rule, SubscriptionType tier, String result) {
+        Counter.builder("http.rate.limit.requests")
+                .description("요청 제한 적용 결과별 요청 수")
+                .tag("rule", rule.name())
+                .tag("tier", tier.name())
+                .tag("result", result)
+                .register(registry)
+                .increment();
+    }
+
+    private static CompiledRule compile(RateLimitProperties.Rule rule) {
+        if (!StringUtils.hasText(rule.name()) || !StringUtils.hasText(rule.method())
+                || rule.paths() == null || rule.paths().isEmpty()) {
+            throw new IllegalStateException("interview.ai.rate-limit 규칙에는 name, method, paths가 필요합니다: " + rule);
+        }
+
+        Map<SubscriptionType, RateLimitProperties.Limit> limits = new EnumMap<>(SubscriptionType.class);
+        if (rule.limits() != null) {
+            rule.limits().forEach((tier, limit) -> {
+                if (limit.capacity() < 1 || limit.refillPerMinute() <= 0) {
+                    throw new IllegalStateException("요청 제한 값이 올바르지 않습니다 - 규칙: " + rule.name() + ", 등급: " + tier);
+                }
+                limits.put(tier, limit);
+            });
+        }
+
+        List<PathPattern> paths = rule.paths().stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        return new CompiledRule(rule.name(), rule.method(), paths, limits);
+    }
+
+    private record CompiledRule(String name, String method, List<PathPattern> paths,
+                                Map<SubscriptionType, RateLimitProperties.Limit> limits) {}
+}
@@ -0,0 +1,45 @@
+package com.interviewai.infra.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 답변 제출 Idempotency-Key 저장소
+ * 키는 사용자별로 분리하며, 값은 처리 중 표시 또는 저장된 응답 JSON
+ */
+@RequiredArgsConstructor
+@Repository
+public class AnswerIdempotencyRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "interview:answer-idempotency:";
+
+    // 처리 중 표시 등록 (이미 있으면 false)
+    public boolean reserve(String email, String idempotencyKey, String marker, long ttlMinutes) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(key(email, idempotencyKey), marker, ttlMinutes, TimeUnit.MINUTES));
+    }
+
+    // 처리 결과 저장 (처리 중 표시를 덮어씀)
+    public void save(String email, String idempotencyKey, String json, long ttlMinutes) {
+        redisTemplate.opsForValue().set(key(email, idempotencyKey), json, ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    public String find(String email, String idempotencyKey) {
+        return redisTemplate.opsForValue().get(key(email, idempotencyKey));
+    }
+
+    // 처리 실패 시 등록 해제 (같은 키로 재시도 허용)
+    public void delete(String email, String idempotencyKey) {
+        redisTemplate.delete(key(email, idempotencyKey));
+    }
+
+    private String key(String email, String idempotencyKey) {
+        return KEY_PREFIX + email + ":" + idempotencyKey;
+    }
+}
@@ -0,0 +1,71 @@
+package com.interviewai.infra.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 답변 일괄 재채점 작업 저장소
+ * 체크포인트와 실행 중 표시를 Redis에 두어 다른 인스턴스에서도 조회/중지/재개할 수 있게 한다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class AnswerRescoringJobRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String CHECKPOINT_KEY = "interview:rescoring:checkpoint";
+    private static final String LOCK_KEY = "interview:rescoring:lock";
+    private static final String STOP_KEY = "interview:rescoring:stop";
+
+    // 체크포인트 저장
+    public void save(String json, long ttlMinutes) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY, json, ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    // 체크포인트 조회
+    public String find() {
+        return redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+    }
+
+    // 실행 중 표시 (이미 실행 중이면 false)
+    public boolean acquireLock(String runId, long ttlMinutes) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LOCK_KEY, runId, ttlMinutes, TimeUnit.MINUTES));
+    }
+
+    // 실행 중 표시 연장 (다른 실행으로 바뀌었으면 false)
+    public boolean extendLock(String runId, long ttlMinutes) {
+        if (!runId.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+            return false;
+        }
+        return Boolean.TRUE.equals(redisTemplate.expire(LOCK_KEY, ttlMinutes, TimeUnit.MINUTES));
+    }
+
+    // 실행 중 표시 해제
+    public void releaseLock(String runId) {
+        if (runId.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    public boolean isLocked() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(LOCK_KEY));
+    }
+
+    // 중지 요청 (실행 중인 인스턴스가 다음 배치 전에 확인)
+    public void requestStop(long ttlMinutes) {
+        redisTemplate.opsForValue().set(STOP_KEY, "1", ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    public boolean isStopRequested() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(STOP_KEY));
+    }
+
+    public void clearStop() {
+        redisTemplate.delete(STOP_KEY);
+    }
+}
@@ -0,0 +1,28 @@
+package com.interviewai.infra.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 답변 평가 결과 캐시 (인스턴스 간 공유 2차 캐시)
+ */
+@RequiredArgsConstructor
+@Repository
+public class EvaluationCacheRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String EVALUATION_PREFIX = "ai:evaluation:";
+
+    public void save(String key, String json, long ttlMinutes) {
+        redisTemplate.opsForValue().set(EVALUATION_PREFIX + key, json, ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    public String findByKey(String key) {
+        return redisTemplate.opsForValue().get(EVALUATION_PREFIX + key);
+    }
+}
@@ -0,0 +1,59 @@
+package com.interviewai.infra.redis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 비동기 면접 종료 작업 저장소
+ * 어느 인스턴스에서 폴링해도 같은 상태를 볼 수 있도록 Redis에 JSON으로 저장
+ */
+@RequiredArgsConstructor
+@Repository
+public class InterviewEndJobRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String JOB_PREFIX = "interview:end-job:";
+    private static final String INTERVIEW_JOB_PREFIX = "interview:end-job:interview:";
+
+    // 작업 상태 저장
+    public void save(String jobId, String json, long ttlMinutes) {
+        redisTemplate.opsForValue().set(JOB_PREFIX + jobId, json, ttlMinutes, TimeUnit.MINUTES);
+    }
+
+    // 작업 상태 조회
+    public String findById(String jobId) {
+        return redisTemplate.opsForValue().get(JOB_PREFIX + jobId);
+    }
+
+    // 면접별 진행 중 작업 등록 (이미 있으면 false)
+    public boolean saveInterviewJobIfAbsent(Long interviewId, String jobId, long leaseSeconds) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(INTERVIEW_JOB_PREFIX + interviewId, jobId, leaseSeconds, TimeUnit.SECONDS));
+    }
+
+    // 면접별 진행 중 작업 연장 (만료되었거나 다른 작업으로 바뀌었으면 false)
+    public boolean extendInterviewJob(Long interviewId, String jobId, long leaseSeconds) {
+        if (!jobId.equals(redisTemplate.opsForValue().get(INTERVIEW_JOB_PREFIX + interviewId))) {
+            return false;
+        }
+        return Boolean.TRUE.equals(
+                redisTemplate.expire(INTERVIEW_JOB_PREFIX + interviewId, leaseSeconds, TimeUnit.SECONDS));
+    }
+
+    // 면접별 진행 중 작업 ID 조회
+    public String findJobIdByInterviewId(Long interviewId) {
+        return redisTemplate.opsForValue().get(INTERVIEW_JOB_PREFIX + interviewId);
+    }
+
+    // 면접별 작업 등록 해제 (실패 후 재요청 허용, 다른 작업으로 바뀌었으면 유지)
+    public void deleteInterviewJob(Long interviewId, String jobId) {
+        if (jobId.equals(redisTemplate.opsForValue().get(INTERVIEW_JOB_PREFIX + interviewId))) {
+            redisTemplate.delete(INTERVIEW_JOB_PREFIX + interviewId);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.interviewai.infra.redis;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 제한 토큰 버킷 저장소
+ * 버킷(남은 토큰, 마지막 갱신 시각)은 해시 하나에 두고, 채우기 + 차감을 Lua 스크립트로 원자적으로 처리한다.
+ * 시각은 Redis 서버 시간을 사용해 인스턴스 간 시계 차이의 영향을 받지 않는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class RateLimitRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private static final String KEY_PREFIX = "interview:rate-limit:";
+
+    // KEYS[1]: 버킷, ARGV: 버킷 크기, ms당 채워지는 토큰 수
+    // 반환: {허용 여부(1/0), 다시 시도까지 남은 ms, 남은 토큰 수}
+    private static final String TOKEN_BUCKET_LUA = """
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil or ts == nil then
+                tokens = capacity
+                ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate)
+
+            local allowed = 0
+            local retryAfter = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            else
+                retryAfter = math.ceil((1 - tokens) / rate)
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate))
+            return {allowed, retryAfter, math.floor(tokens)}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = RedisScript.of(TOKEN_BUCKET_LUA, List.class);
+
+    /**
+     * 토큰 1개 차감 시도
+     *
+     * @param refillPerMs ms당 채워지는 토큰 수 (0보다 커야 함)
+     */
+    public Consumption tryConsume(String bucket, String userKey, int capacity, double refillPerMs) {
+        List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + bucket + ":" + userKey),
+                String.valueOf(capacity), String.valueOf(refillPerMs));
+        if (result == null || result.size() < 3) {
+            throw new IllegalStateException("요청 제한 스크립트 응답 오류: " + result);
+        }
+        return new Consumption(toLong(result.get(0)) == 1, toLong(result.get(1)), toLong(result.get(2)));
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+
+    /**
+     * @param allowed      요청 허용 여부
+     * @param retryAfterMs 거절된 경우 토큰 1개가 채워질 때까지 남은 시간
+     * @param remaining    남은 토큰 수
+     */
+    public record Consumption(boolean allowed, long retryAfterMs, long remaining) {}
+}
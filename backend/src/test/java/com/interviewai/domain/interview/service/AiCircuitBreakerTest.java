@@ -0,0 +1,195 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interviewai.domain.interview.service.AiCircuitBreaker.State;
+import com.interviewai.global.config.AiResilienceProperties;
+
+class AiCircuitBreakerTest {
+
+    // 최근 4건 중 실패 50% 이상이면 차단, 반개방 시험 호출 2건
+    private static final int WINDOW_SIZE = 4;
+    private static final int HALF_OPEN_PROBES = 2;
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 모두 실패해도 닫힌 상태 유지")
+    void staysClosedBelowMinimumCalls() {
+        AiCircuitBreaker breaker = breaker(60_000);
+
+        failures(breaker, WINDOW_SIZE - 1);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getStats().failureRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치 미만이면 닫힌 상태 유지")
+    void staysClosedBelowThreshold() {
+        AiCircuitBreaker breaker = breaker(60_000);
+
+        successes(breaker, 3);
+        failures(breaker, 1);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getStats().failureRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치에 도달하면 차단하고 이후 호출을 즉시 거절")
+    void opensAtThreshold() {
+        AiCircuitBreaker breaker = breaker(60_000);
+
+        successes(breaker, 2);
+        failures(breaker, 2);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        AiCircuitBreaker.Stats stats = breaker.getStats();
+        assertThat(stats.opened()).isEqualTo(1);
+        assertThat(stats.rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래된 실패는 구간에서 밀려나 실패율에 반영되지 않음")
+    void rollsOldFailuresOutOfWindow() {
+        AiCircuitBreaker breaker = breaker(60_000);
+
+        failures(breaker, 1);
+        successes(breaker, 3);
+        successes(breaker, WINDOW_SIZE);
+        failures(breaker, 1);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getStats().windowCount()).isEqualTo(WINDOW_SIZE);
+        assertThat(breaker.getStats().failureRate()).isEqualTo(0.25);
+    }
+
+    @Test
+    @DisplayName("무시된 결과는 실패율에 반영하지 않음")
+    void ignoresNeutralResults() {
+        AiCircuitBreaker breaker = breaker(60_000);
+
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onIgnored();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.getStats().windowCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나면 반개방 상태에서 시험 호출 수만큼만 허용")
+    void halfOpenAdmitsLimitedProbes() {
+        AiCircuitBreaker breaker = openBreaker(0);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        // 성공한 시험 호출도 닫힐 때까지 자리를 차지함
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getStats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 모두 성공하면 닫고 실패율 구간을 초기화")
+    void closesAfterSuccessfulProbes() {
+        AiCircuitBreaker breaker = openBreaker(0);
+
+        probes(breaker, HALF_OPEN_PROBES);
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        AiCircuitBreaker.Stats stats = breaker.getStats();
+        assertThat(stats.windowCount()).isZero();
+        assertThat(stats.failureRate()).isZero();
+
+        // 이전 실패가 남아 있지 않으므로 실패 1건으로 다시 열리지 않음
+        failures(breaker, 1);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 하나라도 실패하면 다시 차단")
+    void reopensOnProbeFailure() {
+        AiCircuitBreaker breaker = openBreaker(0);
+
+        probes(breaker, HALF_OPEN_PROBES);
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.getStats().opened()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("차단 시간이 지나기 전에는 반개방으로 전환하지 않음")
+    void rejectsUntilOpenDurationElapses() {
+        AiCircuitBreaker breaker = openBreaker(60_000);
+
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    @DisplayName("무시된 시험 호출은 자리를 반납해 다른 시험 호출을 허용")
+    void ignoredProbeReleasesSlot() {
+        AiCircuitBreaker breaker = openBreaker(0);
+
+        probes(breaker, HALF_OPEN_PROBES);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onIgnored();
+
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private AiCircuitBreaker breaker(long openDurationMs) {
+        return new AiCircuitBreaker(new AiResilienceProperties(
+                true, 4, 1_000, 1_000, 1_000, 1_000,
+                false, 0.95, 0, 0,
+                0.5, WINDOW_SIZE, WINDOW_SIZE, openDurationMs, HALF_OPEN_PROBES));
+    }
+
+    private AiCircuitBreaker openBreaker(long openDurationMs) {
+        AiCircuitBreaker breaker = breaker(openDurationMs);
+        failures(breaker, WINDOW_SIZE);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        return breaker;
+    }
+
+    private void successes(AiCircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onSuccess();
+        }
+    }
+
+    private void failures(AiCircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+            breaker.onFailure();
+        }
+    }
+
+    private void probes(AiCircuitBreaker breaker, int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(breaker.tryAcquire()).isTrue();
+        }
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+}
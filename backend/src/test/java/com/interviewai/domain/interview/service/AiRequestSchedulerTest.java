@@ -0,0 +1,185 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.interviewai.domain.interview.entity.Interview;
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.domain.user.entity.User;
+import com.interviewai.global.config.AiSchedulerProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class AiRequestSchedulerTest {
+
+    private final List<String> order = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("여유가 있으면 대기 없이 바로 실행하고 슬롯 반환")
+    void runsImmediatelyWhenIdle() {
+        AiRequestScheduler scheduler = scheduler(1, 10, 10_000);
+
+        String result = scheduler.execute(AiOperation.QUESTION, null, () -> "질문");
+
+        assertThat(result).isEqualTo("질문");
+        AiRequestScheduler.Stats stats = scheduler.getStats();
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.waiting()).isZero();
+        assertThat(stats.admitted()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 요청은 평가/질문 생성 > 종합 평가 > 백그라운드 순, PREMIUM은 한 단계 앞, 같은 우선순위는 도착 순")
+    void admitsWaitersByPriority() {
+        AiRequestScheduler scheduler = scheduler(1, 10, 10_000);
+        Disposable holder = hold(scheduler);
+
+        scheduler.executeReactive(AiOperation.SUMMARY, null, () -> record("free-summary")).subscribe();
+        Mono<Void> background = AiRequestScheduler.background(
+                () -> scheduler.executeReactive(AiOperation.EVALUATION, null, () -> record("background")));
+        background.subscribe();
+        scheduler.executeReactive(AiOperation.EVALUATION, null, () -> record("free-evaluation")).subscribe();
+        scheduler.executeReactive(AiOperation.EVALUATION, interviewOf(SubscriptionType.PREMIUM),
+                () -> record("premium-evaluation")).subscribe();
+        scheduler.executeReactive(AiOperation.QUESTION, interviewOf(SubscriptionType.FREE),
+                () -> record("free-question")).subscribe();
+
+        assertThat(order).isEmpty();
+        assertThat(scheduler.getStats().waiting()).isEqualTo(5);
+
+        holder.dispose();
+
+        assertThat(order).containsExactly(
+                "premium-evaluation", "free-evaluation", "free-question", "free-summary", "background");
+        AiRequestScheduler.Stats stats = scheduler.getStats();
+        assertThat(stats.inFlight()).isZero();
+        assertThat(stats.waiting()).isZero();
+        assertThat(stats.admitted()).isEqualTo(6);
+        assertThat(stats.rejected()).isZero();
+    }
+
+    @Test
+    @DisplayName("블로킹 대기자는 슬롯이 반환되면 이어서 실행")
+    void handsSlotToBlockingWaiter() throws Exception {
+        AiRequestScheduler scheduler = scheduler(1, 10, 10_000);
+        Disposable holder = hold(scheduler);
+
+        CompletableFuture<String> waiting = CompletableFuture.supplyAsync(
+                () -> scheduler.execute(AiOperation.EVALUATION, null, () -> "평가"));
+        awaitWaiting(scheduler, 1);
+        assertThat(waiting).isNotDone();
+
+        holder.dispose();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("평가");
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 즉시 AI_SERVICE_BUSY로 거절")
+    void rejectsWhenQueueIsFull() {
+        AiRequestScheduler scheduler = scheduler(1, 1, 10_000);
+        Disposable holder = hold(scheduler);
+        scheduler.executeReactive(AiOperation.EVALUATION, null, () -> record("queued")).subscribe();
+
+        assertBusy(() -> scheduler.execute(AiOperation.QUESTION, null, () -> "질문"));
+        assertBusy(() -> scheduler.executeReactive(AiOperation.QUESTION, null, () -> record("rejected"))
+                .block(Duration.ofSeconds(5)));
+
+        AiRequestScheduler.Stats stats = scheduler.getStats();
+        assertThat(stats.rejected()).isEqualTo(2);
+        assertThat(stats.waiting()).isEqualTo(1);
+
+        holder.dispose();
+        assertThat(order).containsExactly("queued");
+    }
+
+    @Test
+    @DisplayName("최대 대기 시간 안에 차례가 오지 않으면 대기열에서 빼고 AI_SERVICE_BUSY로 거절")
+    void rejectsWhenWaitTimesOut() {
+        AiRequestScheduler scheduler = scheduler(1, 10, 50);
+        Disposable holder = hold(scheduler);
+
+        assertBusy(() -> scheduler.execute(AiOperation.EVALUATION, null, () -> "평가"));
+        assertBusy(() -> scheduler.executeReactive(AiOperation.EVALUATION, null, () -> record("timed-out"))
+                .block(Duration.ofSeconds(5)));
+
+        AiRequestScheduler.Stats stats = scheduler.getStats();
+        assertThat(stats.rejected()).isEqualTo(2);
+        assertThat(stats.waiting()).isZero();
+        assertThat(stats.inFlight()).isEqualTo(1);
+
+        holder.dispose();
+        assertThat(order).isEmpty();
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중 구독을 취소하면 대기열에서 빠지고 작업은 실행되지 않음")
+    void removesCancelledWaiter() {
+        AiRequestScheduler scheduler = scheduler(1, 10, 10_000);
+        Disposable holder = hold(scheduler);
+        Disposable cancelled = scheduler.executeReactive(AiOperation.EVALUATION, null,
+                () -> record("cancelled")).subscribe();
+        scheduler.executeReactive(AiOperation.SUMMARY, null, () -> record("summary")).subscribe();
+
+        cancelled.dispose();
+        assertThat(scheduler.getStats().waiting()).isEqualTo(1);
+
+        holder.dispose();
+
+        assertThat(order).containsExactly("summary");
+        assertThat(scheduler.getStats().inFlight()).isZero();
+    }
+
+    // ==================== Helper Methods ====================
+
+    private AiRequestScheduler scheduler(int maxConcurrency, int maxQueueSize, long maxQueueWaitMs) {
+        return new AiRequestScheduler(new AiSchedulerProperties(maxConcurrency, maxQueueSize, maxQueueWaitMs));
+    }
+
+    // 끝나지 않는 작업으로 슬롯 하나를 차지 (dispose 시 반환)
+    private Disposable hold(AiRequestScheduler scheduler) {
+        return scheduler.executeReactive(AiOperation.EVALUATION, null, Mono::never).subscribe();
+    }
+
+    private Mono<Void> record(String name) {
+        return Mono.fromRunnable(() -> order.add(name));
+    }
+
+    private Interview interviewOf(SubscriptionType subscriptionType) {
+        Interview interview = mock(Interview.class);
+        when(interview.getUser()).thenReturn(User.builder().subscriptionType(subscriptionType).build());
+        return interview;
+    }
+
+    private void assertBusy(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AI_SERVICE_BUSY));
+    }
+
+    private void awaitWaiting(AiRequestScheduler scheduler, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getStats().waiting() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("대기 요청 수가 " + expected + "에 도달하지 않음");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interviewai.domain.interview.dto.AnswerSubmitRequest;
+import com.interviewai.domain.interview.dto.AnswerSubmitResponse;
+import com.interviewai.global.config.IdempotencyProperties;
+import com.interviewai.global.exception.CustomException;
+import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.infra.redis.AnswerIdempotencyRepository;
+
+class AnswerSubmissionCoalescerTest {
+
+    private static final String EMAIL = "user@test.com";
+    private static final Long INTERVIEW_ID = 1L;
+    private static final Long QUESTION_ID = 10L;
+    private static final String KEY = "idempotency-key";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private InterviewService interviewService;
+    private AnswerIdempotencyRepository idempotencyRepository;
+    private AnswerSubmissionCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        interviewService = mock(InterviewService.class);
+        idempotencyRepository = mock(AnswerIdempotencyRepository.class);
+        coalescer = new AnswerSubmissionCoalescer(interviewService, mock(ReactiveInterviewService.class),
+                idempotencyRepository, new IdempotencyProperties(60, 5), objectMapper);
+    }
+
+    @Test
+    @DisplayName("같은 답변이 동시에 두 번 제출되면 한 번만 실행하고 결과를 함께 받음")
+    void sharesResultWithConcurrentDuplicate() throws Exception {
+        AnswerSubmitResponse response = AnswerSubmitResponse.of(null, null);
+        BlockingSubmit blocking = blockSubmit(response);
+
+        CompletableFuture<AnswerSubmitResponse> first = submitAsync(request("답변"), null);
+        blocking.awaitStarted();
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        CompletableFuture<AnswerSubmitResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+            waiter.set(Thread.currentThread());
+            return coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), null);
+        });
+        awaitParked(waiter);
+
+        blocking.release();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        verify(interviewService, times(1)).submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any());
+    }
+
+    @Test
+    @DisplayName("같은 질문에 다른 답변이 처리 중이면 ANSWER_SUBMISSION_IN_PROGRESS")
+    void rejectsDifferentAnswerInProgress() throws Exception {
+        BlockingSubmit blocking = blockSubmit(AnswerSubmitResponse.of(null, null));
+
+        CompletableFuture<AnswerSubmitResponse> first = submitAsync(request("답변"), null);
+        blocking.awaitStarted();
+
+        assertErrorCode(() -> coalescer.submit(EMAIL, INTERVIEW_ID, request("다른 답변"), null),
+                ErrorCode.ANSWER_SUBMISSION_IN_PROGRESS);
+
+        blocking.release();
+        first.get(5, TimeUnit.SECONDS);
+        verify(interviewService, times(1)).submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any());
+    }
+
+    @Test
+    @DisplayName("같은 키의 재요청은 저장된 결과를 반환하고 다시 실행하지 않음")
+    void returnsStoredResultForSameKey() {
+        when(idempotencyRepository.reserve(eq(EMAIL), eq(KEY), anyString(), anyLong())).thenReturn(true);
+        when(interviewService.submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any()))
+                .thenReturn(AnswerSubmitResponse.of(null, null));
+
+        coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRepository).save(eq(EMAIL), eq(KEY), json.capture(), eq(60L));
+        when(idempotencyRepository.find(EMAIL, KEY)).thenReturn(json.getValue());
+
+        AnswerSubmitResponse replayed = coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY);
+
+        assertThat(replayed).isNotNull();
+        verify(interviewService, times(1)).submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any());
+    }
+
+    @Test
+    @DisplayName("다른 질문의 결과가 저장된 키를 다시 쓰면 IDEMPOTENCY_KEY_REUSED")
+    void rejectsReusedKey() throws Exception {
+        when(idempotencyRepository.find(EMAIL, KEY)).thenReturn(objectMapper.writeValueAsString(
+                new AnswerSubmissionCoalescer.StoredSubmission(INTERVIEW_ID, 99L, AnswerSubmitResponse.of(null, null))));
+
+        assertErrorCode(() -> coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY),
+                ErrorCode.IDEMPOTENCY_KEY_REUSED);
+
+        verify(interviewService, never()).submitAnswer(anyString(), anyLong(), any());
+        verify(idempotencyRepository, never()).reserve(anyString(), anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("제출이 실패하면 키 등록을 해제해 같은 키로 재시도 가능")
+    void releasesKeyOnFailure() {
+        AnswerSubmitResponse response = AnswerSubmitResponse.of(null, null);
+        when(idempotencyRepository.reserve(eq(EMAIL), eq(KEY), anyString(), anyLong())).thenReturn(true);
+        when(interviewService.submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any()))
+                .thenThrow(new CustomException(ErrorCode.AI_SERVICE_BUSY))
+                .thenReturn(response);
+
+        assertErrorCode(() -> coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY), ErrorCode.AI_SERVICE_BUSY);
+        verify(idempotencyRepository).delete(EMAIL, KEY);
+        verify(idempotencyRepository, never()).save(anyString(), anyString(), anyString(), anyLong());
+
+        assertThat(coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY)).isSameAs(response);
+        verify(idempotencyRepository).save(eq(EMAIL), eq(KEY), anyString(), eq(60L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 키를 적용하지 않고 인스턴스 내 병합만으로 처리")
+    void fallsBackToInProcessCoalescingWhenRedisFails() throws Exception {
+        RedisConnectionFailureException failure = new RedisConnectionFailureException("connection refused");
+        when(idempotencyRepository.find(EMAIL, KEY)).thenThrow(failure);
+        when(idempotencyRepository.reserve(eq(EMAIL), eq(KEY), anyString(), anyLong())).thenThrow(failure);
+        AnswerSubmitResponse response = AnswerSubmitResponse.of(null, null);
+        BlockingSubmit blocking = blockSubmit(response);
+
+        CompletableFuture<AnswerSubmitResponse> first = submitAsync(request("답변"), KEY);
+        blocking.awaitStarted();
+        AtomicReference<Thread> waiter = new AtomicReference<>();
+        CompletableFuture<AnswerSubmitResponse> duplicate = CompletableFuture.supplyAsync(() -> {
+            waiter.set(Thread.currentThread());
+            return coalescer.submit(EMAIL, INTERVIEW_ID, request("답변"), KEY);
+        });
+        awaitParked(waiter);
+
+        blocking.release();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        verify(interviewService, times(1)).submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any());
+        verify(idempotencyRepository, never()).save(anyString(), anyString(), anyString(), anyLong());
+    }
+
+    // ==================== Helper Methods ====================
+
+    private AnswerSubmitRequest request(String content) {
+        AnswerSubmitRequest request = new AnswerSubmitRequest();
+        ReflectionTestUtils.setField(request, "questionId", QUESTION_ID);
+        ReflectionTestUtils.setField(request, "content", content);
+        return request;
+    }
+
+    private CompletableFuture<AnswerSubmitResponse> submitAsync(AnswerSubmitRequest request, String key) {
+        return CompletableFuture.supplyAsync(() -> coalescer.submit(EMAIL, INTERVIEW_ID, request, key));
+    }
+
+    // 풀어 줄 때까지 답변 제출(AI 평가)이 끝나지 않도록 막음
+    private BlockingSubmit blockSubmit(AnswerSubmitResponse response) {
+        BlockingSubmit blocking = new BlockingSubmit();
+        when(interviewService.submitAnswer(eq(EMAIL), eq(INTERVIEW_ID), any())).thenAnswer(invocation -> {
+            blocking.started.countDown();
+            blocking.released.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+        return blocking;
+    }
+
+    // 중복 요청이 진행 중인 제출의 결과를 기다리기 시작할 때까지 대기
+    private void awaitParked(AtomicReference<Thread> waiter) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (waiter.get() == null || waiter.get().getState() != Thread.State.WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("중복 요청이 진행 중인 제출을 기다리지 않음");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private void assertErrorCode(Runnable call, ErrorCode errorCode) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(CustomException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+    }
+
+    private static class BlockingSubmit {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+
+class JsonEvaluationDecoderTest {
+
+    // 응답 조각 크기 (1: 필드명/문자열/숫자/이스케이프가 조각 경계에 걸림, 0: 전체 응답 한 번에)
+    private static final int[] CHUNK_SIZES = {0, 1, 2, 3, 5, 8, 13};
+
+    private static final String RESPONSE = "```json\n{\"score\": 10, \"feedback\": \"\\\"락\\\"과 \\n 세마포어를 구분했습니다.\","
+            + " \"extra\": {\"nested\": [1, {\"score\": 1}]},"
+            + " \"modelAnswer\": \"뮤텍스는 소유권이 있습니다 \\u2014 세마포어는 없습니다.\"}\n```";
+
+    @Test
+    @DisplayName("조각 크기와 관계없이 같은 결과 (토큰 중간에서 잘린 조각 포함)")
+    void decodesRegardlessOfChunkBoundaries() {
+        for (int chunkSize : CHUNK_SIZES) {
+            JsonEvaluationDecoder decoder = new JsonEvaluationDecoder(token -> { });
+            feed(decoder, RESPONSE, chunkSize);
+            EvaluationResult result = decoder.finish();
+
+            assertThat(result.getScore()).as("점수 (조각 크기 %d)", chunkSize).isEqualTo(10);
+            assertThat(result.getFeedback()).as("피드백 (조각 크기 %d)", chunkSize)
+                    .isEqualTo("\"락\"과 \n 세마포어를 구분했습니다.");
+            assertThat(result.getModelAnswer()).as("모범답안 (조각 크기 %d)", chunkSize)
+                    .isEqualTo("뮤텍스는 소유권이 있습니다 — 세마포어는 없습니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("필드 값이 완성되는 즉시 리스너로 전달")
+    void emitsFieldsAsSoonAsTheyComplete() {
+        List<String> events = new ArrayList<>();
+        JsonEvaluationDecoder decoder = new JsonEvaluationDecoder(new EvaluationStreamListener() {
+            @Override
+            public void onToken(String token) {
+            }
+
+            @Override
+            public void onScore(int score) {
+                events.add("score:" + score);
+            }
+
+            @Override
+            public void onFeedback(String feedback) {
+                events.add("feedback:" + feedback);
+            }
+
+            @Override
+            public void onModelAnswer(String modelAnswer) {
+                events.add("modelAnswer:" + modelAnswer);
+            }
+        });
+
+        decoder.feed("{\"sco");
+        decoder.feed("re\": 7");
+        assertThat(events).isEmpty(); // 숫자가 더 이어질 수 있음
+
+        decoder.feed(", \"feedback\": \"좋");
+        assertThat(events).containsExactly("score:7");
+
+        decoder.feed("습니다\"");
+        assertThat(events).containsExactly("score:7", "feedback:좋습니다");
+
+        decoder.feed(", \"modelAnswer\": \"예시\"}");
+        assertThat(events).containsExactly("score:7", "feedback:좋습니다", "modelAnswer:예시");
+    }
+
+    static Stream<Arguments> invalidResponses() {
+        return Stream.of(
+                Arguments.of("score 누락", "{\"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("feedback 누락", "{\"score\": 5, \"modelAnswer\": \"예시\"}"),
+                Arguments.of("modelAnswer 누락", "{\"score\": 5, \"feedback\": \"좋습니다\"}"),
+                Arguments.of("빈 feedback", "{\"score\": 5, \"feedback\": \"  \", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("score 0", "{\"score\": 0, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("score 11", "{\"score\": 11, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("int 범위를 넘는 score",
+                        "{\"score\": 99999999999, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("문자열 score", "{\"score\": \"8\", \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("실수 score", "{\"score\": 7.5, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}"),
+                Arguments.of("숫자 feedback", "{\"score\": 5, \"feedback\": 3, \"modelAnswer\": \"예시\"}"),
+                Arguments.of("중첩 객체 안의 필드만 있음",
+                        "{\"result\": {\"score\": 5, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}}"),
+                Arguments.of("닫히지 않은 객체", "{\"score\": 5, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\""),
+                Arguments.of("문법 오류", "{\"score\": 5,, \"feedback\": \"좋습니다\"}"),
+                Arguments.of("JSON 없음", "점수: 8\n피드백: 좋습니다.")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("invalidResponses")
+    @DisplayName("스키마를 위반하면 조각 크기와 관계없이 AiOutputSchemaException")
+    void rejectsInvalidResponses(String description, String response) {
+        for (int chunkSize : CHUNK_SIZES) {
+            JsonEvaluationDecoder decoder = new JsonEvaluationDecoder(token -> { });
+
+            assertThatThrownBy(() -> {
+                feed(decoder, response, chunkSize);
+                decoder.finish();
+            }).as("조각 크기 %d", chunkSize).isInstanceOf(AiOutputSchemaException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("최상위 객체가 닫힌 뒤의 내용은 무시")
+    void ignoresTrailingContent() {
+        JsonEvaluationDecoder decoder = new JsonEvaluationDecoder(token -> { });
+        decoder.feed("{\"score\": 6, \"feedback\": \"좋습니다\", \"modelAnswer\": \"예시\"}");
+        decoder.feed("\n```\n{\"score\": 1, 잘못된 내용");
+
+        assertThat(decoder.finish().getScore()).isEqualTo(6);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void feed(IncrementalJsonDecoder<?> decoder, String response, int chunkSize) {
+        if (chunkSize == 0) {
+            decoder.feed(response);
+            return;
+        }
+        for (int i = 0; i < response.length(); i += chunkSize) {
+            decoder.feed(response.substring(i, Math.min(response.length(), i + chunkSize)));
+        }
+    }
+}
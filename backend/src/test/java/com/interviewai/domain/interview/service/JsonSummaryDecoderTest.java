@@ -0,0 +1,116 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+class JsonSummaryDecoderTest {
+
+    private static final List<String> CATEGORIES = List.of("자료구조", "운영체제", "네트워크");
+
+    // 응답 조각 크기 (1: 필드명/문자열/숫자가 조각 경계에 걸림, 0: 전체 응답 한 번에)
+    private static final int[] CHUNK_SIZES = {0, 1, 2, 3, 5, 8, 13};
+
+    static Stream<Arguments> validResponses() {
+        return Stream.of(
+                Arguments.of("기본 형식",
+                        "{\"summary\": \"전반적으로 좋습니다.\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("코드 블록 + 필드 순서 변경",
+                        "```json\n{\"categoryScores\": {\"네트워크\": 9, \"자료구조\": 8, \"운영체제\": 7},"
+                                + " \"overallScore\": 8, \"summary\": \"전반적으로 좋습니다.\"}\n```"),
+                Arguments.of("categoryScores 안의 중첩 객체/배열 뒤 카테고리",
+                        "{\"summary\": \"전반적으로 좋습니다.\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": 8, \"근거\": {\"운영체제\": 1, \"목록\": [1, 2]},"
+                                + " \"운영체제\": 7, \"태그\": [\"네트워크\", {\"네트워크\": 1}], \"네트워크\": 9}}"),
+                Arguments.of("categoryScores 앞의 다른 중첩 객체",
+                        "{\"meta\": {\"자료구조\": 1, \"overallScore\": 1}, \"summary\": \"전반적으로 좋습니다.\","
+                                + " \"overallScore\": 8, \"tags\": [{\"summary\": \"무시\"}],"
+                                + " \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"네트워크\": 9, \"기타\": 99}}")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("validResponses")
+    @DisplayName("조각 크기와 관계없이 같은 결과 (토큰 중간에서 잘린 조각, 중첩 객체/배열 포함)")
+    void decodesRegardlessOfChunkBoundaries(String description, String response) {
+        for (int chunkSize : CHUNK_SIZES) {
+            JsonSummaryDecoder decoder = new JsonSummaryDecoder(CATEGORIES);
+            feed(decoder, response, chunkSize);
+            SummaryResult result = decoder.finish();
+
+            assertThat(result.getSummary()).as("요약 (조각 크기 %d)", chunkSize).isEqualTo("전반적으로 좋습니다.");
+            assertThat(result.getOverallScore()).as("전체 점수 (조각 크기 %d)", chunkSize).isEqualTo(8);
+            // 면접 유형의 카테고리 순서를 따름
+            assertThat(result.getCategoryScores()).as("카테고리별 점수 (조각 크기 %d)", chunkSize)
+                    .containsExactly(entry("자료구조", 8), entry("운영체제", 7), entry("네트워크", 9));
+        }
+    }
+
+    static Stream<Arguments> invalidResponses() {
+        return Stream.of(
+                Arguments.of("summary 누락",
+                        "{\"overallScore\": 8, \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("overallScore 누락",
+                        "{\"summary\": \"요약\", \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("categoryScores 누락", "{\"summary\": \"요약\", \"overallScore\": 8}"),
+                Arguments.of("카테고리 하나 누락",
+                        "{\"summary\": \"요약\", \"overallScore\": 8, \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7}}"),
+                Arguments.of("중첩 객체 안에만 있는 카테고리",
+                        "{\"summary\": \"요약\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"근거\": {\"네트워크\": 9}}}"),
+                Arguments.of("배열로 된 categoryScores",
+                        "{\"summary\": \"요약\", \"overallScore\": 8, \"categoryScores\": [8, 7, 9]}"),
+                Arguments.of("overallScore 11",
+                        "{\"summary\": \"요약\", \"overallScore\": 11,"
+                                + " \"categoryScores\": {\"자료구조\": 8, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("음수 카테고리 점수",
+                        "{\"summary\": \"요약\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": -1, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("int 범위를 넘는 카테고리 점수",
+                        "{\"summary\": \"요약\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": 99999999999, \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("문자열 카테고리 점수",
+                        "{\"summary\": \"요약\", \"overallScore\": 8,"
+                                + " \"categoryScores\": {\"자료구조\": \"8\", \"운영체제\": 7, \"네트워크\": 9}}"),
+                Arguments.of("닫히지 않은 객체",
+                        "{\"summary\": \"요약\", \"overallScore\": 8, \"categoryScores\": {\"자료구조\": 8")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("invalidResponses")
+    @DisplayName("스키마를 위반하면 조각 크기와 관계없이 AiOutputSchemaException")
+    void rejectsInvalidResponses(String description, String response) {
+        for (int chunkSize : CHUNK_SIZES) {
+            JsonSummaryDecoder decoder = new JsonSummaryDecoder(CATEGORIES);
+
+            assertThatThrownBy(() -> {
+                feed(decoder, response, chunkSize);
+                decoder.finish();
+            }).as("조각 크기 %d", chunkSize).isInstanceOf(AiOutputSchemaException.class);
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void feed(IncrementalJsonDecoder<?> decoder, String response, int chunkSize) {
+        if (chunkSize == 0) {
+            decoder.feed(response);
+            return;
+        }
+        for (int i = 0; i < response.length(); i += chunkSize) {
+            decoder.feed(response.substring(i, Math.min(response.length(), i + chunkSize)));
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.interviewai.domain.interview.service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+/**
+ * 비교 기준용 기존 줄 단위 파서 (GeminiService에 있던 구현 그대로)
+ * 파서 회귀 테스트의 기대값과 벤치마크(src/jmh, includeTests)의 비교 대상으로 사용한다.
+ */
+final class LegacyResponseParser {
+
+    private LegacyResponseParser() {
+    }
+
+    static EvaluationResult parseEvaluation(String response) {
+        int score = 0;
+        StringBuilder feedbackBuilder = new StringBuilder();
+        StringBuilder modelAnswerBuilder = new StringBuilder();
+
+        String currentSection = null;
+
+        String[] lines = response.split("\n");
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+
+            if (trimmedLine.startsWith("점수:") || trimmedLine.startsWith("점수 :")) {
+                score = extractScore(trimmedLine);
+                currentSection = null;
+            } else if (trimmedLine.startsWith("피드백:") || trimmedLine.startsWith("피드백 :")) {
+                String content = trimmedLine.replaceFirst("피드백\\s*:", "").trim();
+                feedbackBuilder.append(content);
+                currentSection = "feedback";
+            } else if (trimmedLine.startsWith("모범답안:") || trimmedLine.startsWith("모범답안 :") ||
+                       trimmedLine.startsWith("모범 답안:") || trimmedLine.startsWith("모범 답안 :")) {
+                String content = trimmedLine.replaceFirst("모범\\s*답안\\s*:", "").trim();
+                modelAnswerBuilder.append(content);
+                currentSection = "modelAnswer";
+            } else if (!trimmedLine.isEmpty() && currentSection != null) {
+                if ("feedback".equals(currentSection)) {
+                    feedbackBuilder.append(" ").append(trimmedLine);
+                } else if ("modelAnswer".equals(currentSection)) {
+                    modelAnswerBuilder.append(" ").append(trimmedLine);
+                }
+            }
+        }
+
+        String feedback = feedbackBuilder.toString().trim();
+        String modelAnswer = modelAnswerBuilder.toString().trim();
+
+        if (feedback.isEmpty() && modelAnswer.isEmpty()) {
+            feedback = response;
+        }
+
+        return EvaluationResult.of(score, feedback, modelAnswer);
+    }
+
+    static SummaryResult parseSummary(String response, List<String> categories) {
+        StringBuilder summaryBuilder = new StringBuilder();
+        int overallScore = 0;
+        Map<String, Integer> categoryScores = new LinkedHashMap<>();
+
+        for (String category : categories) {
+            categoryScores.put(category, 0);
+        }
+
+        String currentSection = null;
+        String[] lines = response.split("\n");
+
+        for (String line : lines) {
+            String trimmedLine = line.trim();
+
+            if (trimmedLine.contains("종합 평가") && trimmedLine.contains("===")) {
+                currentSection = "summary";
+                continue;
+            } else if (trimmedLine.contains("전체 점수") && trimmedLine.contains("===")) {
+                currentSection = "overall";
+                continue;
+            } else if (trimmedLine.contains("카테고리별 점수") && trimmedLine.contains("===")) {
+                currentSection = "categories";
+                continue;
+            } else if (trimmedLine.startsWith("===")) {
+                continue;
+            }
+
+            if ("summary".equals(currentSection) && !trimmedLine.isEmpty()) {
+                if (summaryBuilder.length() > 0) {
+                    summaryBuilder.append("\n");
+                }
+                summaryBuilder.append(trimmedLine);
+            } else if ("overall".equals(currentSection) && !trimmedLine.isEmpty()) {
+                overallScore = extractScore(trimmedLine);
+                currentSection = null;
+            } else if ("categories".equals(currentSection) && !trimmedLine.isEmpty()) {
+                for (String category : categories) {
+                    if (trimmedLine.startsWith(category)) {
+                        int score = extractScore(trimmedLine);
+                        categoryScores.put(category, score);
+                        break;
+                    }
+                }
+            }
+        }
+
+        String summary = summaryBuilder.toString().trim();
+
+        if (summary.isEmpty()) {
+            summary = response;
+        }
+
+        return SummaryResult.of(summary, overallScore, categoryScores);
+    }
+
+    static int extractScore(String line) {
+        Pattern pattern = Pattern.compile("\\d+");
+        Matcher matcher = pattern.matcher(line);
+
+        if (matcher.find()) {
+            int score = Integer.parseInt(matcher.group());
+            return Math.max(1, Math.min(10, score));
+        }
+
+        return 5;
+    }
+}
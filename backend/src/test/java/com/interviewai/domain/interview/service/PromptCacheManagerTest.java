@@ -0,0 +1,226 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.interviewai.global.config.PromptCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PromptCacheManagerTest {
+
+    private static final String MODEL = "gemini-2.5-flash";
+    private static final String SYSTEM_PROMPT = "당신은 기술 면접관입니다. 답변을 점수, 피드백, 모범답안 형식으로 평가하세요.";
+
+    private LocalPromptCacheClient client;
+    private SimpleMeterRegistry registry;
+
+    // 캐시 작업을 호출 스레드에서 바로 실행
+    private final ThreadPoolTaskExecutor directExecutor = new ThreadPoolTaskExecutor() {
+        @Override
+        public void execute(Runnable task) {
+            task.run();
+        }
+    };
+
+    @BeforeEach
+    void setUp() {
+        client = spy(new LocalPromptCacheClient());
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("첫 조회는 시스템 프롬프트를 그대로 보내고 캐시를 만든 뒤, 다음 조회부터 캐시 이름을 반환한다")
+    void createsCacheOnFirstMiss() {
+        PromptCacheManager manager = manager(properties(60, 5, 30, 60_000));
+
+        Optional<String> first = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        Optional<String> second = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+
+        assertThat(first).isEmpty();
+        assertThat(second).hasValueSatisfying(name -> assertThat(name).startsWith("cachedContents/local-"));
+        verify(client, times(1)).create(MODEL, SYSTEM_PROMPT, Duration.ofMinutes(60));
+        assertThat(lookups("miss")).isEqualTo(1);
+        assertThat(lookups("hit")).isEqualTo(1);
+        assertThat(events("created")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최소 토큰 수보다 짧은 시스템 프롬프트는 캐시하지 않는다")
+    void skipsShortPrompts() {
+        PromptCacheManager manager = manager(new PromptCacheProperties(true, 60, 5, 30, 100_000, 60_000));
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        verify(client, never()).create(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 캐시를 만들지 않는다")
+    void disabled() {
+        PromptCacheManager manager = manager(new PromptCacheProperties(false, 60, 5, 30, 0, 60_000));
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        verify(client, never()).create(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("만료가 연장 기준 안으로 다가오면 같은 캐시를 연장한다")
+    void refreshesBeforeExpiry() {
+        // 유지 시간(10분)이 연장 기준(20분)보다 짧아 적중할 때마다 연장 대상
+        PromptCacheManager manager = manager(properties(10, 20, 30, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+
+        String name = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+        Optional<String> afterRefresh = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+
+        verify(client, times(2)).refresh(name, Duration.ofMinutes(10));
+        assertThat(afterRefresh).contains(name);
+        assertThat(events("refreshed")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연장에 실패한 캐시는 버리고 다음 조회에서 새로 만든다")
+    void recreatesAfterFailedRefresh() {
+        PromptCacheManager manager = manager(properties(10, 20, 30, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        String name = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+
+        // 제공자 측에서 먼저 삭제됨 → 연장 실패
+        client.delete(name);
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        Optional<String> recreated = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        assertThat(recreated).isPresent().get().isNotEqualTo(name);
+        verify(client, times(2)).create(eq(MODEL), eq(SYSTEM_PROMPT), any());
+        assertThat(events("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("호출 오류로 무효화된 캐시는 다음 조회에서 새로 만든다")
+    void recreatesAfterInvalidate() {
+        PromptCacheManager manager = manager(properties(60, 5, 30, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        String name = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+
+        manager.invalidate(MODEL, SYSTEM_PROMPT);
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT))
+                .isPresent().get().isNotEqualTo(name);
+    }
+
+    @Test
+    @DisplayName("사용되지 않은 캐시는 제공자 측에서도 삭제한다")
+    void evictsIdleCaches() throws InterruptedException {
+        PromptCacheManager manager = manager(properties(60, 5, 0, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        String name = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+
+        Thread.sleep(5);
+        manager.evictIdle();
+
+        verify(client).delete(name);
+        assertThatThrownBy(() -> client.refresh(name, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(events("expired")).isEqualTo(1);
+
+        // 다시 사용하면 새 캐시를 만든다
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT))
+                .isPresent().get().isNotEqualTo(name);
+    }
+
+    @Test
+    @DisplayName("최근에 사용된 캐시는 삭제하지 않는다")
+    void keepsRecentlyUsedCaches() {
+        PromptCacheManager manager = manager(properties(60, 5, 30, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        String name = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+
+        manager.evictIdle();
+
+        verify(client, never()).delete(anyString());
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).contains(name);
+    }
+
+    @Test
+    @DisplayName("생성 실패 후 재시도 대기 시간 동안은 다시 만들지 않는다")
+    void backsOffAfterCreateFailure() {
+        doThrow(new IllegalStateException("quota")).doCallRealMethod()
+                .when(client).create(anyString(), anyString(), any());
+        PromptCacheManager manager = manager(properties(60, 5, 30, 60_000));
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+
+        verify(client, times(1)).create(anyString(), anyString(), any());
+        assertThat(events("failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간이 지나면 다시 만든다")
+    void retriesAfterBackoff() throws InterruptedException {
+        doThrow(new IllegalStateException("quota")).doCallRealMethod()
+                .when(client).create(anyString(), anyString(), any());
+        PromptCacheManager manager = manager(properties(60, 5, 30, 20));
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+        Thread.sleep(40);
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isEmpty();
+
+        assertThat(manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT)).isPresent();
+        verify(client, times(2)).create(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("모델이 다르면 같은 시스템 프롬프트라도 캐시를 따로 만든다")
+    void separatesCachesByModel() {
+        PromptCacheManager manager = manager(properties(60, 5, 30, 60_000));
+        manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT);
+        manager.lookup(AiOperation.EVALUATION, "gemini-2.5-flash-lite", SYSTEM_PROMPT);
+
+        String flash = manager.lookup(AiOperation.EVALUATION, MODEL, SYSTEM_PROMPT).orElseThrow();
+        String lite = manager.lookup(AiOperation.EVALUATION, "gemini-2.5-flash-lite", SYSTEM_PROMPT).orElseThrow();
+
+        assertThat(flash).isNotEqualTo(lite);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private PromptCacheManager manager(PromptCacheProperties properties) {
+        return new PromptCacheManager(client, properties, new AiMetrics(registry), directExecutor);
+    }
+
+    private PromptCacheProperties properties(long ttlMinutes, long refreshBeforeMinutes, long idleMinutes,
+                                             long retryDelayMs) {
+        return new PromptCacheProperties(true, ttlMinutes, refreshBeforeMinutes, idleMinutes, 0, retryDelayMs);
+    }
+
+    private double lookups(String result) {
+        return registry.counter("ai.prompt.cache.requests",
+                "operation", AiOperation.EVALUATION.name(), "result", result).count();
+    }
+
+    private double events(String event) {
+        return registry.counter("ai.prompt.cache.events", "event", event).count();
+    }
+}
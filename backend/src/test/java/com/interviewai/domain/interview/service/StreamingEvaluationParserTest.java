@@ -0,0 +1,158 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.interviewai.domain.interview.dto.EvaluationResult;
+
+class StreamingEvaluationParserTest {
+
+    // 응답 조각 크기 (1: 글자 단위로 라벨/숫자/줄바꿈이 조각 경계에 걸림, 0: 전체 응답 한 번에)
+    private static final int[] CHUNK_SIZES = {0, 1, 2, 3, 5, 8, 13};
+
+    static Stream<Arguments> responses() {
+        return Stream.of(
+                Arguments.of("기본 형식",
+                        "점수: 8\n피드백: 핵심 개념을 정확히 설명했습니다.\n모범답안: 프로세스는 독립된 메모리 공간을 가집니다."),
+                Arguments.of("라벨 앞 공백",
+                        "점수 : 7/10\n피드백 : 예시가 부족합니다.\n모범답안 : 캐시 지역성을 함께 설명합니다."),
+                Arguments.of("띄어 쓴 모범 답안 라벨",
+                        "점수: 6\n피드백: 방향은 맞습니다.\n모범 답안: 인덱스는 B-Tree로 구성됩니다."),
+                Arguments.of("띄어 쓴 모범 답안 라벨 + 라벨 앞 공백",
+                        "점수: 6\n피드백: 방향은 맞습니다.\n모범 답안 : 인덱스는 B-Tree로 구성됩니다."),
+                Arguments.of("여러 줄 섹션 + 빈 줄",
+                        "점수: 5\n\n피드백: 첫 번째 문장입니다.\n두 번째 문장입니다.\n\n  세 번째 문장입니다.  \n"
+                                + "모범답안: 첫 줄\n- 둘째 줄\n- 셋째 줄\n"),
+                Arguments.of("CRLF 줄바꿈",
+                        "점수: 9\r\n피드백: 잘 정리했습니다.\r\n모범답안: 트랜잭션 격리 수준을 설명합니다.\r\n"),
+                Arguments.of("앞부분 안내 문구 + 줄 앞뒤 공백",
+                        "평가 결과입니다.\n   점수: 9점   \n  피드백:   구체적입니다.  \n모범답안:정답 예시"),
+                Arguments.of("범위를 넘는 점수", "점수: 15\n피드백: 좋습니다."),
+                Arguments.of("0점", "점수: 0\n피드백: 답변이 질문과 무관합니다."),
+                Arguments.of("숫자 없는 점수", "점수: 없음\n피드백: 평가 기준이 모호합니다."),
+                Arguments.of("모범답안 없음", "점수: 4\n피드백: 핵심 용어가 빠졌습니다."),
+                Arguments.of("피드백 없음", "점수: 4\n모범답안: 가비지 컬렉션은 도달 가능성으로 판단합니다."),
+                Arguments.of("피드백 라벨 뒤 내용이 다음 줄",
+                        "점수: 7\n피드백:\n내용이 다음 줄에 있습니다.\n모범답안:\n다음 줄 모범답안"),
+                Arguments.of("점수 줄이 섹션을 끝냄",
+                        "피드백: 먼저 나온 피드백\n점수: 3\n이 줄은 어느 섹션에도 속하지 않습니다.\n모범답안: 마지막"),
+                Arguments.of("섹션 반복 시 이어 붙임",
+                        "피드백: 첫 피드백\n모범답안: 첫 답안\n피드백: 두 번째 피드백"),
+                Arguments.of("마지막 줄바꿈 없음", "점수: 8\n피드백: 끝에 줄바꿈이 없습니다"),
+                Arguments.of("파싱 실패 - 형식 없음", "이 답변은 평가할 수 없습니다.\n다시 시도해주세요."),
+                Arguments.of("파싱 실패 - 마크다운 강조 라벨", "**점수**: 8\n**피드백**: 굵게 표시된 라벨"),
+                Arguments.of("파싱 실패 - 점수만 있음", "점수: 4\n"),
+                Arguments.of("파싱 실패 - 빈 응답", "")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("조각 크기와 관계없이 기존 줄 단위 파서와 같은 결과")
+    void matchesLegacyParser(String description, String response) {
+        EvaluationResult expected = LegacyResponseParser.parseEvaluation(response);
+
+        for (int chunkSize : CHUNK_SIZES) {
+            StreamingEvaluationParser parser = new StreamingEvaluationParser(token -> { });
+            feed(parser, response, chunkSize);
+            EvaluationResult actual = parser.finish();
+
+            assertThat(actual.getScore()).as("점수 (조각 크기 %d)", chunkSize).isEqualTo(expected.getScore());
+            assertThat(actual.getFeedback()).as("피드백 (조각 크기 %d)", chunkSize).isEqualTo(expected.getFeedback());
+            assertThat(actual.getModelAnswer()).as("모범답안 (조각 크기 %d)", chunkSize)
+                    .isEqualTo(expected.getModelAnswer());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("섹션을 찾지 못한 경우에만 파싱 실패로 표시")
+    void marksFallback(String description, String response) {
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(token -> { });
+        feed(parser, response, 1);
+        EvaluationResult result = parser.finish();
+
+        assertThat(parser.isFallback()).isEqualTo(description.startsWith("파싱 실패"));
+        assertThat(result.isParseFallback()).isEqualTo(parser.isFallback());
+        if (parser.isFallback()) {
+            // 원본 응답을 피드백으로 (기존 파서와 동일)
+            assertThat(result.getFeedback())
+                    .isEqualTo(response)
+                    .isEqualTo(LegacyResponseParser.parseEvaluation(response).getFeedback());
+            assertThat(result.getModelAnswer()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("점수는 점수 줄이 끝나는 즉시, 섹션은 다음 섹션이 시작될 때 전달")
+    void emitsSectionsAsSoonAsTheyEnd() {
+        List<String> events = new ArrayList<>();
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(new EvaluationStreamListener() {
+            @Override
+            public void onToken(String token) {
+            }
+
+            @Override
+            public void onScore(int score) {
+                events.add("score:" + score);
+            }
+
+            @Override
+            public void onFeedback(String feedback) {
+                events.add("feedback:" + feedback);
+            }
+
+            @Override
+            public void onModelAnswer(String modelAnswer) {
+                events.add("modelAnswer:" + modelAnswer);
+            }
+        });
+
+        parser.feed("점");
+        parser.feed("수: 7");
+        assertThat(events).isEmpty();
+
+        parser.feed("\n피드");
+        assertThat(events).containsExactly("score:7");
+
+        parser.feed("백: 첫 줄\n둘째");
+        parser.feed(" 줄\n");
+        assertThat(events).containsExactly("score:7");
+
+        parser.feed("모범답안: 예시\n");
+        assertThat(events).containsExactly("score:7", "feedback:첫 줄 둘째 줄");
+
+        parser.finish();
+        assertThat(events).containsExactly("score:7", "feedback:첫 줄 둘째 줄", "modelAnswer:예시");
+    }
+
+    @Test
+    @DisplayName("자릿수가 많은 점수도 10점으로 제한")
+    void clampsLongScores() {
+        StreamingEvaluationParser parser = new StreamingEvaluationParser(token -> { });
+        parser.feed("점수: 99999999999\n피드백: 범위 밖");
+
+        assertThat(parser.finish().getScore()).isEqualTo(10);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void feed(LineStreamParser parser, String response, int chunkSize) {
+        if (chunkSize == 0) {
+            parser.feed(response);
+            return;
+        }
+        for (int i = 0; i < response.length(); i += chunkSize) {
+            parser.feed(response.substring(i, Math.min(response.length(), i + chunkSize)));
+        }
+    }
+}
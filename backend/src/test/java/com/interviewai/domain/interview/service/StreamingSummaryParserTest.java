@@ -0,0 +1,122 @@
+package com.interviewai.domain.interview.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.interviewai.domain.interview.dto.SummaryResult;
+
+class StreamingSummaryParserTest {
+
+    private static final List<String> CATEGORIES = List.of("자료구조", "운영체제", "네트워크");
+
+    // 응답 조각 크기 (1: 글자 단위로 헤더/카테고리명/줄바꿈이 조각 경계에 걸림, 0: 전체 응답 한 번에)
+    private static final int[] CHUNK_SIZES = {0, 1, 2, 3, 5, 8, 13};
+
+    static Stream<Arguments> responses() {
+        return Stream.of(
+                Arguments.of("기본 형식",
+                        "=== 종합 평가 ===\n전반적으로 개념 이해가 좋습니다.\n"
+                                + "=== 전체 점수 ===\n8\n"
+                                + "=== 카테고리별 점수 ===\n자료구조: 8\n운영체제: 7\n네트워크: 9\n"),
+                Arguments.of("여러 줄 요약 + 빈 줄",
+                        "=== 종합 평가 ===\n첫 문단입니다.\n\n  둘째 문단입니다.  \n셋째 문단입니다.\n"
+                                + "=== 전체 점수 ===\n7/10\n"
+                                + "=== 카테고리별 점수 ===\n자료구조: 6/10\n운영체제 : 8점\n네트워크: 7\n"),
+                Arguments.of("헤더에 부가 문구",
+                        "=== 종합 평가 (요약) ===\n요약입니다.\n"
+                                + "=== 전체 점수 (10점 만점) ===\n\n9\n"
+                                + "=== 카테고리별 점수 (1-10) ===\n자료구조: 9\n"),
+                Arguments.of("알 수 없는 헤더는 섹션을 바꾸지 않음",
+                        "=== 종합 평가 ===\n요약 첫 줄\n=== 참고 ===\n요약 둘째 줄\n=== 전체 점수 ===\n6\n"),
+                Arguments.of("빠진 카테고리는 0점",
+                        "=== 종합 평가 ===\n요약입니다.\n=== 카테고리별 점수 ===\n운영체제: 5\n"),
+                Arguments.of("목록 기호가 붙은 카테고리 줄은 무시",
+                        "=== 종합 평가 ===\n요약입니다.\n=== 카테고리별 점수 ===\n- 자료구조: 5\n네트워크: 4\n"),
+                Arguments.of("범위를 넘는 점수",
+                        "=== 종합 평가 ===\n요약입니다.\n=== 전체 점수 ===\n12\n"
+                                + "=== 카테고리별 점수 ===\n자료구조: 0\n운영체제: 없음\n"),
+                Arguments.of("전체 점수는 첫 줄만 사용",
+                        "=== 전체 점수 ===\n5\n이 줄은 무시됩니다.\n=== 종합 평가 ===\n요약입니다.\n"),
+                Arguments.of("섹션 순서가 바뀜",
+                        "=== 카테고리별 점수 ===\n네트워크: 3\n=== 전체 점수 ===\n4\n=== 종합 평가 ===\n마지막 요약"),
+                Arguments.of("CRLF 줄바꿈",
+                        "=== 종합 평가 ===\r\n요약입니다.\r\n=== 전체 점수 ===\r\n8\r\n"
+                                + "=== 카테고리별 점수 ===\r\n자료구조: 8\r\n"),
+                Arguments.of("요약 안의 === 문자열",
+                        "=== 종합 평가 ===\n비교 연산자 === 를 설명했습니다.\n=== 전체 점수 ===\n7\n"),
+                Arguments.of("파싱 실패 - 헤더 없음", "전반적으로 좋습니다.\n점수: 8"),
+                Arguments.of("파싱 실패 - 요약 섹션 없음",
+                        "=== 전체 점수 ===\n6\n=== 카테고리별 점수 ===\n자료구조: 6\n"),
+                Arguments.of("파싱 실패 - 빈 응답", "")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("조각 크기와 관계없이 기존 줄 단위 파서와 같은 결과")
+    void matchesLegacyParser(String description, String response) {
+        SummaryResult expected = LegacyResponseParser.parseSummary(response, CATEGORIES);
+
+        for (int chunkSize : CHUNK_SIZES) {
+            StreamingSummaryParser parser = new StreamingSummaryParser(CATEGORIES);
+            feed(parser, response, chunkSize);
+            SummaryResult actual = parser.finish();
+
+            assertThat(actual.getSummary()).as("요약 (조각 크기 %d)", chunkSize).isEqualTo(expected.getSummary());
+            assertThat(actual.getOverallScore()).as("전체 점수 (조각 크기 %d)", chunkSize)
+                    .isEqualTo(expected.getOverallScore());
+            assertThat(actual.getCategoryScores()).as("카테고리별 점수 (조각 크기 %d)", chunkSize)
+                    .containsExactlyEntriesOf(expected.getCategoryScores());
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("responses")
+    @DisplayName("요약 섹션을 찾지 못한 경우에만 파싱 실패로 표시")
+    void marksFallback(String description, String response) {
+        StreamingSummaryParser parser = new StreamingSummaryParser(CATEGORIES);
+        feed(parser, response, 1);
+        SummaryResult result = parser.finish();
+
+        assertThat(parser.isFallback()).isEqualTo(description.startsWith("파싱 실패"));
+        if (parser.isFallback()) {
+            // 원본 응답을 요약으로 (기존 파서와 동일)
+            assertThat(result.getSummary())
+                    .isEqualTo(response)
+                    .isEqualTo(LegacyResponseParser.parseSummary(response, CATEGORIES).getSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("자릿수가 많은 점수도 10점으로 제한")
+    void clampsLongScores() {
+        StreamingSummaryParser parser = new StreamingSummaryParser(CATEGORIES);
+        parser.feed("=== 종합 평가 ===\n요약\n=== 전체 점수 ===\n99999999999\n"
+                + "=== 카테고리별 점수 ===\n자료구조: 12345678901234\n");
+
+        SummaryResult result = parser.finish();
+
+        assertThat(result.getOverallScore()).isEqualTo(10);
+        assertThat(result.getCategoryScores()).containsEntry("자료구조", 10);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private static void feed(LineStreamParser parser, String response, int chunkSize) {
+        if (chunkSize == 0) {
+            parser.feed(response);
+            return;
+        }
+        for (int i = 0; i < response.length(); i += chunkSize) {
+            parser.feed(response.substring(i, Math.min(response.length(), i + chunkSize)));
+        }
+    }
+}
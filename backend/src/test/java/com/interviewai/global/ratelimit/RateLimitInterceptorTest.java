@@ -0,0 +1,287 @@
+package com.interviewai.global.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.interviewai.domain.user.entity.SubscriptionType;
+import com.interviewai.global.common.ApiResponse;
+import com.interviewai.global.config.RateLimitProperties;
+import com.interviewai.global.exception.ErrorCode;
+import com.interviewai.global.exception.GlobalExceptionHandler;
+import com.interviewai.global.exception.RateLimitExceededException;
+import com.interviewai.infra.redis.RateLimitRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+
+class RateLimitInterceptorTest {
+
+    private static final String EMAIL = "user@test.com";
+
+    // application.yml의 answer-submit / interview-start 규칙과 같은 형식
+    private static final RateLimitProperties.Rule ANSWER_SUBMIT = new RateLimitProperties.Rule(
+            "answer-submit", "POST",
+            List.of("/api/interviews/*/answers/**", "/api/reactive/interviews/*/answers/**"),
+            Map.of(SubscriptionType.FREE, new RateLimitProperties.Limit(5, 6),
+                    SubscriptionType.PREMIUM, new RateLimitProperties.Limit(10, 12)));
+    private static final RateLimitProperties.Rule INTERVIEW_START = new RateLimitProperties.Rule(
+            "interview-start", "POST",
+            List.of("/api/interviews", "/api/reactive/interviews"),
+            Map.of(SubscriptionType.FREE, new RateLimitProperties.Limit(3, 1)));
+
+    private RateLimitRepository rateLimitRepository;
+    private SimpleMeterRegistry registry;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitRepository = mock(RateLimitRepository.class);
+        registry = new SimpleMeterRegistry();
+        interceptor = interceptor(true, List.of(ANSWER_SUBMIT, INTERVIEW_START));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @ParameterizedTest(name = "{0} {1} → {2}")
+    @CsvSource({
+            "POST, /api/interviews/1/answers, answer-submit",
+            "POST, /api/interviews/1/answers/stream, answer-submit",
+            "POST, /api/reactive/interviews/42/answers, answer-submit",
+            "post, /api/interviews/1/answers, answer-submit",
+            "POST, /api/interviews, interview-start",
+            "POST, /api/reactive/interviews, interview-start",
+            "GET, /api/interviews/1/answers, ",
+            "POST, /api/interviews/1, ",
+            "POST, /api/interviews/1/end, ",
+            "POST, /api/interviews/1/2/answers, ",
+            "PUT, /api/interviews, "
+    })
+    @DisplayName("메서드와 경로 패턴이 모두 맞는 첫 규칙의 버킷을 사용")
+    void matchesRuleByMethodAndPath(String method, String path, String expectedRule) {
+        authenticate("ROLE_USER");
+        when(rateLimitRepository.tryConsume(anyString(), anyString(), anyInt(), anyDouble()))
+                .thenReturn(new RateLimitRepository.Consumption(true, 0, 1));
+
+        boolean proceed = interceptor.preHandle(request(method, path), new MockHttpServletResponse(), null);
+
+        assertThat(proceed).isTrue();
+        if (expectedRule == null) {
+            verifyNoInteractions(rateLimitRepository);
+        } else {
+            verify(rateLimitRepository).tryConsume(eq(expectedRule), eq(EMAIL), anyInt(), anyDouble());
+        }
+    }
+
+    @Test
+    @DisplayName("컨텍스트 경로를 뺀 경로로 규칙을 찾음")
+    void stripsContextPath() {
+        authenticate("ROLE_USER");
+        allow(2);
+        MockHttpServletRequest request = request("POST", "/app/api/interviews");
+        request.setContextPath("/app");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        verify(rateLimitRepository).tryConsume(eq("interview-start"), eq(EMAIL), anyInt(), anyDouble());
+    }
+
+    @Test
+    @DisplayName("FREE 사용자는 FREE 등급 버킷 크기/채움 속도(ms당)로 차감")
+    void usesFreeLimits() {
+        authenticate("ROLE_USER");
+        allow(4);
+
+        interceptor.preHandle(request("POST", "/api/interviews/1/answers"), new MockHttpServletResponse(), null);
+
+        verify(rateLimitRepository).tryConsume("answer-submit", EMAIL, 5, 6 / 60_000.0);
+    }
+
+    @Test
+    @DisplayName("ROLE_PREMIUM 권한이 있으면 PREMIUM 등급 제한 적용")
+    void usesPremiumLimits() {
+        authenticate("ROLE_USER", "ROLE_PREMIUM");
+        allow(9);
+
+        interceptor.preHandle(request("POST", "/api/interviews/1/answers"), new MockHttpServletResponse(), null);
+
+        verify(rateLimitRepository).tryConsume("answer-submit", EMAIL, 10, 12 / 60_000.0);
+    }
+
+    @Test
+    @DisplayName("규칙에 해당 등급 제한이 없으면 제한하지 않음")
+    void skipsTierWithoutLimit() {
+        authenticate("ROLE_USER", "ROLE_PREMIUM");
+
+        boolean proceed = interceptor.preHandle(request("POST", "/api/interviews"), new MockHttpServletResponse(), null);
+
+        assertThat(proceed).isTrue();
+        verifyNoInteractions(rateLimitRepository);
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청은 제한하지 않음 (인증 필터에서 처리)")
+    void skipsAnonymousRequests() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        interceptor.preHandle(request("POST", "/api/interviews/1/answers"), new MockHttpServletResponse(), null);
+
+        verifyNoInteractions(rateLimitRepository);
+    }
+
+    @Test
+    @DisplayName("비동기 응답 재디스패치는 다시 차감하지 않음")
+    void skipsAsyncDispatch() {
+        authenticate("ROLE_USER");
+        MockHttpServletRequest request = request("POST", "/api/interviews/1/answers");
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        verifyNoInteractions(rateLimitRepository);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 제한하지 않음")
+    void disabled() {
+        authenticate("ROLE_USER");
+        RateLimitInterceptor disabled = interceptor(false, List.of(ANSWER_SUBMIT));
+
+        disabled.preHandle(request("POST", "/api/interviews/1/answers"), new MockHttpServletResponse(), null);
+
+        verifyNoInteractions(rateLimitRepository);
+    }
+
+    @Test
+    @DisplayName("허용 시 남은 토큰 수를 헤더로 전달")
+    void setsRemainingHeader() {
+        authenticate("ROLE_USER");
+        allow(4);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("POST", "/api/interviews/1/answers"), response, null);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("4");
+        assertThat(requests("answer-submit", "FREE", "allowed")).isEqualTo(1);
+    }
+
+    @ParameterizedTest(name = "{0}ms → {1}s")
+    @CsvSource({
+            "0, 1",
+            "1, 1",
+            "999, 1",
+            "1000, 1",
+            "1001, 2",
+            "9500, 10"
+    })
+    @DisplayName("초과 시 다시 시도까지 남은 시간을 초 단위로 올림 (최소 1초)")
+    void rejectsWithRetryAfter(long retryAfterMs, long expectedSeconds) {
+        authenticate("ROLE_USER");
+        when(rateLimitRepository.tryConsume(anyString(), anyString(), anyInt(), anyDouble()))
+                .thenReturn(new RateLimitRepository.Consumption(false, retryAfterMs, 0));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> interceptor.preHandle(request("POST", "/api/interviews/1/answers"), response, null))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.RATE_LIMIT_EXCEEDED);
+                    assertThat(e.getRetryAfterSeconds()).isEqualTo(expectedSeconds);
+                });
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(requests("answer-submit", "FREE", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("초과 응답은 429 + Retry-After 헤더")
+    void respondsWithRetryAfterHeader() {
+        ResponseEntity<ApiResponse<Void>> response = new GlobalExceptionHandler()
+                .handleRateLimitExceededException(new RateLimitExceededException(3));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 요청을 막지 않음")
+    void failsOpenOnRedisError() {
+        authenticate("ROLE_USER");
+        when(rateLimitRepository.tryConsume(anyString(), anyString(), anyInt(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("connection refused"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean proceed = interceptor.preHandle(request("POST", "/api/interviews/1/answers"), response, null);
+
+        assertThat(proceed).isTrue();
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isNull();
+        assertThat(requests("answer-submit", "FREE", "error")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이름/메서드/경로가 없거나 제한 값이 올바르지 않은 규칙은 시작 시 거부")
+    void rejectsInvalidRules() {
+        RateLimitProperties.Rule noPaths = new RateLimitProperties.Rule("no-paths", "POST", List.of(), Map.of());
+        RateLimitProperties.Rule zeroCapacity = new RateLimitProperties.Rule("zero", "POST", List.of("/api/x"),
+                Map.of(SubscriptionType.FREE, new RateLimitProperties.Limit(0, 1)));
+        RateLimitProperties.Rule noRefill = new RateLimitProperties.Rule("no-refill", "POST", List.of("/api/x"),
+                Map.of(SubscriptionType.FREE, new RateLimitProperties.Limit(1, 0)));
+
+        assertThatThrownBy(() -> interceptor(true, List.of(noPaths))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> interceptor(true, List.of(zeroCapacity))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> interceptor(true, List.of(noRefill))).isInstanceOf(IllegalStateException.class);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private RateLimitInterceptor interceptor(boolean enabled, List<RateLimitProperties.Rule> rules) {
+        return new RateLimitInterceptor(new RateLimitProperties(enabled, rules), rateLimitRepository, registry);
+    }
+
+    private void authenticate(String... authorities) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                EMAIL, null, AuthorityUtils.createAuthorityList(authorities)));
+    }
+
+    private void allow(long remaining) {
+        when(rateLimitRepository.tryConsume(anyString(), anyString(), anyInt(), anyDouble()))
+                .thenReturn(new RateLimitRepository.Consumption(true, 0, remaining));
+    }
+
+    private MockHttpServletRequest request(String method, String uri) {
+        return new MockHttpServletRequest(method, uri);
+    }
+
+    private double requests(String rule, String tier, String result) {
+        return registry.counter("http.rate.limit.requests", "rule", rule, "tier", tier, "result", result).count();
+    }
+}
@@ -0,0 +1,141 @@
+package com.interviewai.infra.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 토큰 버킷 Lua 스크립트를 실제 Redis에서 실행해 검증 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimitRepositoryTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitRepository rateLimitRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        rateLimitRepository = new RateLimitRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 허용하고 남은 토큰 수를 하나씩 줄임")
+    void allowsUpToCapacity() {
+        for (int remaining = 2; remaining >= 0; remaining--) {
+            RateLimitRepository.Consumption consumption = consume("answer-submit", "user@test.com", 3, perMinute(1));
+
+            assertThat(consumption.allowed()).isTrue();
+            assertThat(consumption.remaining()).isEqualTo(remaining);
+        }
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 거절하고 토큰 1개가 채워질 때까지 남은 시간을 반환")
+    void rejectsWithRetryAfterWhenEmpty() {
+        consume("answer-submit", "user@test.com", 1, perMinute(6));
+
+        RateLimitRepository.Consumption rejected = consume("answer-submit", "user@test.com", 1, perMinute(6));
+
+        // 분당 6개 = 10초마다 1개
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterMs()).isBetween(9_000L, 10_000L);
+    }
+
+    @Test
+    @DisplayName("거절된 요청은 토큰을 차감하지 않고, 시간이 지나면 채워진 만큼 다시 허용")
+    void refillsOverTime() throws InterruptedException {
+        // 200ms마다 1개
+        double refillPerMs = 0.005;
+        consume("answer-submit", "user@test.com", 1, refillPerMs);
+        RateLimitRepository.Consumption rejected = consume("answer-submit", "user@test.com", 1, refillPerMs);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMs()).isBetween(1L, 200L);
+
+        Thread.sleep(rejected.retryAfterMs() + 50);
+
+        assertThat(consume("answer-submit", "user@test.com", 1, refillPerMs).allowed()).isTrue();
+        assertThat(consume("answer-submit", "user@test.com", 1, refillPerMs).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 버킷 크기 이상으로 쌓이지 않음")
+    void refillIsCappedAtCapacity() throws InterruptedException {
+        // 100ms마다 1개
+        double refillPerMs = 0.01;
+        consume("answer-submit", "user@test.com", 2, refillPerMs);
+
+        Thread.sleep(300);
+
+        assertThat(consume("answer-submit", "user@test.com", 2, refillPerMs).remaining()).isEqualTo(1);
+        assertThat(consume("answer-submit", "user@test.com", 2, refillPerMs).remaining()).isZero();
+    }
+
+    @Test
+    @DisplayName("사용자/규칙마다 버킷이 분리됨")
+    void separatesBucketsPerUserAndRule() {
+        consume("answer-submit", "user@test.com", 1, perMinute(1));
+
+        assertThat(consume("answer-submit", "user@test.com", 1, perMinute(1)).allowed()).isFalse();
+        assertThat(consume("answer-submit", "other@test.com", 1, perMinute(1)).allowed()).isTrue();
+        assertThat(consume("interview-resume", "user@test.com", 1, perMinute(1)).allowed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("버킷이 가득 찰 때까지의 시간 뒤에 키가 만료됨")
+    void expiresBucketWhenFull() {
+        consume("interview-start", "user@test.com", 3, perMinute(1));
+
+        Long ttl = redisTemplate.getExpire("interview:rate-limit:interview-start:user@test.com",
+                TimeUnit.MILLISECONDS);
+
+        // 3개 / 분당 1개 = 3분
+        assertThat(ttl).isBetween(170_000L, 180_000L);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private RateLimitRepository.Consumption consume(String bucket, String userKey, int capacity, double refillPerMs) {
+        return rateLimitRepository.tryConsume(bucket, userKey, capacity, refillPerMs);
+    }
+
+    private static double perMinute(double tokens) {
+        return tokens / 60_000;
+    }
+}